@@ -0,0 +1,25 @@
+package org.bytestreamparser.benchmark;
+
+import org.bytestreamparser.codec.annotation.Bcd;
+import org.bytestreamparser.codec.annotation.Binary;
+import org.bytestreamparser.codec.annotation.CharString;
+import org.bytestreamparser.codec.annotation.Codec;
+import org.bytestreamparser.codec.annotation.LengthPrefixed;
+
+/** The authorization request of {@link CompositeParserBenchmark} as a record, in US-ASCII. */
+@Codec(id = "authorization")
+public record Authorization(
+    @CharString(length = 4) String mti,
+    @Binary(length = 8) byte[] bitmap,
+    @LengthPrefixed(size = 2, charset = "US-ASCII") @CharString String pan,
+    @CharString(length = 6) String processingCode,
+    @Bcd(length = 12) String amount,
+    @Bcd(length = 6) String stan,
+    @Bcd(length = 6) String localTime,
+    @Bcd(length = 4) String localDate,
+    @Bcd(length = 3) String posEntryMode,
+    @CharString(length = 8) String terminalId,
+    @CharString(length = 15) String merchantId,
+    @CharString(length = 3) String currency,
+    @LengthPrefixed(size = 2) @Binary byte[] emv,
+    @Binary(length = 8) byte[] mac) {}
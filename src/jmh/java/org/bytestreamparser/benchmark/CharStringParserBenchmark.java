@@ -0,0 +1,111 @@
+package org.bytestreamparser.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.bytestreamparser.scalar.parser.StringIntegerParser;
+import org.bytestreamparser.scalar.parser.StringLongParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Parse and pack benchmarks for the charset dependent scalar parsers. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CharStringParserBenchmark {
+  private static final String TEXT = "MERCHANT NAME 0123456789 CITY US";
+  private static final String INTEGER = "000012345";
+  private static final String LONG = "000000012345";
+
+  @Param({"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16BE"})
+  public String charset;
+
+  private CharStringParser textParser;
+  private StringIntegerParser integerParser;
+  private StringLongParser longParser;
+  private byte[] text;
+  private byte[] integer;
+  private byte[] number;
+  private ByteArrayOutputStream output;
+  private ByteBuffer buffer;
+
+  @Setup
+  public void setUp() {
+    Charset cs = Charset.forName(charset);
+    textParser = new CharStringParser("name", TEXT.length(), cs);
+    integerParser =
+        new StringIntegerParser(
+            "stan", new CharStringParser("stan", INTEGER.length(), cs), INTEGER.length(), 10);
+    longParser =
+        new StringLongParser(
+            "amount", new CharStringParser("amount", LONG.length(), cs), LONG.length(), 10);
+    text = TEXT.getBytes(cs);
+    integer = INTEGER.getBytes(cs);
+    number = LONG.getBytes(cs);
+    output = new ByteArrayOutputStream(128);
+    buffer = ByteBuffer.allocate(128);
+  }
+
+  @Benchmark
+  public String textParse() throws IOException {
+    return textParser.parse(new ByteArrayInputStream(text));
+  }
+
+  @Benchmark
+  public String textParseBuffer() throws IOException {
+    return textParser.parse(ByteBuffer.wrap(text));
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream textPack() throws IOException {
+    output.reset();
+    textParser.pack(TEXT, output);
+    return output;
+  }
+
+  @Benchmark
+  public ByteBuffer textPackBuffer() throws IOException {
+    textParser.pack(TEXT, buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public Integer integerParse() throws IOException {
+    return integerParser.parse(new ByteArrayInputStream(integer));
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream integerPack() throws IOException {
+    output.reset();
+    integerParser.pack(12345, output);
+    return output;
+  }
+
+  @Benchmark
+  public Long longParse() throws IOException {
+    return longParser.parse(new ByteArrayInputStream(number));
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream longPack() throws IOException {
+    output.reset();
+    longParser.pack(12345L, output);
+    return output;
+  }
+}
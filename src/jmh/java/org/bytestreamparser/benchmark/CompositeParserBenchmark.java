@@ -0,0 +1,444 @@
+package org.bytestreamparser.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.composite.data.DataObject;
+import org.bytestreamparser.composite.parser.BitmapObjectParser;
+import org.bytestreamparser.composite.parser.DataFieldParser;
+import org.bytestreamparser.composite.parser.LengthPrefixedFramer;
+import org.bytestreamparser.composite.parser.ListParser;
+import org.bytestreamparser.composite.parser.ObjectParser;
+import org.bytestreamparser.composite.parser.ParallelListParser;
+import org.bytestreamparser.composite.parser.ParserCache;
+import org.bytestreamparser.composite.parser.VariableLengthParser;
+import org.bytestreamparser.scalar.parser.BcdStringParser;
+import org.bytestreamparser.scalar.parser.BinaryParser;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.bytestreamparser.scalar.parser.StringIntegerParser;
+import org.bytestreamparser.scalar.parser.UnsignedShortParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parse and pack benchmarks for the composite parsers, using an ISO-8583-like authorization
+ * request and a batch of fixed-width settlement records.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompositeParserBenchmark {
+  private static final HexFormat HEX_FORMAT = HexFormat.of();
+  private static final int BATCH_SIZE = 1000;
+
+  @Param({"US-ASCII", "IBM1047"})
+  public String charset;
+
+  private ObjectParser<Message> messageParser;
+  private AuthorizationCodec authorizationCodec;
+  private Authorization authorization;
+  private ObjectParser<IndexedMessage> indexedMessageParser;
+  private ObjectParser<LazyMessage> lazyMessageParser;
+  private ObjectParser<Message> projectedMessageParser;
+  private BitmapObjectParser<Message> bitmapMessageParser;
+  private ObjectParser<Message> predicateMessageParser;
+  private ListParser<Message> batchParser;
+  private ParallelListParser<Message> parallelBatchParser;
+  private ListParser<Message> framesParser;
+  private LengthPrefixedFramer<Message> framer;
+  private VariableLengthParser<String> llvarParser;
+  private VariableLengthParser<String> cachedLlvarParser;
+  private Message message;
+  private IndexedMessage indexedMessage;
+  private IndexedMessage reusedMessage;
+  private List<Message> batch;
+  private byte[] messageBytes;
+  private byte[] bitmapMessageBytes;
+  private byte[] batchBytes;
+  private byte[] framesBytes;
+  private byte[] llvarBytes;
+  private ByteArrayOutputStream output;
+  private ByteBuffer buffer;
+
+  private static <T extends DataObject<T>, V> DataFieldParser<T, V> field(DataParser<V> parser) {
+    return new DataFieldParser<>(parser.getId(), parser);
+  }
+
+  private static StringIntegerParser digits(String id, int length, Charset charset) {
+    return new StringIntegerParser(id, new CharStringParser(id, length, charset), length, 10);
+  }
+
+  private static <T extends DataObject<T>> ObjectParser<T> authorizationParser(
+      Charset charset, Supplier<T> supplier) {
+    List<DataFieldParser<T, ?>> fields =
+        List.of(
+            field(new CharStringParser("mti", 4, charset)),
+            field(new BinaryParser("bitmap", 8)),
+            field(
+                VariableLengthParser.ofInt(
+                    "pan",
+                    digits("pan-length", 2, charset),
+                    length -> new CharStringParser("pan", length, charset),
+                    String::length)),
+            field(new CharStringParser("processing-code", 6, charset)),
+            field(new BcdStringParser("amount", 12)),
+            field(new BcdStringParser("stan", 6)),
+            field(new BcdStringParser("local-time", 6)),
+            field(new BcdStringParser("local-date", 4)),
+            field(new BcdStringParser("pos-entry-mode", 3)),
+            field(new CharStringParser("terminal-id", 8, charset)),
+            field(new CharStringParser("merchant-id", 15, charset)),
+            field(digits("currency", 3, charset)),
+            field(
+                VariableLengthParser.ofInt(
+                    "emv",
+                    new UnsignedShortParser("emv-length"),
+                    length -> new BinaryParser("emv", length),
+                    bytes -> bytes.length)),
+            field(new BinaryParser("mac", 8)));
+    return new ObjectParser<>("authorization", supplier, fields);
+  }
+
+  /** The fields of the authorization request that follow the bitmap, by field number. */
+  private static Map<Integer, DataParser<?>> bitmapFields(Charset charset) {
+    return Map.ofEntries(
+        Map.entry(
+            2,
+            VariableLengthParser.ofInt(
+                "pan",
+                digits("pan-length", 2, charset),
+                length -> new CharStringParser("pan", length, charset),
+                String::length)),
+        Map.entry(3, new CharStringParser("processing-code", 6, charset)),
+        Map.entry(4, new BcdStringParser("amount", 12)),
+        Map.entry(11, new BcdStringParser("stan", 6)),
+        Map.entry(12, new BcdStringParser("local-time", 6)),
+        Map.entry(13, new BcdStringParser("local-date", 4)),
+        Map.entry(22, new BcdStringParser("pos-entry-mode", 3)),
+        Map.entry(41, new CharStringParser("terminal-id", 8, charset)),
+        Map.entry(42, new CharStringParser("merchant-id", 15, charset)),
+        Map.entry(49, digits("currency", 3, charset)),
+        Map.entry(
+            55,
+            VariableLengthParser.ofInt(
+                "emv",
+                new UnsignedShortParser("emv-length"),
+                length -> new BinaryParser("emv", length),
+                bytes -> bytes.length)),
+        Map.entry(64, new BinaryParser("mac", 8)));
+  }
+
+  private static BitmapObjectParser<Message> bitmapAuthorizationParser(Charset charset) {
+    Map<Integer, DataFieldParser<Message, ?>> fields = new HashMap<>();
+    bitmapFields(charset).forEach((number, parser) -> fields.put(number, field(parser)));
+    return new BitmapObjectParser<>(
+        "authorization",
+        Message::new,
+        List.of(field(new CharStringParser("mti", 4, charset))),
+        fields);
+  }
+
+  /**
+   * The same format as {@link #bitmapAuthorizationParser(Charset)}, as an {@link ObjectParser}
+   * that tests the bit of every field in the parsed bitmap, the way it is done without a {@link
+   * BitmapObjectParser}.
+   */
+  private static ObjectParser<Message> predicateAuthorizationParser(Charset charset) {
+    List<DataFieldParser<Message, ?>> fields = new ArrayList<>();
+    fields.add(field(new CharStringParser("mti", 4, charset)));
+    fields.add(field(new BinaryParser("bitmap", 8)));
+    new TreeMap<>(bitmapFields(charset))
+        .forEach((number, parser) -> fields.add(conditional(number, parser)));
+    return new ObjectParser<>("authorization", Message::new, fields);
+  }
+
+  private static <V> DataFieldParser<Message, V> conditional(int number, DataParser<V> parser) {
+    int index = (number - 1) / 8;
+    int mask = 0x80 >>> (number - 1) % 8;
+    return new DataFieldParser<>(
+        parser.getId(), parser, message -> (message.<byte[]>get("bitmap")[index] & mask) != 0);
+  }
+
+  private static ObjectParser<Message> recordParser(Charset charset) {
+    List<DataFieldParser<Message, ?>> fields =
+        List.of(
+            field(new CharStringParser("record-type", 2, charset)),
+            field(new CharStringParser("card-number", 19, charset)),
+            field(new BcdStringParser("amount", 12)),
+            field(new BcdStringParser("date", 8)),
+            field(new CharStringParser("reference", 23, charset)));
+    return new ObjectParser<>("record", Message::new, fields);
+  }
+
+  private static <T extends DataObject<T>> T authorization(T message) {
+    return message
+        .set("mti", "0100")
+        .set("bitmap", HEX_FORMAT.parseHex("7234054128c28805"))
+        .set("pan", "4761739001010119")
+        .set("processing-code", "000000")
+        .set("amount", "000000012345")
+        .set("stan", "123456")
+        .set("local-time", "235959")
+        .set("local-date", "1231")
+        .set("pos-entry-mode", "051")
+        .set("terminal-id", "TERM0001")
+        .set("merchant-id", "MERCHANT0000001")
+        .set("currency", 840)
+        .set("emv", new byte[128])
+        .set("mac", HEX_FORMAT.parseHex("0011223344556677"));
+  }
+
+  private static Message record(int index) {
+    return new Message()
+        .set("record-type", "01")
+        .set("card-number", String.format("%019d", index))
+        .set("amount", String.format("%012d", index * 100L))
+        .set("date", "20241231")
+        .set("reference", String.format("REF%020d", index));
+  }
+
+  @Setup
+  public void setUp() throws IOException {
+    Charset cs = Charset.forName(charset);
+    messageParser = authorizationParser(cs, Message::new);
+    authorizationCodec = new AuthorizationCodec();
+    indexedMessageParser = authorizationParser(cs, IndexedMessage::new);
+    lazyMessageParser = authorizationParser(cs, LazyMessage::new);
+    projectedMessageParser =
+        messageParser.project(List.of("mti", "processing-code", "terminal-id"));
+    bitmapMessageParser = bitmapAuthorizationParser(cs);
+    predicateMessageParser = predicateAuthorizationParser(cs);
+    batchParser = new ListParser<>("batch", recordParser(cs));
+    parallelBatchParser = new ParallelListParser<>("batch", recordParser(cs));
+    message = authorization(new Message());
+    authorization =
+        new Authorization(
+            message.get("mti"),
+            message.get("bitmap"),
+            message.get("pan"),
+            message.get("processing-code"),
+            message.get("amount"),
+            message.get("stan"),
+            message.get("local-time"),
+            message.get("local-date"),
+            message.get("pos-entry-mode"),
+            message.get("terminal-id"),
+            message.get("merchant-id"),
+            String.valueOf(message.<Integer>get("currency")),
+            message.get("emv"),
+            message.get("mac"));
+    indexedMessage = authorization(new IndexedMessage());
+    reusedMessage = new IndexedMessage();
+    batch = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      batch.add(record(i));
+    }
+    output = new ByteArrayOutputStream(1 << 16);
+    messageParser.pack(message, output);
+    messageBytes = output.toByteArray();
+    bitmapMessageBytes = bitmapMessageParser.packToBytes(message);
+    output.reset();
+    batchParser.pack(batch, output);
+    batchBytes = output.toByteArray();
+    buffer = ByteBuffer.allocate(batchBytes.length);
+    framesParser =
+        new ListParser<>(
+            "frames",
+            VariableLengthParser.ofInt(
+                "frame",
+                new UnsignedShortParser("length"),
+                length -> messageParser,
+                length -> messageBytes.length));
+    framer = new LengthPrefixedFramer<>("frames", new UnsignedShortParser("length"), messageParser);
+    output.reset();
+    framesParser.pack(Collections.nCopies(8, message), output);
+    framesBytes = output.toByteArray();
+    llvarParser =
+        VariableLengthParser.ofInt(
+            "pan",
+            digits("pan-length", 2, cs),
+            length -> new CharStringParser("pan", length, cs),
+            String::length);
+    cachedLlvarParser =
+        VariableLengthParser.ofInt(
+            "pan",
+            digits("pan-length", 2, cs),
+            new ParserCache<>(length -> new CharStringParser("pan", length, cs)),
+            String::length);
+    llvarBytes = llvarParser.packToBytes("4761739001010119");
+  }
+
+  @Benchmark
+  public Message messageParse() throws IOException {
+    return messageParser.parse(new ByteArrayInputStream(messageBytes));
+  }
+
+  @Benchmark
+  public Message messageParseBuffer() throws IOException {
+    return messageParser.parse(ByteBuffer.wrap(messageBytes));
+  }
+
+  @Benchmark
+  public Authorization codecMessageParseBuffer() throws IOException {
+    return authorizationCodec.parse(ByteBuffer.wrap(messageBytes));
+  }
+
+  @Benchmark
+  public ByteBuffer codecMessagePackBuffer() throws IOException {
+    authorizationCodec.pack(authorization, buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream messagePack() throws IOException {
+    output.reset();
+    messageParser.pack(message, output);
+    return output;
+  }
+
+  @Benchmark
+  public byte[] messagePackBytes() throws IOException {
+    output.reset();
+    messageParser.pack(message, output);
+    return output.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] messagePackToBytes() throws IOException {
+    return messageParser.packToBytes(message);
+  }
+
+  @Benchmark
+  public ByteBuffer messagePackBuffer() throws IOException {
+    messageParser.pack(message, buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public IndexedMessage indexedMessageParseBuffer() throws IOException {
+    return indexedMessageParser.parse(ByteBuffer.wrap(messageBytes));
+  }
+
+  @Benchmark
+  public IndexedMessage indexedMessageParseBufferReused() throws IOException {
+    return indexedMessageParser.parse(ByteBuffer.wrap(messageBytes), reusedMessage);
+  }
+
+  @Benchmark
+  public ByteBuffer indexedMessagePackBuffer() throws IOException {
+    indexedMessageParser.pack(indexedMessage, buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public Message bitmapMessageParseBuffer() throws IOException {
+    return bitmapMessageParser.parse(ByteBuffer.wrap(bitmapMessageBytes));
+  }
+
+  @Benchmark
+  public Message predicateMessageParseBuffer() throws IOException {
+    return predicateMessageParser.parse(ByteBuffer.wrap(bitmapMessageBytes));
+  }
+
+  @Benchmark
+  public ByteBuffer bitmapMessagePackBuffer() throws IOException {
+    bitmapMessageParser.pack(message, buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public String messageRoute() throws IOException {
+    Message parsed = messageParser.parse(ByteBuffer.wrap(messageBytes));
+    return parsed.<String>get("mti") + parsed.get("processing-code") + parsed.get("terminal-id");
+  }
+
+  @Benchmark
+  public String lazyMessageRoute() throws IOException {
+    LazyMessage parsed = lazyMessageParser.parse(ByteBuffer.wrap(messageBytes));
+    return parsed.<String>get("mti") + parsed.get("processing-code") + parsed.get("terminal-id");
+  }
+
+  @Benchmark
+  public String projectedMessageRoute() throws IOException {
+    Message parsed = projectedMessageParser.parse(ByteBuffer.wrap(messageBytes));
+    return parsed.<String>get("mti") + parsed.get("processing-code") + parsed.get("terminal-id");
+  }
+
+  @Benchmark
+  public byte[] messageForward() throws IOException {
+    return messageParser.packToBytes(messageParser.parse(ByteBuffer.wrap(messageBytes)));
+  }
+
+  @Benchmark
+  public byte[] lazyMessageForward() throws IOException {
+    return lazyMessageParser.packToBytes(lazyMessageParser.parse(ByteBuffer.wrap(messageBytes)));
+  }
+
+  @Benchmark
+  public List<Message> batchParse() throws IOException {
+    return batchParser.parse(new ByteArrayInputStream(batchBytes));
+  }
+
+  @Benchmark
+  public List<Message> batchParseBuffer() throws IOException {
+    return batchParser.parse(ByteBuffer.wrap(batchBytes));
+  }
+
+  @Benchmark
+  public List<Message> parallelBatchParseBuffer() throws IOException {
+    return parallelBatchParser.parse(ByteBuffer.wrap(batchBytes));
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream batchPack() throws IOException {
+    output.reset();
+    batchParser.pack(batch, output);
+    return output;
+  }
+
+  @Benchmark
+  public List<Message> framesParse() throws IOException {
+    return framesParser.parse(new ByteArrayInputStream(framesBytes));
+  }
+
+  @Benchmark
+  public List<Message> framesRead() throws IOException {
+    List<Message> frames = new ArrayList<>();
+    framer.read(new ByteArrayInputStream(framesBytes), frames::add);
+    return frames;
+  }
+
+  @Benchmark
+  public String llvarParseBuffer() throws IOException {
+    return llvarParser.parse(ByteBuffer.wrap(llvarBytes));
+  }
+
+  @Benchmark
+  public String cachedLlvarParseBuffer() throws IOException {
+    return cachedLlvarParser.parse(ByteBuffer.wrap(llvarBytes));
+  }
+}
@@ -0,0 +1,27 @@
+package org.bytestreamparser.benchmark;
+
+import org.bytestreamparser.composite.data.FieldLayout;
+import org.bytestreamparser.composite.data.IndexedDataObject;
+
+public class IndexedMessage extends IndexedDataObject<IndexedMessage> {
+  public static final FieldLayout AUTHORIZATION =
+      FieldLayout.of(
+          "mti",
+          "bitmap",
+          "pan",
+          "processing-code",
+          "amount",
+          "stan",
+          "local-time",
+          "local-date",
+          "pos-entry-mode",
+          "terminal-id",
+          "merchant-id",
+          "currency",
+          "emv",
+          "mac");
+
+  public IndexedMessage() {
+    super(AUTHORIZATION);
+  }
+}
@@ -0,0 +1,10 @@
+package org.bytestreamparser.benchmark;
+
+import java.util.HashMap;
+import org.bytestreamparser.composite.data.LazyDataObject;
+
+public class LazyMessage extends LazyDataObject<LazyMessage> {
+  public LazyMessage() {
+    super(new HashMap<>());
+  }
+}
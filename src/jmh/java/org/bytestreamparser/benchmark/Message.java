@@ -0,0 +1,10 @@
+package org.bytestreamparser.benchmark;
+
+import java.util.HashMap;
+import org.bytestreamparser.composite.data.AbstractDataObject;
+
+public class Message extends AbstractDataObject<Message> {
+  public Message() {
+    super(new HashMap<>());
+  }
+}
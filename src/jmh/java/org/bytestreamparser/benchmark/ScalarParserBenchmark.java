@@ -0,0 +1,183 @@
+package org.bytestreamparser.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import org.bytestreamparser.scalar.parser.BcdLongParser;
+import org.bytestreamparser.scalar.parser.BcdStringParser;
+import org.bytestreamparser.scalar.parser.BinaryParser;
+import org.bytestreamparser.scalar.parser.BinarySliceParser;
+import org.bytestreamparser.scalar.parser.HexStringParser;
+import org.bytestreamparser.scalar.parser.UnsignedByteParser;
+import org.bytestreamparser.scalar.parser.UnsignedShortParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Parse and pack benchmarks for the charset independent scalar parsers. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ScalarParserBenchmark {
+  private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+  private final BinaryParser binaryParser = new BinaryParser("mac", 8);
+  private final BinaryParser blobParser = new BinaryParser("emv", 1024);
+  private final BinarySliceParser blobSliceParser = new BinarySliceParser("emv", 1024);
+  private final HexStringParser hexParser = new HexStringParser("key", 32);
+  private final BcdStringParser bcdParser = new BcdStringParser("amount", 12);
+  private final BcdLongParser bcdLongParser = new BcdLongParser("amount", 12);
+  private final UnsignedByteParser unsignedByteParser = new UnsignedByteParser("length");
+  private final UnsignedShortParser unsignedShortParser = new UnsignedShortParser("length");
+
+  private final byte[] binary = HEX_FORMAT.parseHex("0123456789abcdef");
+  private final String hex = "0123456789abcdef0123456789abcdef";
+  private final byte[] hexBytes = HEX_FORMAT.parseHex(hex);
+  private final String bcd = "000000012345";
+  private final byte[] bcdBytes = HEX_FORMAT.parseHex(bcd);
+  private final byte[] shortBytes = {0x01, 0x2C};
+  private final byte[] blob = new byte[1024];
+
+  private ByteArrayOutputStream output;
+  private ByteBuffer buffer;
+
+  @Setup
+  public void setUp() {
+    output = new ByteArrayOutputStream(64);
+    buffer = ByteBuffer.allocate(blob.length);
+  }
+
+  @Benchmark
+  public byte[] binaryParse() throws IOException {
+    return binaryParser.parse(new ByteArrayInputStream(binary));
+  }
+
+  @Benchmark
+  public byte[] binaryParseBuffer() throws IOException {
+    return binaryParser.parse(ByteBuffer.wrap(binary));
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream binaryPack() throws IOException {
+    output.reset();
+    binaryParser.pack(binary, output);
+    return output;
+  }
+
+  @Benchmark
+  public ByteBuffer binaryPackBuffer() throws IOException {
+    binaryParser.pack(binary, buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public ByteBuffer blobForwardBuffer() throws IOException {
+    blobParser.pack(blobParser.parse(ByteBuffer.wrap(blob)), buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public ByteBuffer blobSliceForwardBuffer() throws IOException {
+    blobSliceParser.pack(blobSliceParser.parse(ByteBuffer.wrap(blob)), buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public String hexParse() throws IOException {
+    return hexParser.parse(new ByteArrayInputStream(hexBytes));
+  }
+
+  @Benchmark
+  public String hexParseBuffer() throws IOException {
+    return hexParser.parse(ByteBuffer.wrap(hexBytes));
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream hexPack() throws IOException {
+    output.reset();
+    hexParser.pack(hex, output);
+    return output;
+  }
+
+  @Benchmark
+  public ByteBuffer hexPackBuffer() throws IOException {
+    hexParser.pack(hex, buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public String bcdParse() throws IOException {
+    return bcdParser.parse(new ByteArrayInputStream(bcdBytes));
+  }
+
+  @Benchmark
+  public String bcdParseBuffer() throws IOException {
+    return bcdParser.parse(ByteBuffer.wrap(bcdBytes));
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream bcdPack() throws IOException {
+    output.reset();
+    bcdParser.pack(bcd, output);
+    return output;
+  }
+
+  @Benchmark
+  public ByteBuffer bcdPackBuffer() throws IOException {
+    bcdParser.pack(bcd, buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public long bcdLongParseBuffer() throws IOException {
+    return bcdLongParser.parseLong(ByteBuffer.wrap(bcdBytes));
+  }
+
+  @Benchmark
+  public ByteBuffer bcdLongPackBuffer() {
+    bcdLongParser.packLong(12345L, buffer.clear());
+    return buffer;
+  }
+
+  @Benchmark
+  public Integer unsignedByteParse() throws IOException {
+    return unsignedByteParser.parse(new ByteArrayInputStream(shortBytes));
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream unsignedBytePack() throws IOException {
+    output.reset();
+    unsignedByteParser.pack(200, output);
+    return output;
+  }
+
+  @Benchmark
+  public Integer unsignedShortParse() throws IOException {
+    return unsignedShortParser.parse(new ByteArrayInputStream(shortBytes));
+  }
+
+  @Benchmark
+  public Integer unsignedShortParseBuffer() throws IOException {
+    return unsignedShortParser.parse(ByteBuffer.wrap(shortBytes));
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream unsignedShortPack() throws IOException {
+    output.reset();
+    unsignedShortParser.pack(300, output);
+    return output;
+  }
+}
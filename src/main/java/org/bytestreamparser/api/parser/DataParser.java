@@ -3,11 +3,29 @@ package org.bytestreamparser.api.parser;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.OptionalInt;
+import org.bytestreamparser.scalar.util.ByteBufferInputStream;
+import org.bytestreamparser.scalar.util.ByteBufferOutputStream;
+import org.bytestreamparser.scalar.util.ByteBuffers;
+import org.bytestreamparser.scalar.util.CountingOutputStream;
+import org.bytestreamparser.scalar.util.InputStreams;
 
 /**
  * {@link DataParser} is the abstract API for building {@link InputStream} and {@link OutputStream}
  * oriented parsers.
  *
+ * <p>Besides packing and parsing, a parser reports the number of bytes its values take up, see
+ * {@link #fixedSize()}, {@link #maxSize()} and {@link #sizeOf(Object)}, so that callers can size
+ * buffers up front and find value boundaries without parsing, see {@link #skip(ByteBuffer)} and
+ * {@link #skip(InputStream)}.
+ *
+ * <p>Parsers keep no state between calls, so a parser graph can be built once and shared by any
+ * number of threads. All the parsers of this library are thread-safe, composite parsers as long as
+ * the parsers, suppliers and functions they are built from are thread-safe, whereas the values they
+ * produce, e.g., data objects and buffers, are not and should be confined to a thread.
+ *
  * @param <V> the type of the value to be parsed
  */
 public abstract class DataParser<V> {
@@ -43,4 +61,121 @@ public abstract class DataParser<V> {
    * @throws IOException if an I/O error occurs
    */
   public abstract V parse(InputStream input) throws IOException;
+
+  /**
+   * Packs the value into the buffer, advancing its position by the number of bytes written. The
+   * default implementation bridges to {@link #pack(Object, OutputStream)}, parsers that can write
+   * into the buffer directly should override it.
+   *
+   * @param value the value to be packed
+   * @param output the {@link ByteBuffer} to write the packed value
+   * @throws IOException if an I/O error occurs
+   * @throws java.nio.BufferOverflowException if the buffer does not have enough space remaining
+   */
+  public void pack(V value, ByteBuffer output) throws IOException {
+    pack(value, new ByteBufferOutputStream(output));
+  }
+
+  /**
+   * Packs the value into a new byte array. The array is sized with {@link #sizeOf(Object)} up front
+   * and the value is packed straight into it with {@link #pack(Object, ByteBuffer)}, so there is
+   * neither buffer growth nor a final copy as with a {@link java.io.ByteArrayOutputStream}.
+   *
+   * @param value the value to be packed
+   * @return the packed value
+   * @throws IOException if an I/O error occurs
+   */
+  public byte[] packToBytes(V value) throws IOException {
+    byte[] bytes = new byte[sizeOf(value)];
+    ByteBuffer output = ByteBuffer.wrap(bytes);
+    pack(value, output);
+    return output.hasRemaining() ? Arrays.copyOf(bytes, output.position()) : bytes;
+  }
+
+  /**
+   * Parses the value from the buffer, advancing its position by the number of bytes read. The
+   * default implementation bridges to {@link #parse(InputStream)}, parsers that can read from the
+   * buffer directly should override it.
+   *
+   * @param input the {@link ByteBuffer} to read the value from
+   * @return the parsed value
+   * @throws IOException if an I/O error occurs
+   */
+  public V parse(ByteBuffer input) throws IOException {
+    return parse(new ByteBufferInputStream(input));
+  }
+
+  /**
+   * Skips over a value in the buffer, advancing its position past the value without decoding it.
+   * The default implementation advances the position by {@link #fixedSize()} if present, otherwise
+   * it parses the value and discards it. Note that a skipped value is not validated.
+   *
+   * @param input the {@link ByteBuffer} to skip the value in
+   * @throws IOException if an I/O error occurs
+   */
+  public void skip(ByteBuffer input) throws IOException {
+    OptionalInt fixedSize = fixedSize();
+    if (fixedSize.isPresent()) {
+      ByteBuffers.checkRemaining(input, fixedSize.getAsInt());
+      input.position(input.position() + fixedSize.getAsInt());
+    } else {
+      parse(input);
+    }
+  }
+
+  /**
+   * Skips over a value in the input stream, reading past the value without decoding it. The
+   * default implementation skips {@link #fixedSize()} bytes if present, otherwise it parses the
+   * value and discards it. Note that a skipped value is not validated.
+   *
+   * @param input the {@link InputStream} to skip the value in
+   * @throws IOException if an I/O error occurs
+   */
+  public void skip(InputStream input) throws IOException {
+    OptionalInt fixedSize = fixedSize();
+    if (fixedSize.isPresent()) {
+      InputStreams.skipFully(input, fixedSize.getAsInt());
+    } else {
+      parse(input);
+    }
+  }
+
+  /**
+   * Returns the number of bytes every value is packed into, if it is the same for all values. The
+   * default implementation returns an empty result, i.e., the size depends on the value.
+   *
+   * @return the fixed number of bytes, or an empty result if the size is not fixed
+   */
+  public OptionalInt fixedSize() {
+    return OptionalInt.empty();
+  }
+
+  /**
+   * Returns the maximum number of bytes any value is packed into. The default implementation
+   * returns {@link #fixedSize()}.
+   *
+   * @return the maximum number of bytes, or an empty result if the size is not bounded
+   */
+  public OptionalInt maxSize() {
+    return fixedSize();
+  }
+
+  /**
+   * Returns the number of bytes the value is packed into. The default implementation returns
+   * {@link #fixedSize()} if present, otherwise it packs the value and counts the bytes, parsers
+   * that can compute the size directly should override it.
+   *
+   * @param value the value to be measured
+   * @return the number of bytes
+   * @throws IOException if an I/O error occurs
+   */
+  public int sizeOf(V value) throws IOException {
+    OptionalInt fixedSize = fixedSize();
+    if (fixedSize.isPresent()) {
+      return fixedSize.getAsInt();
+    }
+    CountingOutputStream output = new CountingOutputStream();
+    pack(value, output);
+    return output.count();
+  }
 }
@@ -0,0 +1,151 @@
+package org.bytestreamparser.api.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.OptionalInt;
+import org.bytestreamparser.composite.parser.BoundedListParser;
+import org.bytestreamparser.composite.parser.CountedListParser;
+import org.bytestreamparser.composite.parser.ListParser;
+
+/**
+ * A push based front end of a {@link DataParser}, for input that arrives in chunks, e.g., from a
+ * non-blocking channel. The chunks are {@link #feed(ByteBuffer) fed} as they arrive, and {@link
+ * #next()} returns the next value once all its bytes are present, without ever blocking for more.
+ *
+ * <p>The bytes fed so far are kept in a buffer owned by the parser. A value is parsed from the
+ * buffer with {@link DataParser#parse(ByteBuffer)}, and a value that runs past the buffered bytes,
+ * i.e., an {@link EOFException} or a {@link BufferUnderflowException}, means that more bytes are
+ * needed. The partial value is then parsed again from its start once more bytes are fed, without
+ * the parser keeping any state. Parsing is not attempted again until more bytes are fed, nor before
+ * {@link DataParser#fixedSize()} bytes are buffered.
+ *
+ * <p>This only works for parsers that know the length of a value before running out of bytes, e.g.,
+ * fixed size parsers, {@link org.bytestreamparser.composite.parser.VariableLengthParser}s, {@link
+ * CountedListParser}s, {@link BoundedListParser}s, and {@link
+ * org.bytestreamparser.composite.parser.ObjectParser}s of those. A parser that reads until its
+ * input is empty would return whatever has been buffered so far as a complete value instead, so a
+ * plain {@link ListParser} is rejected. The same holds for any other parser that reads until its
+ * input is empty, e.g., an {@link org.bytestreamparser.composite.parser.ObjectParser} ending with a
+ * plain {@link ListParser}, which must not be used either.
+ *
+ * <p>A value that fails for any other reason than missing bytes is left in the buffer, since
+ * without knowing its length there is no telling where the next value starts. Every further {@link
+ * #next()} fails the same way, until the buffered bytes are {@link #clear() cleared}, e.g., after
+ * the peer has been told to start over.
+ *
+ * <p>Note that a value fed in n chunks is parsed up to n times, so the cost of a value grows
+ * quadratically with the number of chunks it arrives in. Values of large frames should be fed in
+ * few chunks, or their length should be read first so that they are fed once complete.
+ *
+ * <p>An IncrementalParser is meant for a single connection and is not thread-safe. Note that the
+ * buffer is reused, values that refer to their input, e.g., of {@link
+ * org.bytestreamparser.scalar.parser.BinarySliceParser} or {@link
+ * org.bytestreamparser.composite.data.LazyDataObject}s, are only valid until the next {@link
+ * #feed(ByteBuffer)}.
+ *
+ * @param <V> the type of the values.
+ */
+public class IncrementalParser<V> {
+  private static final String UNBOUNDED_PARSER =
+      "%s: parser [%s] must not read to the end of its input";
+  private static final int DEFAULT_CAPACITY = 4096;
+  private final DataParser<V> parser;
+  private final int minSize;
+  private ByteBuffer buffer;
+  private boolean waiting;
+
+  /**
+   * Creates a new IncrementalParser.
+   *
+   * @param parser the parser for the values, which must know the length of a value without reading
+   *     to the end of its input.
+   */
+  public IncrementalParser(DataParser<V> parser) {
+    this(parser, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a new IncrementalParser.
+   *
+   * @param parser the parser for the values, which must know the length of a value without reading
+   *     to the end of its input.
+   * @param initialCapacity the initial capacity of the buffer, which grows as needed.
+   */
+  public IncrementalParser(DataParser<V> parser, int initialCapacity) {
+    check(
+        !(parser instanceof ListParser)
+            || parser instanceof CountedListParser
+            || parser instanceof BoundedListParser,
+        UNBOUNDED_PARSER,
+        parser.getId(),
+        parser.getClass().getName());
+    this.parser = parser;
+    OptionalInt fixedSize = parser.fixedSize();
+    this.minSize = fixedSize.isPresent() ? Math.max(fixedSize.getAsInt(), 1) : 1;
+    this.buffer = ByteBuffer.allocate(Math.max(initialCapacity, minSize)).flip();
+  }
+
+  /**
+   * Appends the remaining bytes of the chunk to the buffered bytes, advancing the position of the
+   * chunk to its limit.
+   *
+   * @param chunk the {@link ByteBuffer} holding the bytes that arrived.
+   */
+  public void feed(ByteBuffer chunk) {
+    if (!chunk.hasRemaining()) {
+      return;
+    }
+    int required = buffer.remaining() + chunk.remaining();
+    if (required > buffer.capacity()) {
+      ByteBuffer grown = ByteBuffer.allocate(Math.max(required, buffer.capacity() * 2));
+      buffer = grown.put(buffer);
+    } else {
+      buffer.compact();
+    }
+    buffer.put(chunk).flip();
+    waiting = false;
+  }
+
+  /**
+   * Parses the next value from the buffered bytes, if all its bytes have been fed.
+   *
+   * @return the parsed value, or an empty result if more bytes are needed.
+   * @throws IOException if the value can not be parsed for any other reason than missing bytes, in
+   *     which case its bytes are left in the buffer.
+   */
+  public Optional<V> next() throws IOException {
+    if (waiting || buffer.remaining() < minSize) {
+      return Optional.empty();
+    }
+    ByteBuffer input = buffer.duplicate();
+    V value;
+    try {
+      value = parser.parse(input);
+    } catch (EOFException | BufferUnderflowException e) {
+      waiting = true;
+      return Optional.empty();
+    }
+    buffer.position(input.position());
+    return Optional.of(value);
+  }
+
+  /**
+   * Returns the number of buffered bytes not yet parsed into a value.
+   *
+   * @return the number of buffered bytes.
+   */
+  public int buffered() {
+    return buffer.remaining();
+  }
+
+  /** Discards the buffered bytes, e.g., to start over after a value failed to parse. */
+  public void clear() {
+    buffer.clear().flip();
+    waiting = false;
+  }
+}
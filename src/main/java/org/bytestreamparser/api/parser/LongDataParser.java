@@ -0,0 +1,48 @@
+package org.bytestreamparser.api.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A primitive specialization for {@link DataParser}s of {@link Long} values, which packs and
+ * parses long values without boxing.
+ */
+public interface LongDataParser {
+  /**
+   * Packs the long value into the output stream.
+   *
+   * @param value the value to be packed
+   * @param output the {@link OutputStream} to write the packed value
+   * @throws IOException if an I/O error occurs
+   */
+  void packLong(long value, OutputStream output) throws IOException;
+
+  /**
+   * Parses the long value from the input stream.
+   *
+   * @param input the {@link InputStream} to read the value from
+   * @return the parsed value
+   * @throws IOException if an I/O error occurs
+   */
+  long parseLong(InputStream input) throws IOException;
+
+  /**
+   * Packs the long value into the buffer, advancing its position by the number of bytes written.
+   *
+   * @param value the value to be packed
+   * @param output the {@link ByteBuffer} to write the packed value
+   * @throws IOException if an I/O error occurs
+   */
+  void packLong(long value, ByteBuffer output) throws IOException;
+
+  /**
+   * Parses the long value from the buffer, advancing its position by the number of bytes read.
+   *
+   * @param input the {@link ByteBuffer} to read the value from
+   * @return the parsed value
+   * @throws IOException if an I/O error occurs
+   */
+  long parseLong(ByteBuffer input) throws IOException;
+}
@@ -0,0 +1,21 @@
+package org.bytestreamparser.codec.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a {@link String} field to a {@link org.bytestreamparser.scalar.parser.BcdStringParser}, or
+ * a {@code long} field to a {@link org.bytestreamparser.scalar.parser.BcdLongParser}.
+ */
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.SOURCE)
+public @interface Bcd {
+  /**
+   * The number of digits, required unless the field is {@link LengthPrefixed}.
+   *
+   * @return the number of digits.
+   */
+  int length() default 0;
+}
@@ -0,0 +1,18 @@
+package org.bytestreamparser.codec.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Maps a {@code byte[]} field to a {@link org.bytestreamparser.scalar.parser.BinaryParser}. */
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.SOURCE)
+public @interface Binary {
+  /**
+   * The number of bytes, required unless the field is {@link LengthPrefixed}.
+   *
+   * @return the number of bytes.
+   */
+  int length() default 0;
+}
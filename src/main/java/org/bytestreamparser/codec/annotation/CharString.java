@@ -0,0 +1,25 @@
+package org.bytestreamparser.codec.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Maps a {@link String} field to a {@link org.bytestreamparser.scalar.parser.CharStringParser}. */
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.SOURCE)
+public @interface CharString {
+  /**
+   * The number of characters, required unless the field is {@link LengthPrefixed}.
+   *
+   * @return the number of characters.
+   */
+  int length() default 0;
+
+  /**
+   * The name of the charset, which must be supported by the compiler, US-ASCII by default.
+   *
+   * @return the name of the charset.
+   */
+  String charset() default "US-ASCII";
+}
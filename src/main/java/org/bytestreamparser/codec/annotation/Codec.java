@@ -0,0 +1,30 @@
+package org.bytestreamparser.codec.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a record or a class for which {@link org.bytestreamparser.codec.processor.CodecProcessor}
+ * generates a codec at compile time, when the processor is enabled.
+ *
+ * <p>The codec is a {@link org.bytestreamparser.api.parser.DataParser} named after the type, e.g.,
+ * {@code AuthorizationCodec} for {@code Authorization} and {@code Outer_InnerCodec} for a nested
+ * {@code Outer.Inner}, in the same package. It packs and parses the fields in declaration order,
+ * each with the parser its annotation maps to, see {@link Bcd}, {@link CharString}, {@link Hex},
+ * {@link Binary}, {@link UnsignedByte} and {@link UnsignedShort}, or with the codec of its type if
+ * the type is annotated with {@link Codec} itself. Values are read with the accessors of a record
+ * and the fields of a class, and created with the canonical constructor of a record and the no-arg
+ * constructor of a class, so none of the type, its fields and constructors may be private.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Codec {
+  /**
+   * The ID of the codec, the simple name of the type by default.
+   *
+   * @return the ID of the codec.
+   */
+  String id() default "";
+}
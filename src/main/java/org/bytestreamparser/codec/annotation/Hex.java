@@ -0,0 +1,18 @@
+package org.bytestreamparser.codec.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Maps a {@link String} field to a {@link org.bytestreamparser.scalar.parser.HexStringParser}. */
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.SOURCE)
+public @interface Hex {
+  /**
+   * The number of hexadecimal digits, required unless the field is {@link LengthPrefixed}.
+   *
+   * @return the number of digits.
+   */
+  int length() default 0;
+}
@@ -0,0 +1,35 @@
+package org.bytestreamparser.codec.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes a {@link String} or {@code byte[]} field variable-length, so that it is packed after its
+ * length, with a {@link org.bytestreamparser.composite.parser.VariableLengthParser}. The value is
+ * mapped by a {@link Bcd}, {@link CharString}, {@link Hex} or {@link Binary} annotation without a
+ * length, and its parsers are kept in a {@link org.bytestreamparser.composite.parser.ParserCache}.
+ *
+ * <p>The length is an unsigned binary number of one or two bytes, or, if a charset is given,
+ * decimal digits in that charset, e.g., {@code @LengthPrefixed(size = 2, charset = "US-ASCII")} for
+ * an ISO 8583 LLVAR field.
+ */
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.SOURCE)
+public @interface LengthPrefixed {
+  /**
+   * The size of the length, the number of bytes of a binary length or the number of digits of a
+   * decimal one, 1 by default.
+   *
+   * @return the size of the length.
+   */
+  int size() default 1;
+
+  /**
+   * The name of the charset of a decimal length, none by default, i.e., the length is binary.
+   *
+   * @return the name of the charset.
+   */
+  String charset() default "";
+}
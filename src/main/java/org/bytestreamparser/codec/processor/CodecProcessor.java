@@ -0,0 +1,506 @@
+package org.bytestreamparser.codec.processor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import org.bytestreamparser.codec.annotation.Bcd;
+import org.bytestreamparser.codec.annotation.Binary;
+import org.bytestreamparser.codec.annotation.CharString;
+import org.bytestreamparser.codec.annotation.Codec;
+import org.bytestreamparser.codec.annotation.Hex;
+import org.bytestreamparser.codec.annotation.LengthPrefixed;
+import org.bytestreamparser.codec.annotation.UnsignedByte;
+import org.bytestreamparser.codec.annotation.UnsignedShort;
+
+/**
+ * An annotation processor that generates a codec for every type annotated with {@link Codec}.
+ *
+ * <p>The codec is plain Java source: a {@code static final} parser per field, and pack and parse
+ * methods for streams and buffers that call them in declaration order, reading the values through
+ * the accessors or fields of the type and creating instances through its constructor. There is no
+ * reflection and no map of field values at runtime, which also makes the codecs usable in native
+ * images as they are. Primitive {@code int} and {@code long} fields are packed and parsed through
+ * {@link org.bytestreamparser.api.parser.IntDataParser} and {@link
+ * org.bytestreamparser.api.parser.LongDataParser} without boxing.
+ *
+ * <p>Mapping errors, e.g., a field without an annotation or an annotation that does not fit the
+ * field type, are reported as compilation errors on the offending element, and no codec is
+ * generated for its type.
+ *
+ * <p>The processor is not registered as a service, so that it does not run in every compilation
+ * that has the library on its class path. It has to be named explicitly, e.g., with {@code
+ * -processor org.bytestreamparser.codec.processor.CodecProcessor}, or with the {@code
+ * annotationProcessorPaths} and {@code annotationProcessors} of the maven-compiler-plugin.
+ */
+@SupportedAnnotationTypes("org.bytestreamparser.codec.annotation.Codec")
+public class CodecProcessor extends AbstractProcessor {
+  private static final String SCALAR = "org.bytestreamparser.scalar.parser.";
+  private static final String COMPOSITE = "org.bytestreamparser.composite.parser.";
+  private static final String DATA_PARSER = "org.bytestreamparser.api.parser.DataParser";
+  private static final String OPTIONAL_INT = "java.util.OptionalInt";
+  private static final String IO_EXCEPTION = "java.io.IOException";
+  private static final int MAX_BCD_LONG_LENGTH = 18;
+  private static final int MAX_DIGITS = 9;
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(Codec.class)) {
+      TypeElement type = (TypeElement) element;
+      List<Field> fields = fields(type);
+      if (fields != null) {
+        write(type, fields);
+      }
+    }
+    return true;
+  }
+
+  private List<Field> fields(TypeElement type) {
+    boolean isRecord = type.getKind() == ElementKind.RECORD;
+    if (!isRecord && type.getKind() != ElementKind.CLASS) {
+      return error(type, "@Codec type must be a record or a class, but was [%s]", type.getKind());
+    } else if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+      return error(type, "@Codec type must not be abstract");
+    } else if (!type.getTypeParameters().isEmpty()) {
+      return error(type, "@Codec type must not be generic");
+    } else if (!isRecord
+        && type.getNestingKind() == NestingKind.MEMBER
+        && !type.getModifiers().contains(Modifier.STATIC)) {
+      return error(type, "@Codec type must not be an inner class");
+    }
+    for (Element enclosing = type;
+        enclosing instanceof TypeElement;
+        enclosing = enclosing.getEnclosingElement()) {
+      if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+        return error(type, "@Codec type must not be private or nested in a private type");
+      }
+    }
+    List<? extends Element> members;
+    if (isRecord) {
+      members = type.getRecordComponents();
+    } else {
+      if (ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+          .noneMatch(c -> c.getParameters().isEmpty() && !isPrivate(c))) {
+        return error(type, "@Codec class must have a non-private no-arg constructor");
+      }
+      members =
+          ElementFilter.fieldsIn(type.getEnclosedElements()).stream()
+              .filter(f -> !f.getModifiers().contains(Modifier.STATIC))
+              .collect(Collectors.toList());
+    }
+    List<Field> fields = new ArrayList<>();
+    boolean valid = true;
+    for (Element member : members) {
+      Field field = field(member, isRecord);
+      valid &= field != null;
+      fields.add(field);
+    }
+    return valid ? fields : null;
+  }
+
+  private Field field(Element member, boolean isRecord) {
+    if (!isRecord && (isPrivate(member) || member.getModifiers().contains(Modifier.FINAL))) {
+      return error(member, "@Codec class field must not be private or final");
+    }
+    Bcd bcd = member.getAnnotation(Bcd.class);
+    Hex hex = member.getAnnotation(Hex.class);
+    Binary binary = member.getAnnotation(Binary.class);
+    CharString charString = member.getAnnotation(CharString.class);
+    UnsignedByte unsignedByte = member.getAnnotation(UnsignedByte.class);
+    UnsignedShort unsignedShort = member.getAnnotation(UnsignedShort.class);
+    LengthPrefixed prefixed = member.getAnnotation(LengthPrefixed.class);
+    long count =
+        Stream.of(bcd, hex, binary, charString, unsignedByte, unsignedShort)
+            .filter(Objects::nonNull)
+            .count();
+    TypeMirror type = member.asType();
+    TypeElement codec = codecType(type);
+    if (count > 1) {
+      return error(member, "field must have exactly one codec annotation");
+    } else if (count == 0 && codec == null) {
+      return error(member, "field of type [%s] must have a codec annotation", type);
+    } else if (count == 0) {
+      if (prefixed != null) {
+        return error(member, "@LengthPrefixed is not supported on field of type [%s]", type);
+      }
+      String codecName = qualifiedCodecName(codec);
+      return new Field(member, isRecord, codecName, "new " + codecName + "(" + id(member) + ")");
+    } else if (bcd != null && isLong(type)) {
+      if (prefixed != null) {
+        return error(member, "@LengthPrefixed is not supported on field of type [%s]", type);
+      } else if (bcd.length() < 1 || bcd.length() > MAX_BCD_LONG_LENGTH) {
+        return error(
+            member,
+            "length must be between 1 and %d, but was [%d]",
+            MAX_BCD_LONG_LENGTH,
+            bcd.length());
+      }
+      return scalar(member, isRecord, "BcdLongParser", bcd.length());
+    } else if (bcd != null) {
+      return variable(member, isRecord, prefixed, "BcdStringParser", bcd.length(), "");
+    } else if (hex != null) {
+      return variable(member, isRecord, prefixed, "HexStringParser", hex.length(), "");
+    } else if (binary != null) {
+      return variable(member, isRecord, prefixed, "BinaryParser", binary.length(), "");
+    } else if (charString != null) {
+      if (!checkCharset(member, charString.charset())) {
+        return null;
+      }
+      String charset = ", " + charset(charString.charset());
+      return variable(member, isRecord, prefixed, "CharStringParser", charString.length(), charset);
+    } else if (!isInt(type)) {
+      return error(member, "field of type [%s] must be an int", type);
+    } else if (prefixed != null) {
+      return error(member, "@LengthPrefixed is not supported on field of type [%s]", type);
+    }
+    return scalar(
+        member, isRecord, unsignedByte != null ? "UnsignedByteParser" : "UnsignedShortParser", 0);
+  }
+
+  private Field scalar(Element member, boolean isRecord, String parser, int length) {
+    String arguments = length > 0 ? id(member) + ", " + length : id(member);
+    return new Field(
+        member, isRecord, SCALAR + parser, "new " + SCALAR + parser + "(" + arguments + ")");
+  }
+
+  private Field variable(
+      Element member,
+      boolean isRecord,
+      LengthPrefixed prefixed,
+      String parser,
+      int length,
+      String charset) {
+    TypeMirror type = member.asType();
+    boolean isBinary = parser.equals("BinaryParser");
+    if (isBinary ? !isBytes(type) : !isString(type)) {
+      return error(member, "field of type [%s] must be a %s", type, isBinary ? "byte[]" : "String");
+    } else if (prefixed == null && length <= 0) {
+      return error(member, "length must be greater than 0, but was [%d]", length);
+    } else if (prefixed == null) {
+      String init = "new " + SCALAR + parser + "(" + id(member) + ", " + length + charset + ")";
+      return new Field(member, isRecord, SCALAR + parser, init);
+    } else if (length != 0) {
+      return error(
+          member, "length of a @LengthPrefixed field must not be given, but was [%d]", length);
+    }
+    String lengthParser = lengthParser(member, prefixed);
+    if (lengthParser == null) {
+      return null;
+    }
+    String valueType = isBinary ? "byte[]" : "java.lang.String";
+    String lengthProvider =
+        switch (parser) {
+          case "BinaryParser" -> "value -> value.length";
+          case "CharStringParser" -> "value -> value.codePointCount(0, value.length())";
+          default -> "java.lang.String::length";
+        };
+    String init =
+        String.format(
+            "%sVariableLengthParser.<%s>ofInt(%s, %s, new %sParserCache<>(length -> new %s%s(%s,"
+                + " length%s)), %s)",
+            COMPOSITE,
+            valueType,
+            id(member),
+            lengthParser,
+            COMPOSITE,
+            SCALAR,
+            parser,
+            id(member),
+            charset,
+            lengthProvider);
+    return new Field(member, isRecord, COMPOSITE + "VariableLengthParser<" + valueType + ">", init);
+  }
+
+  private String lengthParser(Element member, LengthPrefixed prefixed) {
+    String id = elements().getConstantExpression(member.getSimpleName() + "-length");
+    int size = prefixed.size();
+    if (prefixed.charset().isEmpty()) {
+      if (size != 1 && size != 2) {
+        return error(member, "size of a binary length must be 1 or 2, but was [%d]", size);
+      }
+      return "new "
+          + SCALAR
+          + (size == 1 ? "UnsignedByteParser(" : "UnsignedShortParser(")
+          + id
+          + ")";
+    } else if (size < 1 || size > MAX_DIGITS) {
+      return error(
+          member,
+          "size of a decimal length must be between 1 and %d, but was [%d]",
+          MAX_DIGITS,
+          size);
+    } else if (!checkCharset(member, prefixed.charset())) {
+      return null;
+    }
+    return String.format(
+        "new %sStringIntegerParser(%s, new %sCharStringParser(%s, %d, %s), %d, 10)",
+        SCALAR, id, SCALAR, id, size, charset(prefixed.charset()), size);
+  }
+
+  private boolean checkCharset(Element member, String charset) {
+    boolean supported;
+    try {
+      supported = Charset.isSupported(charset);
+    } catch (IllegalCharsetNameException e) {
+      supported = false;
+    }
+    if (!supported) {
+      error(member, "charset [%s] is not supported", charset);
+    }
+    return supported;
+  }
+
+  private void write(TypeElement type, List<Field> fields) {
+    String packageName = elements().getPackageOf(type).getQualifiedName().toString();
+    String codecName = codecName(type);
+    String typeName = type.getQualifiedName().toString();
+    boolean isRecord = type.getKind() == ElementKind.RECORD;
+    String id = type.getAnnotation(Codec.class).id();
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source
+        .append("@javax.annotation.processing.Generated(\"")
+        .append(getClass().getName())
+        .append("\")\n")
+        .append(type.getModifiers().contains(Modifier.PUBLIC) ? "public " : "")
+        .append("final class ")
+        .append(codecName)
+        .append(" extends ")
+        .append(DATA_PARSER)
+        .append('<')
+        .append(typeName)
+        .append("> {\n");
+    for (Field field : fields) {
+      source.append(
+          String.format(
+              "  private static final %s %s = %s;\n", field.parserType, field.parser, field.init));
+    }
+    String parsers = fields.stream().map(f -> ", " + f.parser).collect(Collectors.joining());
+    source
+        .append(
+            String.format(
+                "  private static final %s FIXED_SIZE = sum(true%s);\n", OPTIONAL_INT, parsers))
+        .append(
+            String.format(
+                "  private static final %s MAX_SIZE = sum(false%s);\n\n", OPTIONAL_INT, parsers))
+        .append(String.format("  public %s() {\n", codecName))
+        .append(
+            String.format(
+                "    this(%s);\n",
+                elements()
+                    .getConstantExpression(id.isEmpty() ? type.getSimpleName().toString() : id)))
+        .append("  }\n\n")
+        .append(String.format("  public %s(String id) {\n", codecName))
+        .append("    super(id);\n")
+        .append("  }\n");
+    for (String stream : List.of("java.io.OutputStream", "java.nio.ByteBuffer")) {
+      source
+          .append("\n  @Override\n")
+          .append(
+              String.format(
+                  "  public void pack(%s value, %s output) throws %s {\n",
+                  typeName, stream, IO_EXCEPTION));
+      for (Field field : fields) {
+        source.append(
+            String.format(
+                "    %s.pack%s(%s, output);\n", field.parser, field.primitive, field.accessor));
+      }
+      source.append("  }\n");
+    }
+    for (String stream : List.of("java.io.InputStream", "java.nio.ByteBuffer")) {
+      source
+          .append("\n  @Override\n")
+          .append(
+              String.format(
+                  "  public %s parse(%s input) throws %s {\n", typeName, stream, IO_EXCEPTION));
+      if (isRecord) {
+        for (Field field : fields) {
+          source.append(
+              String.format(
+                  "    var %s$ = %s.parse%s(input);\n", field.name, field.parser, field.primitive));
+        }
+        String arguments = fields.stream().map(f -> f.name + "$").collect(Collectors.joining(", "));
+        source.append(String.format("    return new %s(%s);\n", typeName, arguments));
+      } else {
+        source.append(String.format("    %s value = new %s();\n", typeName, typeName));
+        for (Field field : fields) {
+          source.append(
+              String.format(
+                  "    %s = %s.parse%s(input);\n", field.accessor, field.parser, field.primitive));
+        }
+        source.append("    return value;\n");
+      }
+      source.append("  }\n");
+    }
+    source
+        .append("\n  @Override\n")
+        .append(String.format("  public %s fixedSize() {\n", OPTIONAL_INT))
+        .append("    return FIXED_SIZE;\n")
+        .append("  }\n")
+        .append("\n  @Override\n")
+        .append(String.format("  public %s maxSize() {\n", OPTIONAL_INT))
+        .append("    return MAX_SIZE;\n")
+        .append("  }\n")
+        .append("\n  @Override\n")
+        .append(
+            String.format("  public int sizeOf(%s value) throws %s {\n", typeName, IO_EXCEPTION))
+        .append("    if (FIXED_SIZE.isPresent()) {\n")
+        .append("      return FIXED_SIZE.getAsInt();\n")
+        .append("    }\n")
+        .append("    int size = 0;\n");
+    for (Field field : fields) {
+      if (field.primitive.isEmpty()) {
+        source.append(String.format("    size += %s.sizeOf(%s);\n", field.parser, field.accessor));
+      } else {
+        source.append(String.format("    size += %s.fixedSize().getAsInt();\n", field.parser));
+      }
+    }
+    source
+        .append("    return size;\n")
+        .append("  }\n")
+        .append(
+            String.format(
+                "\n  private static %s sum(boolean fixed, %s<?>... parsers) {\n",
+                OPTIONAL_INT, DATA_PARSER))
+        .append("    int sum = 0;\n")
+        .append(String.format("    for (%s<?> parser : parsers) {\n", DATA_PARSER))
+        .append(
+            String.format(
+                "      %s size = fixed ? parser.fixedSize() : parser.maxSize();\n", OPTIONAL_INT))
+        .append("      if (size.isEmpty()) {\n")
+        .append("        return size;\n")
+        .append("      }\n")
+        .append("      sum += size.getAsInt();\n")
+        .append("    }\n")
+        .append(String.format("    return %s.of(sum);\n", OPTIONAL_INT))
+        .append("  }\n")
+        .append("}\n");
+    String qualifiedName = packageName.isEmpty() ? codecName : packageName + "." + codecName;
+    try (Writer writer =
+        processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+      writer.write(source.toString());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private TypeElement codecType(TypeMirror type) {
+    if (type.getKind() == TypeKind.DECLARED) {
+      Element element = ((DeclaredType) type).asElement();
+      if (element.getAnnotation(Codec.class) != null) {
+        return (TypeElement) element;
+      }
+    }
+    return null;
+  }
+
+  private String qualifiedCodecName(TypeElement type) {
+    String packageName = elements().getPackageOf(type).getQualifiedName().toString();
+    return packageName.isEmpty() ? codecName(type) : packageName + "." + codecName(type);
+  }
+
+  private static String codecName(TypeElement type) {
+    StringBuilder name = new StringBuilder(type.getSimpleName());
+    for (Element enclosing = type.getEnclosingElement();
+        enclosing instanceof TypeElement;
+        enclosing = enclosing.getEnclosingElement()) {
+      name.insert(0, enclosing.getSimpleName() + "_");
+    }
+    return name.append("Codec").toString();
+  }
+
+  private String id(Element member) {
+    return elements().getConstantExpression(member.getSimpleName().toString());
+  }
+
+  private String charset(String charset) {
+    return "java.nio.charset.Charset.forName(" + elements().getConstantExpression(charset) + ")";
+  }
+
+  private javax.lang.model.util.Elements elements() {
+    return processingEnv.getElementUtils();
+  }
+
+  private static boolean isPrivate(Element element) {
+    return element.getModifiers().contains(Modifier.PRIVATE);
+  }
+
+  private static boolean isInt(TypeMirror type) {
+    return type.getKind() == TypeKind.INT || isDeclared(type, "java.lang.Integer");
+  }
+
+  private static boolean isLong(TypeMirror type) {
+    return type.getKind() == TypeKind.LONG || isDeclared(type, "java.lang.Long");
+  }
+
+  private static boolean isString(TypeMirror type) {
+    return isDeclared(type, "java.lang.String");
+  }
+
+  private static boolean isBytes(TypeMirror type) {
+    return type.getKind() == TypeKind.ARRAY && type.toString().equals("byte[]");
+  }
+
+  private static boolean isDeclared(TypeMirror type, String name) {
+    return type.getKind() == TypeKind.DECLARED
+        && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(name);
+  }
+
+  private <T> T error(Element element, String template, Object... args) {
+    processingEnv
+        .getMessager()
+        .printMessage(Diagnostic.Kind.ERROR, String.format(template, args), element);
+    return null;
+  }
+
+  private static final class Field {
+    private final String name;
+    private final String parserType;
+    private final String parser;
+    private final String init;
+    private final String accessor;
+    private final String primitive;
+
+    private Field(Element member, boolean isRecord, String parserType, String init) {
+      this.name = member.getSimpleName().toString();
+      this.parserType = parserType;
+      this.parser = name + "Parser";
+      this.init = init;
+      this.accessor = isRecord ? "value." + name + "()" : "value." + name;
+      this.primitive =
+          switch (member.asType().getKind()) {
+            case INT -> "Int";
+            case LONG -> "Long";
+            default -> "";
+          };
+    }
+  }
+}
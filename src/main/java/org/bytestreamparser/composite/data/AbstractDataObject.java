@@ -39,4 +39,17 @@ public abstract class AbstractDataObject<T extends AbstractDataObject<T>> implem
     fields.remove(id);
     return (T) this;
   }
+
+  /**
+   * Clears all the fields. The backing {@link Map} keeps its capacity, so refilling it does not
+   * grow it again.
+   *
+   * @return the data object itself.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public T clear() {
+    fields.clear();
+    return (T) this;
+  }
 }
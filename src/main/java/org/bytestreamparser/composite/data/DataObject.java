@@ -1,5 +1,6 @@
 package org.bytestreamparser.composite.data;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -37,4 +38,19 @@ public interface DataObject<T extends DataObject<T>> {
    * @return the data object itself.
    */
   T clear(String id);
+
+  /**
+   * Clears the values of all the fields, so that the data object can be reused. The default
+   * implementation clears the fields one by one, implementations should override it with a bulk
+   * reset.
+   *
+   * @return the data object itself.
+   */
+  @SuppressWarnings("unchecked")
+  default T clear() {
+    for (String id : List.copyOf(fields())) {
+      clear(id);
+    }
+    return (T) this;
+  }
 }
@@ -0,0 +1,65 @@
+package org.bytestreamparser.composite.data;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of data objects. It is a {@link Supplier}, so that it can be passed to an {@link
+ * org.bytestreamparser.composite.parser.ObjectParser} as the instance supplier. Instances are taken
+ * from the pool, or created with the factory if the pool is empty, and are {@link
+ * DataObject#clear() cleared} and returned to the pool with {@link #release(DataObject)} once they
+ * are no longer used. Instances released to a full pool are dropped.
+ *
+ * <p>A DataObjectPool is thread-safe. Note that a released instance must not be used anymore,
+ * including values referring to it.
+ *
+ * @param <T> the type of the data objects.
+ */
+public class DataObjectPool<T extends DataObject<T>> implements Supplier<T> {
+  private static final String INVALID_CAPACITY = "capacity must be greater than 0, but was [%d]";
+  private final Supplier<T> factory;
+  private final ArrayBlockingQueue<T> instances;
+
+  /**
+   * Creates a new DataObjectPool.
+   *
+   * @param factory the supplier for creating new instances when the pool is empty.
+   * @param capacity the maximum number of instances kept in the pool.
+   */
+  public DataObjectPool(Supplier<T> factory, int capacity) {
+    check(capacity > 0, INVALID_CAPACITY, capacity);
+    this.factory = factory;
+    this.instances = new ArrayBlockingQueue<>(capacity);
+  }
+
+  /**
+   * Takes an instance from the pool, or creates a new one if the pool is empty.
+   *
+   * @return an empty data object.
+   */
+  @Override
+  public T get() {
+    T instance = instances.poll();
+    return instance != null ? instance : factory.get();
+  }
+
+  /**
+   * Clears the instance and returns it to the pool, unless the pool is full.
+   *
+   * @param instance the data object that is no longer used.
+   */
+  public void release(T instance) {
+    instances.offer(instance.clear());
+  }
+
+  /**
+   * Returns the number of instances available in the pool.
+   *
+   * @return the number of pooled instances.
+   */
+  public int available() {
+    return instances.size();
+  }
+}
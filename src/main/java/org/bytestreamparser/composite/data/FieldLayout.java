@@ -0,0 +1,74 @@
+package org.bytestreamparser.composite.data;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, ordered layout of field identifiers, where every field is assigned a fixed index.
+ * It is resolved once and shared by all the {@link IndexedDataObject}s of the same type, so that
+ * field values can be stored in an array instead of a {@link Map}.
+ */
+public final class FieldLayout {
+  private final List<String> ids;
+  private final Map<String, Integer> indexes;
+
+  private FieldLayout(List<String> ids) {
+    this.ids = List.copyOf(ids);
+    this.indexes = new HashMap<>();
+    for (int i = 0; i < this.ids.size(); i++) {
+      indexes.putIfAbsent(this.ids.get(i), i);
+    }
+  }
+
+  /**
+   * Creates a new FieldLayout.
+   *
+   * @param ids the field identifiers, in order.
+   * @return the layout.
+   */
+  public static FieldLayout of(String... ids) {
+    return new FieldLayout(List.of(ids));
+  }
+
+  /**
+   * Creates a new FieldLayout.
+   *
+   * @param ids the field identifiers, in order.
+   * @return the layout.
+   */
+  public static FieldLayout of(List<String> ids) {
+    return new FieldLayout(ids);
+  }
+
+  /** Returns the number of fields in the layout. */
+  public int size() {
+    return ids.size();
+  }
+
+  /** Returns the field identifiers, in order. */
+  public List<String> ids() {
+    return ids;
+  }
+
+  /**
+   * Returns the field identifier at the given index.
+   *
+   * @param index the field index.
+   * @return the field identifier.
+   */
+  public String id(int index) {
+    return ids.get(index);
+  }
+
+  /**
+   * Returns the index of the field with the given identifier.
+   *
+   * @param id the field identifier.
+   * @return the field index, or -1 if the field is not in the layout.
+   */
+  public int index(String id) {
+    Integer index = indexes.get(id);
+    return index == null ? -1 : index;
+  }
+}
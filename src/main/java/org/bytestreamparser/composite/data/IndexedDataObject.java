@@ -0,0 +1,143 @@
+package org.bytestreamparser.composite.data;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Abstract implementation of the {@link DataObject} interface with array backed fields. Fields of
+ * the {@link FieldLayout} are stored by index, fields outside of the layout fall back to a {@link
+ * Map}. Note that unlike {@link AbstractDataObject}, a {@code null} value means the field is
+ * absent.
+ *
+ * @param <T> the type of the data object.
+ */
+public abstract class IndexedDataObject<T extends IndexedDataObject<T>> implements DataObject<T> {
+  private final FieldLayout layout;
+  private final Object[] values;
+  private Map<String, Object> others;
+
+  protected IndexedDataObject(FieldLayout layout) {
+    this.layout = layout;
+    this.values = new Object[layout.size()];
+  }
+
+  /** Returns the layout of the data object. */
+  public FieldLayout layout() {
+    return layout;
+  }
+
+  @Override
+  public Set<String> fields() {
+    Set<String> fields = new LinkedHashSet<>();
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        fields.add(layout.id(i));
+      }
+    }
+    if (others != null) {
+      fields.addAll(others.keySet());
+    }
+    return fields;
+  }
+
+  @Override
+  public <V> V get(String id) {
+    int index = layout.index(id);
+    if (index >= 0) {
+      return get(index);
+    } else {
+      return others == null ? null : this.<V>other(id);
+    }
+  }
+
+  @Override
+  public <V> T set(String id, V value) {
+    int index = layout.index(id);
+    if (index >= 0) {
+      return set(index, value);
+    } else {
+      if (others == null) {
+        others = new HashMap<>();
+      }
+      others.put(id, value);
+      return self();
+    }
+  }
+
+  @Override
+  public T clear(String id) {
+    int index = layout.index(id);
+    if (index >= 0) {
+      return clear(index);
+    } else {
+      if (others != null) {
+        others.remove(id);
+      }
+      return self();
+    }
+  }
+
+  /**
+   * Clears all the fields, keeping the values array, so that refilling the fields of the layout
+   * does not allocate.
+   *
+   * @return the data object itself.
+   */
+  @Override
+  public T clear() {
+    Arrays.fill(values, null);
+    if (others != null) {
+      others.clear();
+    }
+    return self();
+  }
+
+  /**
+   * Returns the value of the field at the given index of the layout.
+   *
+   * @param index the field index.
+   * @return the value of the field.
+   * @param <V> the type of the value.
+   */
+  @SuppressWarnings("unchecked")
+  public <V> V get(int index) {
+    return (V) values[index];
+  }
+
+  /**
+   * Sets the value of the field at the given index of the layout.
+   *
+   * @param index the field index.
+   * @param value the value to set.
+   * @return the data object itself.
+   * @param <V> the type of the value.
+   */
+  public <V> T set(int index, V value) {
+    values[index] = value;
+    return self();
+  }
+
+  /**
+   * Clears the value of the field at the given index of the layout.
+   *
+   * @param index the field index.
+   * @return the data object itself.
+   */
+  public T clear(int index) {
+    values[index] = null;
+    return self();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <V> V other(String id) {
+    return (V) others.get(id);
+  }
+
+  @SuppressWarnings("unchecked")
+  private T self() {
+    return (T) this;
+  }
+}
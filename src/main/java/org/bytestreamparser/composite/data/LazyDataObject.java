@@ -0,0 +1,112 @@
+package org.bytestreamparser.composite.data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import org.bytestreamparser.api.parser.DataParser;
+
+/**
+ * An {@link AbstractDataObject}, where fields can be {@link
+ * #defer(String, DataParser, ByteBuffer) deferred}. A deferred field holds the bytes of the value
+ * and is only decoded when it is first read with {@link #get(String)}. Until then, the bytes are
+ * available with {@link #raw(String)}, so that the value can be packed again by copying them.
+ *
+ * <p>Note that deferred fields refer to the bytes they are parsed from, which must not be changed
+ * while the data object is in use.
+ *
+ * @param <T> the type of the data object.
+ */
+public abstract class LazyDataObject<T extends LazyDataObject<T>> extends AbstractDataObject<T> {
+  protected LazyDataObject(Map<String, Object> fields) {
+    super(fields);
+  }
+
+  /**
+   * Returns the value of the field with the given identifier, decoding it first if it is deferred.
+   *
+   * @param id the field identifier.
+   * @return the value of the field.
+   * @param <V> the type of the value.
+   * @throws UncheckedIOException if the deferred value can not be decoded.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <V> V get(String id) {
+    Object value = super.get(id);
+    if (value instanceof Deferred) {
+      value = ((Deferred<?>) value).decode();
+      super.set(id, value);
+    }
+    return (V) value;
+  }
+
+  /**
+   * Defers the value of the field with the given identifier, to be decoded from the bytes with the
+   * parser when it is first read.
+   *
+   * @param id the field identifier.
+   * @param parser the parser to decode the value with.
+   * @param bytes the bytes of the value.
+   * @return the data object itself.
+   * @param <V> the type of the value.
+   */
+  public <V> T defer(String id, DataParser<V> parser, ByteBuffer bytes) {
+    return defer(id, parser, bytes, bytes.position(), bytes.remaining());
+  }
+
+  /**
+   * Defers the value of the field with the given identifier, to be decoded from a range of the
+   * buffer with the parser when it is first read. Unlike {@link #defer(String, DataParser,
+   * ByteBuffer)}, no slice of the buffer is created until the value is decoded.
+   *
+   * @param id the field identifier.
+   * @param parser the parser to decode the value with.
+   * @param buffer the buffer holding the bytes of the value.
+   * @param offset the index of the first byte of the value in the buffer.
+   * @param length the number of bytes of the value.
+   * @return the data object itself.
+   * @param <V> the type of the value.
+   */
+  public <V> T defer(String id, DataParser<V> parser, ByteBuffer buffer, int offset, int length) {
+    return set(id, new Deferred<>(parser, buffer, offset, length));
+  }
+
+  /**
+   * Returns the bytes of the field with the given identifier, if it is deferred and has not been
+   * decoded or set since.
+   *
+   * @param id the field identifier.
+   * @return a read-only view of the bytes, or {@code null} if the field is not deferred.
+   */
+  public ByteBuffer raw(String id) {
+    Object value = super.get(id);
+    return value instanceof Deferred ? ((Deferred<?>) value).bytes().asReadOnlyBuffer() : null;
+  }
+
+  private static final class Deferred<V> {
+    private final DataParser<V> parser;
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    private Deferred(DataParser<V> parser, ByteBuffer buffer, int offset, int length) {
+      this.parser = parser;
+      this.buffer = buffer;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    private ByteBuffer bytes() {
+      return buffer.slice(offset, length);
+    }
+
+    private V decode() {
+      try {
+        return parser.parse(bytes());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
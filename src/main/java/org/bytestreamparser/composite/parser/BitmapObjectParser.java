@@ -0,0 +1,353 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.bytestreamparser.scalar.util.InputStreams.readFully;
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.function.Supplier;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.composite.data.DataObject;
+import org.bytestreamparser.scalar.util.ByteBuffers;
+
+/**
+ * A parser for a data object whose fields are announced by ISO 8583 style bitmaps, i.e., a binary
+ * primary bitmap of 64 bits for fields 1 to 64, followed by a secondary bitmap for fields 65 to 128
+ * if the first bit of the primary bitmap is set. The bit of a field is counted from 1 at the most
+ * significant bit of the first byte.
+ *
+ * <p>Parsing reads the bitmaps and jumps from one set bit to the next with {@link
+ * Long#numberOfLeadingZeros(long)}, so the cost is linear in the number of present fields rather
+ * than in the number of fields defined. Packing builds the bitmaps from the fields that are set to
+ * a non-null value on the data object. The bitmaps themselves are not stored in the data object.
+ * Since the bitmaps tell whether a field is present, the field parsers must not have predicates.
+ *
+ * <p>Header fields, e.g., the message type indicator, are parsed in order before the bitmaps, the
+ * same way as the fields of an {@link ObjectParser}, including their predicates.
+ *
+ * <p>A BitmapObjectParser is thread-safe if its field parsers, predicates and instance supplier
+ * are.
+ *
+ * @param <V> the type of the data object.
+ */
+public class BitmapObjectParser<V extends DataObject<V>> extends DataParser<V> {
+  private static final int BITMAP_SIZE = 8;
+  private static final int MAX_FIELD = 128;
+  private static final String INVALID_FIELD = "%s: field must be between 2 and 128, but was [%d]";
+  private static final String UNKNOWN_FIELD = "%s: no parser for field [%d] of the bitmap";
+  private static final String DUPLICATE_FIELD = "%s: field [%s] must have a single number";
+  private static final String CONDITIONAL_FIELD =
+      "%s: field [%s] must not have a predicate, its presence is given by the bitmap";
+  private final Supplier<V> instanceSupplier;
+  private final DataFieldParser<V, ?>[] headerParsers;
+  private final DataFieldParser<V, ?>[] fieldParsers;
+  private final Map<String, Integer> fieldNumbers;
+  private final boolean skippable;
+  private final OptionalInt maxSize;
+
+  /**
+   * Creates a new BitmapObjectParser without header fields.
+   *
+   * @param id the ID of the parser.
+   * @param instanceSupplier a supplier for creating new instances of the data object.
+   * @param fieldParsers the parsers for the fields of the data object, by field number from 2 to
+   *     128.
+   */
+  public BitmapObjectParser(
+      String id,
+      Supplier<V> instanceSupplier,
+      Map<Integer, ? extends DataFieldParser<V, ?>> fieldParsers) {
+    this(id, instanceSupplier, List.of(), fieldParsers);
+  }
+
+  /**
+   * Creates a new BitmapObjectParser.
+   *
+   * @param id the ID of the parser.
+   * @param instanceSupplier a supplier for creating new instances of the data object.
+   * @param headerParsers the parsers for the fields preceding the bitmaps.
+   * @param fieldParsers the parsers for the fields of the data object, by field number from 2 to
+   *     128. The IDs of the field parsers must be unique, and the field parsers must not have
+   *     predicates.
+   */
+  // the arrays only ever hold DataFieldParser<V, ?>, they are created as wildcard arrays
+  @SuppressWarnings("unchecked")
+  public BitmapObjectParser(
+      String id,
+      Supplier<V> instanceSupplier,
+      List<? extends DataFieldParser<V, ?>> headerParsers,
+      Map<Integer, ? extends DataFieldParser<V, ?>> fieldParsers) {
+    super(id);
+    this.instanceSupplier = instanceSupplier;
+    this.headerParsers =
+        (DataFieldParser<V, ?>[]) headerParsers.toArray(new DataFieldParser<?, ?>[0]);
+    this.skippable = headerParsers.stream().allMatch(DataFieldParser::alwaysApplicable);
+    this.fieldParsers = (DataFieldParser<V, ?>[]) new DataFieldParser<?, ?>[MAX_FIELD + 1];
+    this.fieldNumbers = new HashMap<>();
+    for (Map.Entry<Integer, ? extends DataFieldParser<V, ?>> entry : fieldParsers.entrySet()) {
+      int number = entry.getKey();
+      check(number > 1 && number <= MAX_FIELD, INVALID_FIELD, id, number);
+      String fieldId = entry.getValue().getId();
+      check(fieldNumbers.put(fieldId, number) == null, DUPLICATE_FIELD, id, fieldId);
+      check(entry.getValue().alwaysApplicable(), CONDITIONAL_FIELD, id, fieldId);
+      this.fieldParsers[number] = entry.getValue();
+    }
+    this.maxSize = maxSize(this.headerParsers, this.fieldParsers);
+  }
+
+  private static OptionalInt maxSize(
+      DataFieldParser<?, ?>[] headerParsers, DataFieldParser<?, ?>[] fieldParsers) {
+    int sum = 2 * BITMAP_SIZE;
+    for (DataFieldParser<?, ?>[] parsers : List.of(headerParsers, fieldParsers)) {
+      for (DataFieldParser<?, ?> parser : parsers) {
+        if (parser != null) {
+          OptionalInt size = parser.maxSize();
+          if (size.isEmpty()) {
+            return OptionalInt.empty();
+          }
+          sum += size.getAsInt();
+        }
+      }
+    }
+    return OptionalInt.of(sum);
+  }
+
+  @Override
+  public void pack(V value, OutputStream output) throws IOException {
+    for (DataFieldParser<V, ?> headerParser : headerParsers) {
+      if (headerParser.applicable(value)) {
+        packField(headerParser, value, output);
+      }
+    }
+    long[] bitmaps = bitmaps(value);
+    writeBitmap(bitmaps[0], output);
+    if (bitmaps[1] != 0) {
+      writeBitmap(bitmaps[1], output);
+    }
+    forEachField(bitmaps[0], bitmaps[1], fieldParser -> packField(fieldParser, value, output));
+  }
+
+  @Override
+  public V parse(InputStream input) throws IOException {
+    V instance = instanceSupplier.get();
+    for (DataFieldParser<V, ?> headerParser : headerParsers) {
+      if (headerParser.applicable(instance)) {
+        instance.set(headerParser.getId(), headerParser.parse(input));
+      }
+    }
+    long primary = readBitmap(input);
+    long secondary = primary < 0 ? readBitmap(input) : 0;
+    forEachField(
+        primary,
+        secondary,
+        fieldParser -> instance.set(fieldParser.getId(), fieldParser.parse(input)));
+    return instance;
+  }
+
+  @Override
+  public void pack(V value, ByteBuffer output) throws IOException {
+    for (DataFieldParser<V, ?> headerParser : headerParsers) {
+      if (headerParser.applicable(value)) {
+        packField(headerParser, value, output);
+      }
+    }
+    long[] bitmaps = bitmaps(value);
+    writeBitmap(bitmaps[0], output);
+    if (bitmaps[1] != 0) {
+      writeBitmap(bitmaps[1], output);
+    }
+    forEachField(bitmaps[0], bitmaps[1], fieldParser -> packField(fieldParser, value, output));
+  }
+
+  @Override
+  public V parse(ByteBuffer input) throws IOException {
+    V instance = instanceSupplier.get();
+    for (DataFieldParser<V, ?> headerParser : headerParsers) {
+      if (headerParser.applicable(instance)) {
+        instance.set(headerParser.getId(), headerParser.parse(input));
+      }
+    }
+    long primary = readBitmap(input);
+    long secondary = primary < 0 ? readBitmap(input) : 0;
+    forEachField(
+        primary,
+        secondary,
+        fieldParser -> instance.set(fieldParser.getId(), fieldParser.parse(input)));
+    return instance;
+  }
+
+  /**
+   * Skips over a value in the input stream. The fields are found with the bitmaps and skipped with
+   * their own parsers, unless there are conditional header fields, in which case the value is
+   * parsed.
+   *
+   * @param input the {@link InputStream} to skip the value in.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void skip(InputStream input) throws IOException {
+    if (!skippable) {
+      super.skip(input);
+      return;
+    }
+    for (DataFieldParser<V, ?> headerParser : headerParsers) {
+      headerParser.skip(input);
+    }
+    long primary = readBitmap(input);
+    long secondary = primary < 0 ? readBitmap(input) : 0;
+    forEachField(primary, secondary, fieldParser -> fieldParser.skip(input));
+  }
+
+  /**
+   * Skips over a value in the buffer. The fields are found with the bitmaps and skipped with their
+   * own parsers, unless there are conditional header fields, in which case the value is parsed.
+   *
+   * @param input the {@link ByteBuffer} to skip the value in.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void skip(ByteBuffer input) throws IOException {
+    if (!skippable) {
+      super.skip(input);
+      return;
+    }
+    for (DataFieldParser<V, ?> headerParser : headerParsers) {
+      headerParser.skip(input);
+    }
+    long primary = readBitmap(input);
+    long secondary = primary < 0 ? readBitmap(input) : 0;
+    forEachField(primary, secondary, fieldParser -> fieldParser.skip(input));
+  }
+
+  /**
+   * Returns the maximum number of bytes of a value, i.e., the header fields, both bitmaps and every
+   * field at its maximum size, if all of them have one.
+   */
+  @Override
+  public OptionalInt maxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Returns the number of bytes of the applicable header fields, the bitmaps and the fields set on
+   * the value.
+   *
+   * @param value the value to be measured.
+   * @return the number of bytes.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public int sizeOf(V value) throws IOException {
+    int size = 0;
+    for (DataFieldParser<V, ?> headerParser : headerParsers) {
+      if (headerParser.applicable(value)) {
+        size += sizeOf(headerParser, value);
+      }
+    }
+    long[] bitmaps = bitmaps(value);
+    int[] fieldsSize = {bitmaps[1] != 0 ? 2 * BITMAP_SIZE : BITMAP_SIZE};
+    forEachField(
+        bitmaps[0], bitmaps[1], fieldParser -> fieldsSize[0] += sizeOf(fieldParser, value));
+    return size + fieldsSize[0];
+  }
+
+  /**
+   * Builds the primary and secondary bitmaps from the fields set to a non-null value, where the
+   * first bit of the primary bitmap is set if any field of the secondary bitmap is.
+   */
+  private long[] bitmaps(V value) {
+    long primary = 0;
+    long secondary = 0;
+    for (String id : value.fields()) {
+      Integer number = fieldNumbers.get(id);
+      if (number == null || value.get(id) == null) {
+        continue;
+      } else if (number <= Long.SIZE) {
+        primary |= Long.MIN_VALUE >>> (number - 1);
+      } else {
+        secondary |= Long.MIN_VALUE >>> (number - Long.SIZE - 1);
+      }
+    }
+    return new long[] {secondary != 0 ? primary | Long.MIN_VALUE : primary, secondary};
+  }
+
+  /**
+   * Passes the parser of every field set in the bitmaps to the visitor, in the order of the field
+   * numbers. The first bit of the primary bitmap only announces the secondary bitmap and is
+   * ignored.
+   */
+  private void forEachField(long primary, long secondary, FieldVisitor<V> visitor)
+      throws IOException {
+    long bits = primary & Long.MAX_VALUE;
+    for (int offset = 0; offset <= Long.SIZE; offset += Long.SIZE) {
+      while (bits != 0) {
+        int bit = Long.numberOfLeadingZeros(bits);
+        bits &= ~(Long.MIN_VALUE >>> bit);
+        visitor.visit(fieldParser(offset + bit + 1));
+      }
+      bits = secondary;
+    }
+  }
+
+  private DataFieldParser<V, ?> fieldParser(int number) {
+    DataFieldParser<V, ?> fieldParser = fieldParsers[number];
+    check(fieldParser != null, UNKNOWN_FIELD, getId(), number);
+    return fieldParser;
+  }
+
+  private static <D extends DataObject<D>, F> void packField(
+      DataFieldParser<D, F> fieldParser, D value, OutputStream output) throws IOException {
+    fieldParser.pack(value.get(fieldParser.getId()), output);
+  }
+
+  private static <D extends DataObject<D>, F> void packField(
+      DataFieldParser<D, F> fieldParser, D value, ByteBuffer output) throws IOException {
+    fieldParser.pack(value.get(fieldParser.getId()), output);
+  }
+
+  private static <D extends DataObject<D>, F> int sizeOf(DataFieldParser<D, F> fieldParser, D value)
+      throws IOException {
+    return fieldParser.sizeOf(value.get(fieldParser.getId()));
+  }
+
+  private static long readBitmap(InputStream input) throws IOException {
+    byte[] bytes = readFully(input, BITMAP_SIZE);
+    long bitmap = 0;
+    for (byte b : bytes) {
+      bitmap = bitmap << 8 | b & 0xFF;
+    }
+    return bitmap;
+  }
+
+  private static long readBitmap(ByteBuffer input) throws IOException {
+    ByteBuffers.checkRemaining(input, BITMAP_SIZE);
+    long bitmap = 0;
+    for (int i = 0; i < BITMAP_SIZE; i++) {
+      bitmap = bitmap << 8 | input.get() & 0xFF;
+    }
+    return bitmap;
+  }
+
+  private static void writeBitmap(long bitmap, OutputStream output) throws IOException {
+    for (int shift = Long.SIZE - 8; shift >= 0; shift -= 8) {
+      output.write((int) (bitmap >>> shift));
+    }
+  }
+
+  private static void writeBitmap(long bitmap, ByteBuffer output) {
+    for (int shift = Long.SIZE - 8; shift >= 0; shift -= 8) {
+      output.put((byte) (bitmap >>> shift));
+    }
+  }
+
+  @FunctionalInterface
+  private interface FieldVisitor<V extends DataObject<V>> {
+    void visit(DataFieldParser<V, ?> fieldParser) throws IOException;
+  }
+}
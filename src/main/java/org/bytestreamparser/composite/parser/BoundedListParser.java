@@ -0,0 +1,100 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.OptionalInt;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.scalar.util.ByteBuffers;
+import org.bytestreamparser.scalar.util.LimitedInputStream;
+
+/**
+ * A parser for a list of values that take up a fixed number of bytes. Unlike {@link ListParser},
+ * it does not depend on {@link InputStream#available()}, and leaves any bytes after the list
+ * unread. Combined with {@link VariableLengthParser}, it parses lists with a byte length prefix.
+ * Note that the values must take up exactly the given number of bytes when packed, which is checked
+ * before they are packed. The bound is kept per call, so the parser is thread-safe if its item
+ * parser is.
+ *
+ * @param <V> the type of the values in the list.
+ */
+public class BoundedListParser<V> extends ListParser<V> {
+  private static final String INVALID_LENGTH = "%s: values must take up %d bytes, but took [%d]";
+  private final int length;
+
+  /**
+   * Creates a new BoundedListParser.
+   *
+   * @param id the ID of the parser.
+   * @param length the number of bytes of the list.
+   * @param itemParser the parser for the list items.
+   */
+  public BoundedListParser(String id, int length, DataParser<V> itemParser) {
+    super(id, itemParser);
+    this.length = length;
+  }
+
+  @Override
+  public void pack(List<V> values, OutputStream output) throws IOException {
+    checkLength(values);
+    super.pack(values, output);
+  }
+
+  @Override
+  public void pack(List<V> values, ByteBuffer output) throws IOException {
+    checkLength(values);
+    super.pack(values, output);
+  }
+
+  private void checkLength(List<V> values) throws IOException {
+    int size = super.sizeOf(values);
+    check(size == length, INVALID_LENGTH, getId(), length, size);
+  }
+
+  @Override
+  protected InputStream itemInput(InputStream input) {
+    return new LimitedInputStream(input, length);
+  }
+
+  /**
+   * Returns a slice of the next {@code length} bytes of the buffer, advancing the position of the
+   * buffer past them.
+   *
+   * @param input the {@link ByteBuffer} the list is read from.
+   * @return the {@link ByteBuffer} to read the items from.
+   * @throws IOException if the buffer does not have enough bytes remaining.
+   */
+  @Override
+  protected ByteBuffer itemInput(ByteBuffer input) throws IOException {
+    ByteBuffers.checkRemaining(input, length);
+    ByteBuffer items = input.slice(input.position(), length);
+    input.position(input.position() + length);
+    return items;
+  }
+
+  /**
+   * Returns whether there are more bytes within the bound. If a subclass returns another stream
+   * from {@link #itemInput(InputStream)}, it falls back to {@link InputStream#available()}.
+   *
+   * @param input the {@link InputStream} returned by {@link #itemInput(InputStream)}.
+   * @param parsed the number of items parsed so far.
+   * @return {@code true} if there are more items, {@code false} otherwise.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  protected boolean hasNext(InputStream input, int parsed) throws IOException {
+    if (input instanceof LimitedInputStream) {
+      return ((LimitedInputStream) input).remaining() > 0;
+    }
+    return super.hasNext(input, parsed);
+  }
+
+  @Override
+  public OptionalInt fixedSize() {
+    return OptionalInt.of(length);
+  }
+}
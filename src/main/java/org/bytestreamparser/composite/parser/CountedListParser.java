@@ -0,0 +1,70 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.OptionalInt;
+import org.bytestreamparser.api.parser.DataParser;
+
+/**
+ * A parser for a list of a fixed number of values. Unlike {@link ListParser}, it does not depend on
+ * {@link InputStream#available()}, and leaves any bytes after the last value unread. Combined with
+ * {@link VariableLengthParser}, it parses lists with a count prefix. It is thread-safe if the item
+ * parser is, since the count of parsed values is kept per call.
+ *
+ * @param <V> the type of the values in the list.
+ */
+public class CountedListParser<V> extends ListParser<V> {
+  private static final String INVALID_SIZE = "%s: value must be of size %d, but was [%d]";
+  private final int count;
+
+  /**
+   * Creates a new CountedListParser.
+   *
+   * @param id the ID of the parser.
+   * @param count the number of values in the list.
+   * @param itemParser the parser for the list items.
+   */
+  public CountedListParser(String id, int count, DataParser<V> itemParser) {
+    super(id, itemParser);
+    this.count = count;
+  }
+
+  @Override
+  public void pack(List<V> values, OutputStream output) throws IOException {
+    check(values.size() == count, INVALID_SIZE, getId(), count, values.size());
+    super.pack(values, output);
+  }
+
+  @Override
+  public void pack(List<V> values, ByteBuffer output) throws IOException {
+    check(values.size() == count, INVALID_SIZE, getId(), count, values.size());
+    super.pack(values, output);
+  }
+
+  @Override
+  protected boolean hasNext(InputStream input, int parsed) {
+    return parsed < count;
+  }
+
+  @Override
+  protected boolean hasNext(ByteBuffer input, int parsed) {
+    return parsed < count;
+  }
+
+  @Override
+  public OptionalInt fixedSize() {
+    OptionalInt itemSize = itemParser().fixedSize();
+    return itemSize.isPresent() ? OptionalInt.of(count * itemSize.getAsInt()) : itemSize;
+  }
+
+  @Override
+  public OptionalInt maxSize() {
+    OptionalInt itemSize = itemParser().maxSize();
+    return itemSize.isPresent() ? OptionalInt.of(count * itemSize.getAsInt()) : itemSize;
+  }
+}
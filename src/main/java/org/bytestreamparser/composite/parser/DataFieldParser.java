@@ -3,12 +3,15 @@ package org.bytestreamparser.composite.parser;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 import org.bytestreamparser.api.parser.DataParser;
 import org.bytestreamparser.composite.data.DataObject;
 
 /**
- * A parser for a field of a data object.
+ * A parser for a field of a data object. It is thread-safe if the value parser and the
+ * applicability predicate are.
  *
  * @param <D> the type of the data object.
  * @param <V> the type of the field value.
@@ -16,6 +19,7 @@ import org.bytestreamparser.composite.data.DataObject;
 public class DataFieldParser<D extends DataObject<D>, V> extends DataParser<V> {
   private final DataParser<V> valueParser;
   private final Predicate<D> applicable;
+  private final boolean alwaysApplicable;
 
   /**
    * Creates a new DataFieldParser, where the parser is always applicable.
@@ -24,7 +28,7 @@ public class DataFieldParser<D extends DataObject<D>, V> extends DataParser<V> {
    * @param valueParser the parser for the field value.
    */
   public DataFieldParser(String id, DataParser<V> valueParser) {
-    this(id, valueParser, d -> true);
+    this(id, valueParser, d -> true, true);
   }
 
   /**
@@ -36,9 +40,15 @@ public class DataFieldParser<D extends DataObject<D>, V> extends DataParser<V> {
    *     object.
    */
   public DataFieldParser(String id, DataParser<V> valueParser, Predicate<D> applicable) {
+    this(id, valueParser, applicable, false);
+  }
+
+  private DataFieldParser(
+      String id, DataParser<V> valueParser, Predicate<D> applicable, boolean alwaysApplicable) {
     super(id);
     this.valueParser = valueParser;
     this.applicable = applicable;
+    this.alwaysApplicable = alwaysApplicable;
   }
 
   /**
@@ -48,7 +58,17 @@ public class DataFieldParser<D extends DataObject<D>, V> extends DataParser<V> {
    * @return {@code true} if this parser is applicable, {@code false} otherwise.
    */
   public boolean applicable(D data) {
-    return applicable.test(data);
+    return alwaysApplicable || applicable.test(data);
+  }
+
+  /**
+   * Returns whether this parser is applicable to every data object, i.e., it was created without a
+   * predicate, so that callers can skip {@link #applicable(DataObject)} altogether.
+   *
+   * @return {@code true} if this parser is always applicable, {@code false} otherwise.
+   */
+  public boolean alwaysApplicable() {
+    return alwaysApplicable;
   }
 
   @Override
@@ -60,4 +80,39 @@ public class DataFieldParser<D extends DataObject<D>, V> extends DataParser<V> {
   public V parse(InputStream input) throws IOException {
     return valueParser.parse(input);
   }
+
+  @Override
+  public void pack(V value, ByteBuffer output) throws IOException {
+    valueParser.pack(value, output);
+  }
+
+  @Override
+  public V parse(ByteBuffer input) throws IOException {
+    return valueParser.parse(input);
+  }
+
+  @Override
+  public OptionalInt fixedSize() {
+    return valueParser.fixedSize();
+  }
+
+  @Override
+  public OptionalInt maxSize() {
+    return valueParser.maxSize();
+  }
+
+  @Override
+  public int sizeOf(V value) throws IOException {
+    return valueParser.sizeOf(value);
+  }
+
+  @Override
+  public void skip(ByteBuffer input) throws IOException {
+    valueParser.skip(input);
+  }
+
+  @Override
+  public void skip(InputStream input) throws IOException {
+    valueParser.skip(input);
+  }
 }
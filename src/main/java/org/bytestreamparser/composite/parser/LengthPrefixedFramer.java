@@ -0,0 +1,222 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.api.parser.IntDataParser;
+
+/**
+ * Splits a continuous stream of length prefixed frames into frames, and parses every frame with a
+ * frame parser, e.g., an {@link ObjectParser}. The length prefix is the number of bytes of the
+ * frame, parsed with a length parser such as a 2 byte {@link
+ * org.bytestreamparser.scalar.parser.UnsignedShortParser}, or a {@link
+ * org.bytestreamparser.scalar.parser.StringIntegerParser} for ASCII or BCD digits.
+ *
+ * <p>Unlike parsing frames with a {@link VariableLengthParser} from an {@link InputStream}, which
+ * reads the stream field by field, every read fills a single receive buffer with as many bytes as
+ * are available, and all the complete frames in it are parsed from the buffer. A partial frame is
+ * kept in the buffer until the rest of it is read. The buffer grows if a frame does not fit. Bytes
+ * of a frame that are not read by the frame parser are skipped. A frame that can not be parsed is
+ * skipped as well before its exception is thrown, the frames after it are parsed by the next call.
+ *
+ * <p>A LengthPrefixedFramer is meant for a single connection and is not thread-safe. Note that the
+ * buffer is reused, and a partial frame is moved to its start before a read returns. Values that
+ * refer to their input, e.g., of {@link org.bytestreamparser.scalar.parser.BinarySliceParser} or
+ * {@link org.bytestreamparser.composite.data.LazyDataObject}s, are only valid until the consumer
+ * returns, and have to be copied by the consumer to be kept.
+ *
+ * @param <V> the type of the frames.
+ */
+public class LengthPrefixedFramer<V> {
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+  private static final String INVALID_LENGTH =
+      "%s: frame length must not be negative, but was [%d]";
+  private static final String END_OF_STREAM_REACHED =
+      "End of stream reached after reading %d bytes, bytes expected [%d]";
+  private final String id;
+  private final DataParser<Integer> lengthParser;
+  private final IntDataParser intLengthParser;
+  private final int lengthSize;
+  private final DataParser<V> frameParser;
+  private ByteBuffer buffer;
+  private int needed;
+
+  /**
+   * Creates a new LengthPrefixedFramer.
+   *
+   * @param id the ID of the framer.
+   * @param lengthParser the parser for the length prefix of the frames.
+   * @param frameParser the parser for the frames.
+   */
+  public LengthPrefixedFramer(
+      String id, DataParser<Integer> lengthParser, DataParser<V> frameParser) {
+    this(id, lengthParser, frameParser, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Creates a new LengthPrefixedFramer.
+   *
+   * @param id the ID of the framer.
+   * @param lengthParser the parser for the length prefix of the frames.
+   * @param frameParser the parser for the frames.
+   * @param bufferSize the initial size of the receive buffer, which grows as needed.
+   */
+  public LengthPrefixedFramer(
+      String id, DataParser<Integer> lengthParser, DataParser<V> frameParser, int bufferSize) {
+    this.id = id;
+    this.lengthParser = lengthParser;
+    this.intLengthParser =
+        lengthParser instanceof IntDataParser ? (IntDataParser) lengthParser : null;
+    OptionalInt fixedSize = lengthParser.fixedSize();
+    this.lengthSize = fixedSize.isPresent() ? fixedSize.getAsInt() : 1;
+    this.frameParser = frameParser;
+    this.buffer = ByteBuffer.allocate(Math.max(bufferSize, lengthSize));
+  }
+
+  /**
+   * Packs the value as a frame, i.e., its length followed by the value.
+   *
+   * @param value the value to be packed.
+   * @param output the {@link OutputStream} to write the frame.
+   * @throws IOException if an I/O error occurs.
+   */
+  public void pack(V value, OutputStream output) throws IOException {
+    byte[] frame = frameParser.packToBytes(value);
+    if (intLengthParser != null) {
+      intLengthParser.packInt(frame.length, output);
+    } else {
+      lengthParser.pack(frame.length, output);
+    }
+    output.write(frame);
+  }
+
+  /**
+   * Reads the channel to the end of the stream, passing every frame to the consumer as soon as it
+   * is parsed. The channel should be in blocking mode, see {@link #receive(ReadableByteChannel,
+   * Consumer)} otherwise.
+   *
+   * @param channel the {@link ReadableByteChannel} to read the frames from.
+   * @param consumer the consumer of the parsed frames.
+   * @throws IOException if an I/O error occurs, or the stream ends within a frame.
+   */
+  public void read(ReadableByteChannel channel, Consumer<? super V> consumer) throws IOException {
+    while (receive(channel, consumer)) {
+      // keep reading until the end of the stream
+    }
+    checkEndOfFrame();
+  }
+
+  /**
+   * Reads the input stream to the end, passing every frame to the consumer as soon as it is parsed.
+   *
+   * @param input the {@link InputStream} to read the frames from.
+   * @param consumer the consumer of the parsed frames.
+   * @throws IOException if an I/O error occurs, or the stream ends within a frame.
+   */
+  public void read(InputStream input, Consumer<? super V> consumer) throws IOException {
+    while (true) {
+      ensureCapacity();
+      int read =
+          input.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+      if (read < 0) {
+        break;
+      }
+      buffer.position(buffer.position() + read);
+      frames(consumer);
+    }
+    checkEndOfFrame();
+  }
+
+  /**
+   * Reads the bytes available from the channel with a single read, and passes all the frames
+   * completed by them to the consumer. A partial frame is kept until the next call. It suits
+   * non-blocking channels, where it is called whenever the channel is ready for reading.
+   *
+   * @param channel the {@link ReadableByteChannel} to read the frames from.
+   * @param consumer the consumer of the parsed frames.
+   * @return {@code false} if the end of the stream is reached, {@code true} otherwise.
+   * @throws IOException if an I/O error occurs.
+   */
+  public boolean receive(ReadableByteChannel channel, Consumer<? super V> consumer)
+      throws IOException {
+    ensureCapacity();
+    if (channel.read(buffer) < 0) {
+      return false;
+    }
+    frames(consumer);
+    return true;
+  }
+
+  /**
+   * Returns the number of bytes of a partial frame kept in the buffer.
+   *
+   * @return the number of buffered bytes.
+   */
+  public int buffered() {
+    return buffer.position();
+  }
+
+  private void frames(Consumer<? super V> consumer) throws IOException {
+    buffer.flip();
+    try {
+      while (buffer.hasRemaining()) {
+        needed = frame(consumer);
+        if (needed > 0) {
+          return;
+        }
+      }
+    } finally {
+      buffer.compact();
+    }
+  }
+
+  /**
+   * Parses the next frame if it is complete.
+   *
+   * @return 0 if the frame is parsed, otherwise the number of bytes needed for the frame.
+   */
+  private int frame(Consumer<? super V> consumer) throws IOException {
+    if (buffer.remaining() < lengthSize) {
+      return lengthSize;
+    }
+    ByteBuffer input = buffer.duplicate();
+    int length;
+    try {
+      length =
+          intLengthParser != null ? intLengthParser.parseInt(input) : lengthParser.parse(input);
+    } catch (EOFException | BufferUnderflowException e) {
+      return buffer.remaining() + 1;
+    }
+    check(length >= 0, INVALID_LENGTH, id, length);
+    int start = input.position();
+    if (input.remaining() < length) {
+      return start - buffer.position() + length;
+    }
+    // skip the frame first, so that a frame which can not be parsed does not block the next ones
+    buffer.position(start + length);
+    consumer.accept(frameParser.parse(input.slice(start, length)));
+    return 0;
+  }
+
+  private void ensureCapacity() {
+    int required = Math.max(needed, buffer.position() + 1);
+    if (required > buffer.capacity()) {
+      buffer = ByteBuffer.allocate(Math.max(required, buffer.capacity() * 2)).put(buffer.flip());
+    }
+  }
+
+  private void checkEndOfFrame() throws EOFException {
+    if (buffer.position() > 0) {
+      throw new EOFException(String.format(END_OF_STREAM_REACHED, buffer.position(), needed));
+    }
+  }
+}
@@ -3,13 +3,33 @@ package org.bytestreamparser.composite.parser;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.LinkedList;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.bytestreamparser.api.parser.DataParser;
 
 /**
  * A parser for a list of values.
  *
+ * <p>Besides parsing the whole list at once, the values can be streamed as they are parsed, with
+ * {@link #iterator(InputStream)}, {@link #stream(InputStream)} or {@link #parse(InputStream,
+ * Consumer)}, so that large lists do not have to be held in memory. By default, values are parsed
+ * until the input is exhausted. Subclasses may bound the list differently by overriding {@link
+ * #itemInput(InputStream)} and {@link #hasNext(InputStream, int)}, see {@link CountedListParser}
+ * and {@link BoundedListParser}.
+ *
+ * <p>A ListParser has no state of its own and is thread-safe if the item parser is. The iterators
+ * and streams it returns are not, they should be consumed by a single thread.
+ *
  * @param <V> the type of the values in the list.
  */
 public class ListParser<V> extends DataParser<List<V>> {
@@ -43,10 +63,285 @@ public class ListParser<V> extends DataParser<List<V>> {
    */
   @Override
   public List<V> parse(InputStream input) throws IOException {
-    LinkedList<V> values = new LinkedList<>();
-    while (input.available() > 0) {
-      values.add(itemParser.parse(input));
+    List<V> values = new ArrayList<>();
+    parse(input, values::add);
+    return values;
+  }
+
+  @Override
+  public void pack(List<V> values, ByteBuffer output) throws IOException {
+    for (V value : values) {
+      itemParser.pack(value, output);
     }
+  }
+
+  /**
+   * Parses a list of values from the given {@link ByteBuffer}. Note that this method reads all
+   * remaining bytes from the buffer.
+   *
+   * @param input the {@link ByteBuffer} to read the value from.
+   * @return the parsed list of values.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public List<V> parse(ByteBuffer input) throws IOException {
+    List<V> values = new ArrayList<>();
+    parse(input, values::add);
     return values;
   }
+
+  /**
+   * Parses the values from the given {@link InputStream}, passing every value to the consumer as
+   * soon as it is parsed.
+   *
+   * @param input the {@link InputStream} to read the values from.
+   * @param consumer the consumer of the parsed values.
+   * @throws IOException if an I/O error occurs.
+   */
+  public void parse(InputStream input, Consumer<? super V> consumer) throws IOException {
+    InputStream items = itemInput(input);
+    for (int parsed = 0; hasNext(items, parsed); parsed++) {
+      consumer.accept(itemParser.parse(items));
+    }
+  }
+
+  /**
+   * Parses the values from the given {@link ByteBuffer}, passing every value to the consumer as
+   * soon as it is parsed.
+   *
+   * @param input the {@link ByteBuffer} to read the values from.
+   * @param consumer the consumer of the parsed values.
+   * @throws IOException if an I/O error occurs.
+   */
+  public void parse(ByteBuffer input, Consumer<? super V> consumer) throws IOException {
+    ByteBuffer items = itemInput(input);
+    for (int parsed = 0; hasNext(items, parsed); parsed++) {
+      consumer.accept(itemParser.parse(items));
+    }
+  }
+
+  /**
+   * Skips over the values in the given {@link ByteBuffer}. If the list has a {@link #fixedSize()},
+   * the position is advanced by it, otherwise the values are skipped one by one with the item
+   * parser.
+   *
+   * @param input the {@link ByteBuffer} to skip the values in.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void skip(ByteBuffer input) throws IOException {
+    if (fixedSize().isPresent()) {
+      super.skip(input);
+      return;
+    }
+    ByteBuffer items = itemInput(input);
+    for (int skipped = 0; hasNext(items, skipped); skipped++) {
+      itemParser.skip(items);
+    }
+  }
+
+  /**
+   * Skips over the values in the given {@link InputStream}, by {@link #fixedSize()} bytes if
+   * present, otherwise one value at a time with the item parser.
+   *
+   * @param input the {@link InputStream} to skip the values in.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void skip(InputStream input) throws IOException {
+    if (fixedSize().isPresent()) {
+      super.skip(input);
+      return;
+    }
+    InputStream items = itemInput(input);
+    for (int skipped = 0; hasNext(items, skipped); skipped++) {
+      itemParser.skip(items);
+    }
+  }
+
+  /**
+   * Returns an iterator that parses the values from the given {@link InputStream} lazily, one value
+   * per call to {@link Iterator#next()}. I/O errors are thrown as {@link UncheckedIOException}.
+   *
+   * @param input the {@link InputStream} to read the values from.
+   * @return the iterator of the values.
+   * @throws IOException if an I/O error occurs.
+   */
+  public Iterator<V> iterator(InputStream input) throws IOException {
+    InputStream items = itemInput(input);
+    return new ItemIterator<>() {
+      @Override
+      protected boolean hasNext(int parsed) throws IOException {
+        return ListParser.this.hasNext(items, parsed);
+      }
+
+      @Override
+      protected V parse() throws IOException {
+        return itemParser.parse(items);
+      }
+    };
+  }
+
+  /**
+   * Returns an iterator that parses the values from the given {@link ByteBuffer} lazily, one value
+   * per call to {@link Iterator#next()}. I/O errors are thrown as {@link UncheckedIOException}.
+   *
+   * @param input the {@link ByteBuffer} to read the values from.
+   * @return the iterator of the values.
+   * @throws IOException if an I/O error occurs.
+   */
+  public Iterator<V> iterator(ByteBuffer input) throws IOException {
+    ByteBuffer items = itemInput(input);
+    return new ItemIterator<>() {
+      @Override
+      protected boolean hasNext(int parsed) throws IOException {
+        return ListParser.this.hasNext(items, parsed);
+      }
+
+      @Override
+      protected V parse() throws IOException {
+        return itemParser.parse(items);
+      }
+    };
+  }
+
+  /**
+   * Returns a sequential, ordered stream that parses the values from the given {@link InputStream}
+   * lazily. I/O errors are thrown as {@link UncheckedIOException}.
+   *
+   * @param input the {@link InputStream} to read the values from.
+   * @return the stream of the values.
+   * @throws IOException if an I/O error occurs.
+   */
+  public Stream<V> stream(InputStream input) throws IOException {
+    return stream(iterator(input));
+  }
+
+  /**
+   * Returns a sequential, ordered stream that parses the values from the given {@link ByteBuffer}
+   * lazily. I/O errors are thrown as {@link UncheckedIOException}.
+   *
+   * @param input the {@link ByteBuffer} to read the values from.
+   * @return the stream of the values.
+   * @throws IOException if an I/O error occurs.
+   */
+  public Stream<V> stream(ByteBuffer input) throws IOException {
+    return stream(iterator(input));
+  }
+
+  /**
+   * Returns the input stream the items are read from. The default implementation returns the input
+   * stream itself.
+   *
+   * @param input the {@link InputStream} the list is read from.
+   * @return the {@link InputStream} to read the items from.
+   * @throws IOException if an I/O error occurs.
+   */
+  protected InputStream itemInput(InputStream input) throws IOException {
+    return input;
+  }
+
+  /**
+   * Returns the buffer the items are read from. The default implementation returns the buffer
+   * itself.
+   *
+   * @param input the {@link ByteBuffer} the list is read from.
+   * @return the {@link ByteBuffer} to read the items from.
+   * @throws IOException if an I/O error occurs.
+   */
+  protected ByteBuffer itemInput(ByteBuffer input) throws IOException {
+    return input;
+  }
+
+  /**
+   * Returns whether there are more items to parse. The default implementation checks for {@link
+   * InputStream#available()} bytes.
+   *
+   * @param input the {@link InputStream} returned by {@link #itemInput(InputStream)}.
+   * @param parsed the number of items parsed so far.
+   * @return {@code true} if there are more items, {@code false} otherwise.
+   * @throws IOException if an I/O error occurs.
+   */
+  protected boolean hasNext(InputStream input, int parsed) throws IOException {
+    return input.available() > 0;
+  }
+
+  /**
+   * Returns whether there are more items to parse. The default implementation checks for remaining
+   * bytes in the buffer.
+   *
+   * @param input the {@link ByteBuffer} returned by {@link #itemInput(ByteBuffer)}.
+   * @param parsed the number of items parsed so far.
+   * @return {@code true} if there are more items, {@code false} otherwise.
+   * @throws IOException if an I/O error occurs.
+   */
+  protected boolean hasNext(ByteBuffer input, int parsed) throws IOException {
+    return input.hasRemaining();
+  }
+
+  private static <V> Stream<V> stream(Iterator<V> iterator) {
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+  }
+
+  private abstract static class ItemIterator<V> implements Iterator<V> {
+    private int parsed;
+
+    protected abstract boolean hasNext(int parsed) throws IOException;
+
+    protected abstract V parse() throws IOException;
+
+    @Override
+    public boolean hasNext() {
+      try {
+        return hasNext(parsed);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public V next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      try {
+        V value = parse();
+        parsed++;
+        return value;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of bytes of all the values. If the item parser has a fixed size, the values
+   * are not measured one by one.
+   *
+   * @param values the values to be measured.
+   * @return the number of bytes.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public int sizeOf(List<V> values) throws IOException {
+    OptionalInt itemSize = itemParser.fixedSize();
+    if (itemSize.isPresent()) {
+      return values.size() * itemSize.getAsInt();
+    }
+    int size = 0;
+    for (V value : values) {
+      size += itemParser.sizeOf(value);
+    }
+    return size;
+  }
+
+  /**
+   * Returns the parser for the list items.
+   *
+   * @return the item parser.
+   */
+  protected DataParser<V> itemParser() {
+    return itemParser;
+  }
 }
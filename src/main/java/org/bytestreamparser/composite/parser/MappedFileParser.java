@@ -0,0 +1,263 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.bytestreamparser.api.parser.DataParser;
+
+/**
+ * Parses the items of a file with an item parser, over memory mapped regions of the file instead of
+ * an {@link java.io.InputStream}. The items are parsed with {@link DataParser#parse(ByteBuffer)}
+ * straight from the mapped memory, so the bytes are neither copied from the kernel nor into an
+ * intermediate buffer, and repeated runs are served from the page cache.
+ *
+ * <p>The file is mapped in windows of at most {@link Integer#MAX_VALUE} bytes, so files larger than
+ * 2GB are supported. The items do not need to be of fixed size, an item crossing the end of a
+ * window is parsed again from a window starting at the item. Every item must fit in a window.
+ *
+ * <p>A window overrun is only noticed when the item parser runs out of bytes, so the item parser
+ * must know the length of an item without reading to the end of its input. A plain {@link
+ * ListParser} would silently stop at the end of a window instead, so list item parsers are
+ * rejected unless they are a {@link CountedListParser} or a {@link BoundedListParser}. The same
+ * holds for any other parser that reads until its input is empty, e.g., an {@link ObjectParser}
+ * ending with a plain {@link ListParser}, which must not be used as an item parser.
+ *
+ * <p>Note that values that refer to the input, e.g., of {@link
+ * org.bytestreamparser.scalar.parser.BinarySliceParser} or {@link
+ * org.bytestreamparser.composite.data.LazyDataObject}s, refer to the mapped file, which must not be
+ * changed while they are in use.
+ *
+ * <p>The windows are mapped per call, so a MappedFileParser is thread-safe if its item parser is.
+ * A {@link FileChannel} has a single position though, it should be parsed by one call at a time.
+ *
+ * @param <V> the type of the items.
+ */
+public class MappedFileParser<V> {
+  private static final String INVALID_WINDOW_SIZE =
+      "%s: window size must be greater than 0, but was [%d]";
+  private static final String UNBOUNDED_ITEM_PARSER =
+      "%s: item parser [%s] must not read to the end of its input";
+  private final DataParser<V> itemParser;
+  private final int windowSize;
+
+  /**
+   * Creates a new MappedFileParser.
+   *
+   * @param itemParser the parser for the items of the file, which must know the length of an item
+   *     without reading to the end of its input.
+   */
+  public MappedFileParser(DataParser<V> itemParser) {
+    this(itemParser, Integer.MAX_VALUE);
+  }
+
+  MappedFileParser(DataParser<V> itemParser, int windowSize) {
+    check(windowSize > 0, INVALID_WINDOW_SIZE, itemParser.getId(), windowSize);
+    check(
+        !(itemParser instanceof ListParser)
+            || itemParser instanceof CountedListParser
+            || itemParser instanceof BoundedListParser,
+        UNBOUNDED_ITEM_PARSER,
+        itemParser.getId(),
+        itemParser.getClass().getName());
+    this.itemParser = itemParser;
+    this.windowSize = windowSize;
+  }
+
+  /**
+   * Parses all the items of the file.
+   *
+   * @param file the file to read the items from.
+   * @return the parsed items.
+   * @throws IOException if an I/O error occurs.
+   */
+  public List<V> parse(Path file) throws IOException {
+    List<V> items = new ArrayList<>();
+    parse(file, items::add);
+    return items;
+  }
+
+  /**
+   * Parses all the items of the file, passing every item to the consumer as soon as it is parsed.
+   *
+   * @param file the file to read the items from.
+   * @param consumer the consumer of the parsed items.
+   * @throws IOException if an I/O error occurs.
+   */
+  public void parse(Path file, Consumer<? super V> consumer) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      parse(channel, consumer);
+    }
+  }
+
+  /**
+   * Parses the items from the current position to the end of the file, passing every item to the
+   * consumer as soon as it is parsed. The position of the channel is advanced past the parsed items
+   * when the call returns, or throws.
+   *
+   * @param channel the {@link FileChannel} to read the items from.
+   * @param consumer the consumer of the parsed items.
+   * @throws IOException if an I/O error occurs.
+   */
+  public void parse(FileChannel channel, Consumer<? super V> consumer) throws IOException {
+    Items items = new Items(channel);
+    try {
+      while (items.hasNext()) {
+        consumer.accept(items.parse());
+      }
+    } finally {
+      items.sync();
+    }
+  }
+
+  /**
+   * Returns a sequential, ordered stream that parses the items of the file lazily. The file is
+   * closed when the stream is closed. I/O errors are thrown as {@link UncheckedIOException}.
+   *
+   * @param file the file to read the items from.
+   * @return the stream of the items.
+   * @throws IOException if the file can not be opened.
+   */
+  public Stream<V> stream(Path file) throws IOException {
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      return stream(channel).onClose(() -> close(channel));
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns a sequential, ordered stream that parses the items from the current position to the end
+   * of the file lazily. The position of the channel is advanced past the parsed items once the
+   * items run out, or an item can not be parsed. I/O errors are thrown as {@link
+   * UncheckedIOException}.
+   *
+   * @param channel the {@link FileChannel} to read the items from.
+   * @return the stream of the items.
+   * @throws IOException if an I/O error occurs.
+   */
+  public Stream<V> stream(FileChannel channel) throws IOException {
+    Items items = new Items(channel);
+    Iterator<V> iterator =
+        new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            if (items.hasNext()) {
+              return true;
+            }
+            sync(items);
+            return false;
+          }
+
+          @Override
+          public V next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            try {
+              return items.parse();
+            } catch (IOException e) {
+              sync(items);
+              throw new UncheckedIOException(e);
+            }
+          }
+        };
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+  }
+
+  /**
+   * Maps a read-only window of the channel, of at most the window size and not past the end.
+   *
+   * @param channel the {@link FileChannel} to map.
+   * @param position the position in the file, where the window starts.
+   * @param end the position in the file, where the mapped region ends.
+   * @param windowSize the maximum size of the window.
+   * @return the mapped window.
+   * @throws IOException if the window can not be mapped.
+   */
+  static ByteBuffer map(FileChannel channel, long position, long end, int windowSize)
+      throws IOException {
+    return channel.map(
+        FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, end - position));
+  }
+
+  private void sync(Items items) {
+    try {
+      items.sync();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void close(FileChannel channel) {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * The items of a channel, parsed over a window that is moved along the file. The position of the
+   * channel is only updated on {@link #sync()}, not for every item.
+   */
+  private final class Items {
+    private final FileChannel channel;
+    private final long size;
+    private long windowStart;
+    private ByteBuffer window;
+
+    private Items(FileChannel channel) throws IOException {
+      this.channel = channel;
+      this.size = channel.size();
+      map(channel.position());
+    }
+
+    private boolean hasNext() {
+      return windowStart + window.position() < size;
+    }
+
+    private V parse() throws IOException {
+      while (true) {
+        int start = window.position();
+        try {
+          return itemParser.parse(window);
+        } catch (EOFException | BufferUnderflowException e) {
+          if (windowStart + window.limit() == size || start == 0) {
+            // the item is truncated at the end of the file, or larger than a window
+            throw e;
+          }
+          map(windowStart + start);
+        }
+      }
+    }
+
+    private void sync() throws IOException {
+      channel.position(windowStart + window.position());
+    }
+
+    private void map(long position) throws IOException {
+      windowStart = position;
+      window = MappedFileParser.map(channel, position, size, windowSize);
+      channel.position(position);
+    }
+  }
+}
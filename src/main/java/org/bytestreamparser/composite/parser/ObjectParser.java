@@ -1,21 +1,61 @@
 package org.bytestreamparser.composite.parser;
 
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.function.Supplier;
 import org.bytestreamparser.api.parser.DataParser;
 import org.bytestreamparser.composite.data.DataObject;
+import org.bytestreamparser.composite.data.DataObjectPool;
+import org.bytestreamparser.composite.data.FieldLayout;
+import org.bytestreamparser.composite.data.IndexedDataObject;
+import org.bytestreamparser.composite.data.LazyDataObject;
+import org.bytestreamparser.scalar.util.ByteBuffers;
 
 /**
  * A parser for a data object.
  *
+ * <p>If the data object is an {@link IndexedDataObject}, the field parsers are resolved once
+ * against its {@link FieldLayout} into an array of slots, so that field values are read and
+ * written by index rather than by identifier.
+ *
+ * <p>If the data object is a {@link LazyDataObject}, parsing from a {@link ByteBuffer} only scans
+ * the field boundaries with {@link DataParser#skip(ByteBuffer)}, and every field is decoded when it
+ * is first read. Packing copies the bytes of the fields that have not been read or changed.
+ *
+ * <p>Instead of creating a new instance for every value, values can be parsed into an existing
+ * instance with {@link #parse(InputStream, DataObject)} and {@link #parse(ByteBuffer, DataObject)},
+ * or the instances can be taken from a {@link DataObjectPool}
+ * passed as the instance supplier.
+ *
+ * <p>When only some of the fields are needed, {@link #project(Collection)} returns a parser that
+ * skips the other fields with {@link DataParser#skip(InputStream)} and {@link
+ * DataParser#skip(ByteBuffer)} instead of decoding them.
+ *
+ * <p>An ObjectParser is thread-safe if its field parsers, predicates and instance supplier are. The
+ * only state it keeps is the resolved slots of the last seen {@link FieldLayout}, which are
+ * immutable and published through a volatile field, so racing threads at worst resolve them twice.
+ *
  * @param <V> the type of the data object.
  */
 public class ObjectParser<V extends DataObject<V>> extends DataParser<V> {
+  private static final int NO_SLOT = -1;
+  private static final String UNKNOWN_FIELD = "%s: unknown field [%s]";
   private final Supplier<V> instanceSupplier;
-  private final List<? extends DataFieldParser<V, ?>> fieldParsers;
+  private final DataFieldParser<V, ?>[] fieldParsers;
+  private final boolean[] alwaysApplicable;
+  private final boolean[] skipped;
+  private final boolean skippable;
+  private final OptionalInt fixedSize;
+  private final OptionalInt maxSize;
+  private volatile Slots slots;
 
   /**
    * Creates a new ObjectParser.
@@ -24,30 +64,353 @@ public class ObjectParser<V extends DataObject<V>> extends DataParser<V> {
    * @param instanceSupplier a supplier for creating new instances of the data object.
    * @param fieldParsers the parsers for the fields of the data object.
    */
+  // the array only ever holds the parsers of the list, so the cast from wildcards is safe
+  @SuppressWarnings("unchecked")
   public ObjectParser(
       String id, Supplier<V> instanceSupplier, List<? extends DataFieldParser<V, ?>> fieldParsers) {
     super(id);
     this.instanceSupplier = instanceSupplier;
-    this.fieldParsers = fieldParsers;
+    this.fieldParsers =
+        (DataFieldParser<V, ?>[]) fieldParsers.toArray(new DataFieldParser<?, ?>[0]);
+    this.alwaysApplicable = new boolean[this.fieldParsers.length];
+    for (int i = 0; i < this.fieldParsers.length; i++) {
+      alwaysApplicable[i] = this.fieldParsers[i].alwaysApplicable();
+    }
+    this.skipped = null;
+    this.skippable = allTrue(alwaysApplicable);
+    this.maxSize = sum(this.fieldParsers, false);
+    this.fixedSize = sum(this.fieldParsers, true);
+  }
+
+  private ObjectParser(ObjectParser<V> parser, boolean[] skipped) {
+    super(parser.getId());
+    this.instanceSupplier = parser.instanceSupplier;
+    this.fieldParsers = parser.fieldParsers;
+    this.alwaysApplicable = parser.alwaysApplicable;
+    this.skipped = skipped;
+    this.skippable = parser.skippable;
+    this.maxSize = parser.maxSize;
+    this.fixedSize = parser.fixedSize;
+  }
+
+  private static boolean allTrue(boolean[] values) {
+    for (boolean value : values) {
+      if (!value) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Sums up the fixed or maximum sizes of the field parsers. A fixed size requires every field to
+   * be always applicable, whereas a maximum size assumes every conditional field is present.
+   */
+  private static OptionalInt sum(DataFieldParser<?, ?>[] fieldParsers, boolean fixed) {
+    int sum = 0;
+    for (DataFieldParser<?, ?> fieldParser : fieldParsers) {
+      OptionalInt size = fixed ? fieldParser.fixedSize() : fieldParser.maxSize();
+      if (size.isEmpty() || fixed && !fieldParser.alwaysApplicable()) {
+        return OptionalInt.empty();
+      }
+      sum += size.getAsInt();
+    }
+    return OptionalInt.of(sum);
   }
 
   @Override
   public void pack(V value, OutputStream output) throws IOException {
-    for (DataFieldParser<V, ?> fieldParser : fieldParsers) {
-      if (fieldParser.applicable(value)) {
-        fieldParser.pack(value.get(fieldParser.getId()), output);
+    int[] indexes = slots(value);
+    for (int i = 0; i < fieldParsers.length; i++) {
+      DataFieldParser<V, ?> fieldParser = fieldParsers[i];
+      if (alwaysApplicable[i] || fieldParser.applicable(value)) {
+        ByteBuffer raw = raw(value, i);
+        if (raw != null) {
+          output.write(ByteBuffers.readFully(raw, raw.remaining()));
+        } else {
+          fieldParser.pack(get(value, indexes, i), output);
+        }
       }
     }
   }
 
   @Override
   public V parse(InputStream input) throws IOException {
-    V instance = instanceSupplier.get();
-    for (DataFieldParser<V, ?> fieldParser : fieldParsers) {
-      if (fieldParser.applicable(instance)) {
-        instance.set(fieldParser.getId(), fieldParser.parse(input));
+    return fill(instanceSupplier.get(), input);
+  }
+
+  /**
+   * Parses the value from the input stream into an existing instance, which is {@link
+   * DataObject#clear() cleared} first.
+   *
+   * @param input the {@link InputStream} to read the value from.
+   * @param instance the data object to parse the value into.
+   * @return the data object itself.
+   * @throws IOException if an I/O error occurs.
+   */
+  public V parse(InputStream input, V instance) throws IOException {
+    return fill(instance.clear(), input);
+  }
+
+  private V fill(V instance, InputStream input) throws IOException {
+    int[] indexes = slots(instance);
+    for (int i = 0; i < fieldParsers.length; i++) {
+      DataFieldParser<V, ?> fieldParser = fieldParsers[i];
+      if (!alwaysApplicable[i] && !fieldParser.applicable(instance)) {
+        continue;
+      } else if (skipped != null && skipped[i]) {
+        fieldParser.skip(input);
+      } else {
+        set(instance, indexes, i, fieldParser.parse(input));
+      }
+    }
+    return instance;
+  }
+
+  @Override
+  public void pack(V value, ByteBuffer output) throws IOException {
+    int[] indexes = slots(value);
+    for (int i = 0; i < fieldParsers.length; i++) {
+      DataFieldParser<V, ?> fieldParser = fieldParsers[i];
+      if (alwaysApplicable[i] || fieldParser.applicable(value)) {
+        ByteBuffer raw = raw(value, i);
+        if (raw != null) {
+          output.put(raw);
+        } else {
+          fieldParser.pack(get(value, indexes, i), output);
+        }
+      }
+    }
+  }
+
+  @Override
+  public V parse(ByteBuffer input) throws IOException {
+    return fill(instanceSupplier.get(), input);
+  }
+
+  /**
+   * Parses the value from the buffer into an existing instance, which is {@link DataObject#clear()
+   * cleared} first.
+   *
+   * @param input the {@link ByteBuffer} to read the value from.
+   * @param instance the data object to parse the value into.
+   * @return the data object itself.
+   * @throws IOException if an I/O error occurs.
+   */
+  public V parse(ByteBuffer input, V instance) throws IOException {
+    return fill(instance.clear(), input);
+  }
+
+  private V fill(V instance, ByteBuffer input) throws IOException {
+    if (instance instanceof LazyDataObject) {
+      return scan(instance, (LazyDataObject<?>) instance, input);
+    }
+    int[] indexes = slots(instance);
+    for (int i = 0; i < fieldParsers.length; i++) {
+      DataFieldParser<V, ?> fieldParser = fieldParsers[i];
+      if (!alwaysApplicable[i] && !fieldParser.applicable(instance)) {
+        continue;
+      } else if (skipped != null && skipped[i]) {
+        fieldParser.skip(input);
+      } else {
+        set(instance, indexes, i, fieldParser.parse(input));
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Skips over a value in the input stream. Without conditional fields, every field is skipped with
+   * its own parser, otherwise the value is parsed, since the predicates need the decoded fields.
+   * The instance it is parsed into is released again if the instance supplier is a {@link
+   * DataObjectPool}.
+   *
+   * @param input the {@link InputStream} to skip the value in.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void skip(InputStream input) throws IOException {
+    if (fixedSize.isPresent()) {
+      super.skip(input);
+    } else if (!skippable) {
+      V instance = instanceSupplier.get();
+      try {
+        fill(instance, input);
+      } finally {
+        release(instance);
+      }
+    } else {
+      for (DataFieldParser<V, ?> fieldParser : fieldParsers) {
+        fieldParser.skip(input);
+      }
+    }
+  }
+
+  /**
+   * Skips over a value in the buffer. Without conditional fields, every field is skipped with its
+   * own parser, otherwise the value is parsed, since the predicates need the decoded fields. The
+   * instance it is parsed into is released again if the instance supplier is a {@link
+   * DataObjectPool}.
+   *
+   * @param input the {@link ByteBuffer} to skip the value in.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void skip(ByteBuffer input) throws IOException {
+    if (fixedSize.isPresent()) {
+      super.skip(input);
+    } else if (!skippable) {
+      V instance = instanceSupplier.get();
+      try {
+        fill(instance, input);
+      } finally {
+        release(instance);
+      }
+    } else {
+      for (DataFieldParser<V, ?> fieldParser : fieldParsers) {
+        fieldParser.skip(input);
+      }
+    }
+  }
+
+  // a pool passed as the supplier of V only ever holds instances of V
+  @SuppressWarnings("unchecked")
+  private void release(V instance) {
+    if (instanceSupplier instanceof DataObjectPool) {
+      ((DataObjectPool<V>) instanceSupplier).release(instance);
+    }
+  }
+
+  /**
+   * Returns a parser that only materializes the given fields, the other fields are skipped without
+   * being decoded and are left unset on the parsed data objects. Note that the predicates of
+   * conditional fields only see the fields that are materialized, so the fields they depend on
+   * must be part of the projection. The returned parser is meant for parsing, packing a projected
+   * data object fails on the missing fields.
+   *
+   * @param ids the identifiers of the fields to materialize.
+   * @return the projected parser.
+   * @throws IllegalArgumentException if an identifier is not a field of this parser.
+   */
+  public ObjectParser<V> project(Collection<String> ids) {
+    boolean[] unprojected = new boolean[fieldParsers.length];
+    Arrays.fill(unprojected, true);
+    for (String id : ids) {
+      boolean known = false;
+      for (int i = 0; i < fieldParsers.length; i++) {
+        if (fieldParsers[i].getId().equals(id)) {
+          unprojected[i] = false;
+          known = true;
+        }
+      }
+      check(known, UNKNOWN_FIELD, getId(), id);
+    }
+    return new ObjectParser<>(this, unprojected);
+  }
+
+  @Override
+  public OptionalInt fixedSize() {
+    return fixedSize;
+  }
+
+  @Override
+  public OptionalInt maxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Returns the number of bytes of the applicable fields of the value.
+   *
+   * @param value the value to be measured.
+   * @return the number of bytes.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public int sizeOf(V value) throws IOException {
+    if (fixedSize.isPresent()) {
+      return fixedSize.getAsInt();
+    }
+    int[] indexes = slots(value);
+    int size = 0;
+    for (int i = 0; i < fieldParsers.length; i++) {
+      DataFieldParser<V, ?> fieldParser = fieldParsers[i];
+      if (alwaysApplicable[i] || fieldParser.applicable(value)) {
+        ByteBuffer raw = raw(value, i);
+        size += raw != null ? raw.remaining() : fieldParser.sizeOf(get(value, indexes, i));
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Scans the fields from the buffer into the lazy data object, deferring every field to a range of
+   * the buffer. Note that predicates of conditional fields decode the fields they read.
+   */
+  private V scan(V instance, LazyDataObject<?> lazy, ByteBuffer input) throws IOException {
+    for (int i = 0; i < fieldParsers.length; i++) {
+      DataFieldParser<V, ?> fieldParser = fieldParsers[i];
+      if (alwaysApplicable[i] || fieldParser.applicable(instance)) {
+        int start = input.position();
+        fieldParser.skip(input);
+        if (skipped == null || !skipped[i]) {
+          lazy.defer(fieldParser.getId(), fieldParser, input, start, input.position() - start);
+        }
       }
     }
     return instance;
   }
+
+  private ByteBuffer raw(V value, int field) {
+    return value instanceof LazyDataObject
+        ? ((LazyDataObject<?>) value).raw(fieldParsers[field].getId())
+        : null;
+  }
+
+  /**
+   * Returns the index of every field parser in the layout of the data object, or {@code null} if
+   * the data object is not an {@link IndexedDataObject}. The indexes are cached for the last seen
+   * layout, which is normally shared by all the instances.
+   */
+  private int[] slots(V instance) {
+    if (!(instance instanceof IndexedDataObject)) {
+      return null;
+    }
+    FieldLayout layout = ((IndexedDataObject<?>) instance).layout();
+    Slots current = slots;
+    if (current == null || current.layout != layout) {
+      int[] indexes = new int[fieldParsers.length];
+      for (int i = 0; i < fieldParsers.length; i++) {
+        indexes[i] = layout.index(fieldParsers[i].getId());
+      }
+      current = new Slots(layout, indexes);
+      slots = current;
+    }
+    return current.indexes;
+  }
+
+  private <F> F get(V instance, int[] indexes, int field) {
+    if (indexes != null && indexes[field] != NO_SLOT) {
+      return ((IndexedDataObject<?>) instance).get(indexes[field]);
+    } else {
+      return instance.get(fieldParsers[field].getId());
+    }
+  }
+
+  private void set(V instance, int[] indexes, int field, Object value) {
+    if (indexes != null && indexes[field] != NO_SLOT) {
+      ((IndexedDataObject<?>) instance).set(indexes[field], value);
+    } else {
+      instance.set(fieldParsers[field].getId(), value);
+    }
+  }
+
+  private static final class Slots {
+    private final FieldLayout layout;
+    private final int[] indexes;
+
+    private Slots(FieldLayout layout, int[] indexes) {
+      this.layout = layout;
+      this.indexes = indexes;
+    }
+  }
 }
@@ -0,0 +1,232 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.bytestreamparser.api.parser.DataParser;
+
+/**
+ * A parser for a list of fixed-length records, which parses the records in parallel. Since every
+ * record takes up the same number of bytes, the record boundaries are known without parsing, and
+ * every record is parsed from its own slice of the input. The order of the records is kept.
+ *
+ * <p>Only the {@link ByteBuffer} and {@link FileChannel} methods are parallel, the {@link
+ * java.io.InputStream} methods are inherited from {@link ListParser} and parse sequentially. The
+ * item parser must be safe to use from multiple threads at once, which holds for all the parsers of
+ * this library as long as the functions they are built from are thread-safe, see {@link
+ * DataParser}. The parser itself is thread-safe on the same condition.
+ *
+ * @param <V> the type of the values in the list.
+ */
+public class ParallelListParser<V> extends ListParser<V> {
+  private static final String INVALID_RECORD_LENGTH =
+      "%s: record length must be greater than 0, but was [%d]";
+  private static final String NOT_FIXED_SIZE = "%s: item parser [%s] must have a fixed size";
+  private static final String END_OF_RECORD_REACHED =
+      "End of stream reached after reading %d bytes, bytes expected [%d]";
+  private final int recordLength;
+  private final ForkJoinPool pool;
+  private final int windowSize;
+
+  /**
+   * Creates a new ParallelListParser that parses in the {@link ForkJoinPool#commonPool()}, where
+   * the record length is the {@link DataParser#fixedSize()} of the item parser.
+   *
+   * @param id the ID of the parser.
+   * @param itemParser the parser for the records, which must have a fixed size.
+   */
+  public ParallelListParser(String id, DataParser<V> itemParser) {
+    this(id, recordLength(id, itemParser), itemParser);
+  }
+
+  /**
+   * Creates a new ParallelListParser, where the record length is the {@link DataParser#fixedSize()}
+   * of the item parser.
+   *
+   * @param id the ID of the parser.
+   * @param itemParser the parser for the records, which must have a fixed size.
+   * @param pool the {@link ForkJoinPool} to parse the records in.
+   */
+  public ParallelListParser(String id, DataParser<V> itemParser, ForkJoinPool pool) {
+    this(id, recordLength(id, itemParser), itemParser, pool);
+  }
+
+  /**
+   * Creates a new ParallelListParser that parses in the {@link ForkJoinPool#commonPool()}.
+   *
+   * @param id the ID of the parser.
+   * @param recordLength the number of bytes of every record.
+   * @param itemParser the parser for the records.
+   */
+  public ParallelListParser(String id, int recordLength, DataParser<V> itemParser) {
+    this(id, recordLength, itemParser, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a new ParallelListParser.
+   *
+   * @param id the ID of the parser.
+   * @param recordLength the number of bytes of every record.
+   * @param itemParser the parser for the records.
+   * @param pool the {@link ForkJoinPool} to parse the records in.
+   */
+  public ParallelListParser(
+      String id, int recordLength, DataParser<V> itemParser, ForkJoinPool pool) {
+    this(id, recordLength, itemParser, pool, Integer.MAX_VALUE);
+  }
+
+  ParallelListParser(
+      String id, int recordLength, DataParser<V> itemParser, ForkJoinPool pool, int windowSize) {
+    super(id, itemParser);
+    check(recordLength > 0, INVALID_RECORD_LENGTH, id, recordLength);
+    this.recordLength = recordLength;
+    this.pool = pool;
+    this.windowSize = Math.max(windowSize / recordLength, 1) * recordLength;
+  }
+
+  private static int recordLength(String id, DataParser<?> itemParser) {
+    OptionalInt fixedSize = itemParser.fixedSize();
+    check(fixedSize.isPresent(), NOT_FIXED_SIZE, id, itemParser.getId());
+    return fixedSize.getAsInt();
+  }
+
+  /**
+   * Parses all the records remaining in the buffer in parallel.
+   *
+   * @param input the {@link ByteBuffer} to read the records from.
+   * @return the parsed records, in their original order.
+   * @throws IOException if the remaining bytes are not a multiple of the record length, or a record
+   *     can not be parsed.
+   */
+  @Override
+  public List<V> parse(ByteBuffer input) throws IOException {
+    return collect(stream(input));
+  }
+
+  /**
+   * Returns a parallel, ordered stream of the records remaining in the buffer. The position of the
+   * buffer is advanced past all the records before the stream is returned. I/O errors are thrown as
+   * {@link UncheckedIOException}.
+   *
+   * @param input the {@link ByteBuffer} to read the records from.
+   * @return the stream of the records.
+   * @throws IOException if the remaining bytes are not a multiple of the record length.
+   */
+  @Override
+  public Stream<V> stream(ByteBuffer input) throws IOException {
+    ByteBuffer records = itemInput(input);
+    int count = records.remaining() / recordLength;
+    return IntStream.range(0, count)
+        .parallel()
+        .mapToObj(index -> parseRecord(records, index * recordLength));
+  }
+
+  /**
+   * Parses all the records from the current position to the end of the file in parallel.
+   *
+   * @param channel the {@link FileChannel} to read the records from.
+   * @return the parsed records, in their original order.
+   * @throws IOException if the remaining bytes are not a multiple of the record length, or a record
+   *     can not be parsed.
+   */
+  public List<V> parse(FileChannel channel) throws IOException {
+    return collect(stream(channel));
+  }
+
+  /**
+   * Returns a parallel, ordered stream of the records from the current position to the end of the
+   * file. The file is memory mapped in windows of whole records, so files larger than 2GB are
+   * supported. The position of the channel is advanced to the end of the file before the stream is
+   * returned. I/O errors are thrown as {@link UncheckedIOException}.
+   *
+   * @param channel the {@link FileChannel} to read the records from.
+   * @return the stream of the records.
+   * @throws IOException if the remaining bytes are not a multiple of the record length, or the file
+   *     can not be mapped.
+   */
+  public Stream<V> stream(FileChannel channel) throws IOException {
+    long position = channel.position();
+    long end = channel.size();
+    long size = end - position;
+    checkRecords(size);
+    ByteBuffer[] windows = new ByteBuffer[(int) ((size + windowSize - 1) / windowSize)];
+    for (int i = 0; i < windows.length; i++) {
+      windows[i] = MappedFileParser.map(channel, position + (long) i * windowSize, end, windowSize);
+    }
+    channel.position(end);
+    int recordsPerWindow = windowSize / recordLength;
+    return LongStream.range(0, size / recordLength)
+        .parallel()
+        .mapToObj(
+            index ->
+                parseRecord(
+                    windows[(int) (index / recordsPerWindow)],
+                    (int) (index % recordsPerWindow) * recordLength));
+  }
+
+  /**
+   * Skips over all the records remaining in the buffer, without parsing them.
+   *
+   * @param input the {@link ByteBuffer} to skip the records in.
+   * @throws IOException if the remaining bytes are not a multiple of the record length.
+   */
+  @Override
+  public void skip(ByteBuffer input) throws IOException {
+    itemInput(input);
+  }
+
+  @Override
+  public int sizeOf(List<V> values) {
+    return values.size() * recordLength;
+  }
+
+  /**
+   * Returns a slice of all the records remaining in the buffer, advancing the position of the
+   * buffer past them.
+   *
+   * @param input the {@link ByteBuffer} the list is read from.
+   * @return the {@link ByteBuffer} to read the records from.
+   * @throws IOException if the remaining bytes are not a multiple of the record length.
+   */
+  @Override
+  protected ByteBuffer itemInput(ByteBuffer input) throws IOException {
+    checkRecords(input.remaining());
+    ByteBuffer records = input.slice();
+    input.position(input.limit());
+    return records;
+  }
+
+  private void checkRecords(long size) throws EOFException {
+    long partial = size % recordLength;
+    if (partial != 0) {
+      throw new EOFException(String.format(END_OF_RECORD_REACHED, partial, recordLength));
+    }
+  }
+
+  private V parseRecord(ByteBuffer records, int offset) {
+    try {
+      return itemParser().parse(records.slice(offset, recordLength));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private List<V> collect(Stream<V> records) throws IOException {
+    try {
+      return pool.submit(() -> records.collect(Collectors.toList())).join();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+}
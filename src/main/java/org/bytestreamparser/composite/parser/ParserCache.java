@@ -0,0 +1,103 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import org.bytestreamparser.api.parser.DataParser;
+
+/**
+ * A cache of length specialized parsers, to be used as the value parser provider of a {@link
+ * VariableLengthParser#ofInt VariableLengthParser}, so that a parser is not created for every
+ * value, e.g., {@code new ParserCache<>(length -> new CharStringParser("pan", length, charset))}.
+ *
+ * <p>Parsers for lengths below the dense size are kept in an array indexed by length. Parsers for
+ * larger lengths are kept in a map of at most the maximum size, where an arbitrary entry is evicted
+ * to make room for a new one. Negative lengths are not cached.
+ *
+ * <p>A ParserCache is thread-safe, the parsers are created at most once per length unless parsers
+ * are created concurrently for the same length, in which case one of them is kept. Note that the
+ * cached parsers are shared, so they must be thread-safe if the cache is used by multiple threads.
+ *
+ * @param <V> the type of the values.
+ */
+public class ParserCache<V> implements IntFunction<DataParser<V>> {
+  private static final int DEFAULT_DENSE_SIZE = 256;
+  private static final int DEFAULT_MAX_SIZE = 1024;
+  private static final String INVALID_SIZE = "%s must not be negative, but was [%d]";
+  private final IntFunction<? extends DataParser<V>> factory;
+  private final AtomicReferenceArray<DataParser<V>> dense;
+  private final ConcurrentHashMap<Integer, DataParser<V>> sparse;
+  private final int maxSize;
+
+  /**
+   * Creates a new ParserCache, with a dense size of 256 and a maximum size of 1024.
+   *
+   * @param factory the function that creates the parser for a length.
+   */
+  public ParserCache(IntFunction<? extends DataParser<V>> factory) {
+    this(factory, DEFAULT_DENSE_SIZE, DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Creates a new ParserCache.
+   *
+   * @param factory the function that creates the parser for a length.
+   * @param denseSize the number of lengths, starting from 0, that are cached in an array.
+   * @param maxSize the maximum number of parsers cached for lengths from the dense size on.
+   */
+  public ParserCache(IntFunction<? extends DataParser<V>> factory, int denseSize, int maxSize) {
+    check(denseSize >= 0, INVALID_SIZE, "dense size", denseSize);
+    check(maxSize >= 0, INVALID_SIZE, "max size", maxSize);
+    this.factory = factory;
+    this.dense = new AtomicReferenceArray<>(denseSize);
+    this.sparse = new ConcurrentHashMap<>();
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns the parser for the length, creating it if it is not cached.
+   *
+   * @param length the length of the value.
+   * @return the parser for the length.
+   */
+  @Override
+  public DataParser<V> apply(int length) {
+    if (length < 0) {
+      return factory.apply(length);
+    } else if (length < dense.length()) {
+      DataParser<V> parser = dense.get(length);
+      if (parser == null) {
+        parser = factory.apply(length);
+        if (!dense.compareAndSet(length, null, parser)) {
+          parser = dense.get(length);
+        }
+      }
+      return parser;
+    } else {
+      DataParser<V> parser = sparse.get(length);
+      if (parser == null) {
+        parser = factory.apply(length);
+        if (maxSize == 0) {
+          return parser;
+        }
+        evict();
+        DataParser<V> cached = sparse.putIfAbsent(length, parser);
+        if (cached != null) {
+          parser = cached;
+        }
+      }
+      return parser;
+    }
+  }
+
+  private void evict() {
+    Iterator<Integer> lengths = sparse.keySet().iterator();
+    while (sparse.size() >= maxSize && lengths.hasNext()) {
+      lengths.next();
+      lengths.remove();
+    }
+  }
+}
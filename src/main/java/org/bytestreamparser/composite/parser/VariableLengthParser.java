@@ -3,21 +3,29 @@ package org.bytestreamparser.composite.parser;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.api.parser.IntDataParser;
 
 /**
- * A parser for a variable-length field.
+ * A parser for a variable-length field. The value parser is provided for every value by its
+ * length, a {@link ParserCache} avoids creating a new value parser every time. It is thread-safe if
+ * the length parser, the functions and the value parsers they provide are.
  *
  * @param <V> the type of the field value.
  */
 public class VariableLengthParser<V> extends DataParser<V> {
   private final DataParser<Integer> lengthParser;
-  private final Function<Integer, DataParser<V>> valueParserProvider;
-  private final Function<V, Integer> lengthProvider;
+  private final IntDataParser intLengthParser;
+  private final IntFunction<DataParser<V>> valueParserProvider;
+  private final ToIntFunction<V> lengthProvider;
 
   /**
-   * Creates a new VariableLengthParser.
+   * Creates a new VariableLengthParser. The functions take and return boxed lengths, see {@link
+   * #ofInt(String, DataParser, IntFunction, ToIntFunction)} for primitive ones.
    *
    * @param id the ID of the parser.
    * @param lengthParser the parser for the length of the field.
@@ -30,22 +38,123 @@ public class VariableLengthParser<V> extends DataParser<V> {
       DataParser<Integer> lengthParser,
       Function<Integer, DataParser<V>> valueParserProvider,
       Function<V, Integer> lengthProvider) {
+    this(
+        id,
+        lengthParser,
+        (IntFunction<DataParser<V>>) valueParserProvider::apply,
+        (ToIntFunction<V>) lengthProvider::apply);
+  }
+
+  private VariableLengthParser(
+      String id,
+      DataParser<Integer> lengthParser,
+      IntFunction<DataParser<V>> valueParserProvider,
+      ToIntFunction<V> lengthProvider) {
     super(id);
     this.lengthParser = lengthParser;
+    this.intLengthParser =
+        lengthParser instanceof IntDataParser ? (IntDataParser) lengthParser : null;
     this.valueParserProvider = valueParserProvider;
     this.lengthProvider = lengthProvider;
   }
 
+  /**
+   * Creates a new VariableLengthParser from primitive functions, e.g., with a {@link ParserCache}
+   * as the value parser provider. If the length parser is also an {@link IntDataParser}, the length
+   * is packed and parsed as a primitive int without boxing. It is a factory rather than a
+   * constructor, so that an implicitly typed lambda still matches a single constructor.
+   *
+   * @param id the ID of the parser.
+   * @param lengthParser the parser for the length of the field.
+   * @param valueParserProvider a function that provides the parser for the field value based on the
+   *     length.
+   * @param lengthProvider a function that provides the length of the field value when packing.
+   * @param <V> the type of the field value.
+   * @return the new parser.
+   */
+  public static <V> VariableLengthParser<V> ofInt(
+      String id,
+      DataParser<Integer> lengthParser,
+      IntFunction<DataParser<V>> valueParserProvider,
+      ToIntFunction<V> lengthProvider) {
+    return new VariableLengthParser<>(id, lengthParser, valueParserProvider, lengthProvider);
+  }
+
   @Override
   public void pack(V value, OutputStream output) throws IOException {
-    Integer length = lengthProvider.apply(value);
-    lengthParser.pack(length, output);
+    int length = lengthProvider.applyAsInt(value);
+    if (intLengthParser != null) {
+      intLengthParser.packInt(length, output);
+    } else {
+      lengthParser.pack(length, output);
+    }
     valueParserProvider.apply(length).pack(value, output);
   }
 
   @Override
   public V parse(InputStream input) throws IOException {
-    Integer length = lengthParser.parse(input);
+    int length =
+        intLengthParser != null ? intLengthParser.parseInt(input) : lengthParser.parse(input);
+    return valueParserProvider.apply(length).parse(input);
+  }
+
+  @Override
+  public void pack(V value, ByteBuffer output) throws IOException {
+    int length = lengthProvider.applyAsInt(value);
+    if (intLengthParser != null) {
+      intLengthParser.packInt(length, output);
+    } else {
+      lengthParser.pack(length, output);
+    }
+    valueParserProvider.apply(length).pack(value, output);
+  }
+
+  @Override
+  public V parse(ByteBuffer input) throws IOException {
+    int length =
+        intLengthParser != null ? intLengthParser.parseInt(input) : lengthParser.parse(input);
     return valueParserProvider.apply(length).parse(input);
   }
+
+  /**
+   * Returns the number of bytes of the length and the value. Note that the maximum size is not
+   * known, since the maximum length is not known to this parser.
+   *
+   * @param value the value to be measured.
+   * @return the number of bytes.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public int sizeOf(V value) throws IOException {
+    int length = lengthProvider.applyAsInt(value);
+    return lengthParser.sizeOf(length) + valueParserProvider.apply(length).sizeOf(value);
+  }
+
+  /**
+   * Skips over the length and the value, where the value is skipped by the parser provided for the
+   * length, so that fixed size values are not decoded.
+   *
+   * @param input the {@link ByteBuffer} to skip the value in.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void skip(ByteBuffer input) throws IOException {
+    int length =
+        intLengthParser != null ? intLengthParser.parseInt(input) : lengthParser.parse(input);
+    valueParserProvider.apply(length).skip(input);
+  }
+
+  /**
+   * Reads the length prefix and skips the value with the parser provided for the length, so that
+   * only the prefix is decoded when the value parser has a fixed size.
+   *
+   * @param input the {@link InputStream} to skip the value in.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void skip(InputStream input) throws IOException {
+    int length =
+        intLengthParser != null ? intLengthParser.parseInt(input) : lengthParser.parse(input);
+    valueParserProvider.apply(length).skip(input);
+  }
 }
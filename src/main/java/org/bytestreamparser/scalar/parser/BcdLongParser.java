@@ -0,0 +1,99 @@
+package org.bytestreamparser.scalar.parser;
+
+import static org.bytestreamparser.scalar.util.InputStreams.readFully;
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.OptionalInt;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.api.parser.LongDataParser;
+import org.bytestreamparser.scalar.util.Bcd;
+import org.bytestreamparser.scalar.util.ByteBuffers;
+
+/**
+ * A parser for fixed length BCD numbers as {@link Long}. Unlike a {@link StringLongParser} over a
+ * {@link BcdStringParser}, the value is decoded straight from the nibbles without a {@link String}.
+ * It is immutable, and therefore thread-safe.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
+ */
+public class BcdLongParser extends DataParser<Long> implements LongDataParser {
+  private static final int MAX_LENGTH = 18;
+  private static final String INVALID_LENGTH = "%s: length must be between 1 and %d, but was [%d]";
+  private static final String INVALID_VALUE = "%s: value must be between 0 and %d, but was [%d]";
+  private static final String INVALID_BCD = "%s: Invalid BCD String [%s]";
+  private final int length;
+  private final long max;
+
+  /**
+   * Creates a new BcdLongParser.
+   *
+   * @param id ID of the parser.
+   * @param length Length of the BCD number. Note it is the number of digits, not the number of
+   *     bytes. It must be between 1 and 18, so that every value fits in a long.
+   */
+  public BcdLongParser(String id, int length) {
+    super(id);
+    check(length > 0 && length <= MAX_LENGTH, INVALID_LENGTH, id, MAX_LENGTH, length);
+    this.length = length;
+    this.max = (long) Math.pow(10, length) - 1;
+  }
+
+  @Override
+  public void pack(Long value, OutputStream output) throws IOException {
+    packLong(value, output);
+  }
+
+  @Override
+  public Long parse(InputStream input) throws IOException {
+    return parseLong(input);
+  }
+
+  @Override
+  public void pack(Long value, ByteBuffer output) {
+    packLong(value, output);
+  }
+
+  @Override
+  public Long parse(ByteBuffer input) throws IOException {
+    return parseLong(input);
+  }
+
+  @Override
+  public void packLong(long value, OutputStream output) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(Bcd.byteLength(length));
+    packLong(value, buffer);
+    output.write(buffer.array());
+  }
+
+  @Override
+  public long parseLong(InputStream input) throws IOException {
+    return parseLong(ByteBuffer.wrap(readFully(input, Bcd.byteLength(length))));
+  }
+
+  @Override
+  public void packLong(long value, ByteBuffer output) {
+    check(value >= 0 && value <= max, INVALID_VALUE, getId(), max, value);
+    Bcd.encode(value, length, output);
+  }
+
+  @Override
+  public long parseLong(ByteBuffer input) throws IOException {
+    ByteBuffers.checkRemaining(input, Bcd.byteLength(length));
+    int position = input.position();
+    long value = Bcd.decodeLong(input, length);
+    if (value < 0) {
+      String invalid = Bcd.decodeHex(input.duplicate().position(position), length);
+      throw new IllegalArgumentException(String.format(INVALID_BCD, getId(), invalid));
+    }
+    return value;
+  }
+
+  @Override
+  public OptionalInt fixedSize() {
+    return OptionalInt.of(Bcd.byteLength(length));
+  }
+}
@@ -1,20 +1,26 @@
 package org.bytestreamparser.scalar.parser;
 
+import static org.bytestreamparser.scalar.util.InputStreams.readFully;
 import static org.bytestreamparser.scalar.util.Preconditions.check;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.regex.Pattern;
+import java.nio.ByteBuffer;
+import org.bytestreamparser.scalar.util.Bcd;
+import org.bytestreamparser.scalar.util.ByteBuffers;
 
 /**
- * A parser for fixed length BCD strings.
+ * A parser for fixed length BCD strings. Digits are validated and converted with the nibble lookup
+ * tables of {@link Bcd}, in a single pass over the bytes. The tables are shared and read-only, so
+ * the parser is thread-safe.
  *
  * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
  */
 public class BcdStringParser extends HexStringParser {
-  private static final Pattern BCD_STRING = Pattern.compile("^\\d+$");
   private static final String ERROR_MESSAGE = "%s: Invalid BCD String [%s]";
+  private static final String INVALID_LENGTH =
+      "%s: value length must be less than or equal to %d, but was [%d]";
 
   /**
    * Creates a new BcdStringParser.
@@ -29,14 +35,32 @@ public class BcdStringParser extends HexStringParser {
 
   @Override
   public void pack(String value, OutputStream output) throws IOException {
-    check(BCD_STRING.matcher(value).matches(), ERROR_MESSAGE, getId(), value);
-    super.pack(value, output);
+    ByteBuffer buffer = ByteBuffer.allocate(Bcd.byteLength(length()));
+    pack(value, buffer);
+    output.write(buffer.array());
   }
 
   @Override
   public String parse(InputStream input) throws IOException {
-    String parsed = super.parse(input);
-    check(BCD_STRING.matcher(parsed).matches(), ERROR_MESSAGE, getId(), parsed);
+    return parse(ByteBuffer.wrap(readFully(input, Bcd.byteLength(length()))));
+  }
+
+  @Override
+  public void pack(String value, ByteBuffer output) {
+    check(Bcd.isDigits(value), ERROR_MESSAGE, getId(), value);
+    check(value.length() <= length(), INVALID_LENGTH, getId(), length(), value.length());
+    Bcd.encode(value, length(), output);
+  }
+
+  @Override
+  public String parse(ByteBuffer input) throws IOException {
+    ByteBuffers.checkRemaining(input, Bcd.byteLength(length()));
+    int position = input.position();
+    String parsed = Bcd.decode(input, length());
+    if (parsed == null) {
+      String invalid = Bcd.decodeHex(input.duplicate().position(position), length());
+      throw new IllegalArgumentException(String.format(ERROR_MESSAGE, getId(), invalid));
+    }
     return parsed;
   }
 }
@@ -6,9 +6,12 @@ import static org.bytestreamparser.scalar.util.Preconditions.check;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.OptionalInt;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.scalar.util.ByteBuffers;
 
-/** A parser for fixed length binary data. */
+/** A parser for fixed length binary data. It has no mutable state and is thread-safe. */
 public class BinaryParser extends DataParser<byte[]> {
   private static final String ERROR_MESSAGE = "%s: value must be of length %d, but was [%d]";
   private final int length;
@@ -34,4 +37,20 @@ public class BinaryParser extends DataParser<byte[]> {
   public byte[] parse(InputStream input) throws IOException {
     return readFully(input, length);
   }
+
+  @Override
+  public void pack(byte[] value, ByteBuffer output) {
+    check(value.length == length, ERROR_MESSAGE, getId(), length, value.length);
+    output.put(value);
+  }
+
+  @Override
+  public byte[] parse(ByteBuffer input) throws IOException {
+    return ByteBuffers.readFully(input, length);
+  }
+
+  @Override
+  public OptionalInt fixedSize() {
+    return OptionalInt.of(length);
+  }
 }
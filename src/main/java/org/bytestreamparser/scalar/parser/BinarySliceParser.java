@@ -0,0 +1,103 @@
+package org.bytestreamparser.scalar.parser;
+
+import static org.bytestreamparser.scalar.util.InputStreams.readFully;
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.OptionalInt;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.scalar.util.ByteBuffers;
+
+/**
+ * A parser for fixed length binary data as {@link ByteBuffer}s. Unlike {@link BinaryParser},
+ * parsing from a {@link ByteBuffer} returns a slice of the input without copying the bytes, and
+ * packing writes the remaining bytes of the value without consuming them. A slice of a heap buffer
+ * is packed into an {@link OutputStream} straight from its backing array, so values that are only
+ * forwarded are never copied. It suits large opaque values that are mostly forwarded as they are.
+ *
+ * <p>Note that parsed values share their bytes with the input, and are only read-only when the
+ * input is. Neither must be changed while the values are in use. The parser is thread-safe, but
+ * like any {@link ByteBuffer}, a parsed value has a position of its own and should be {@link
+ * ByteBuffer#duplicate() duplicated} to be read by more than one thread.
+ */
+public class BinarySliceParser extends DataParser<ByteBuffer> {
+  private static final String ERROR_MESSAGE = "%s: value must be of length %d, but was [%d]";
+  private final int length;
+
+  /**
+   * Creates a new BinarySliceParser.
+   *
+   * @param id ID of the parser.
+   * @param length Length of the binary data, i.e., the number of bytes.
+   */
+  public BinarySliceParser(String id, int length) {
+    super(id);
+    this.length = length;
+  }
+
+  /**
+   * Packs the remaining bytes of the value into the output stream, leaving the position of the
+   * value unchanged.
+   *
+   * @param value the value to be packed.
+   * @param output the {@link OutputStream} to write the packed value.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void pack(ByteBuffer value, OutputStream output) throws IOException {
+    check(value.remaining() == length, ERROR_MESSAGE, getId(), length, value.remaining());
+    if (value.hasArray()) {
+      output.write(value.array(), value.arrayOffset() + value.position(), length);
+    } else {
+      output.write(ByteBuffers.readFully(value.duplicate(), length));
+    }
+  }
+
+  /**
+   * Parses the value from the input stream. Note that the bytes have to be copied from a stream.
+   *
+   * @param input the {@link InputStream} to read the value from.
+   * @return a buffer wrapping the parsed bytes.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public ByteBuffer parse(InputStream input) throws IOException {
+    return ByteBuffer.wrap(readFully(input, length));
+  }
+
+  /**
+   * Packs the remaining bytes of the value into the buffer, leaving the position of the value
+   * unchanged.
+   *
+   * @param value the value to be packed.
+   * @param output the {@link ByteBuffer} to write the packed value.
+   */
+  @Override
+  public void pack(ByteBuffer value, ByteBuffer output) {
+    check(value.remaining() == length, ERROR_MESSAGE, getId(), length, value.remaining());
+    output.put(value.duplicate());
+  }
+
+  /**
+   * Parses the value as a slice of the buffer, advancing its position past the value.
+   *
+   * @param input the {@link ByteBuffer} to read the value from.
+   * @return a slice of the buffer, backed by the same array as the buffer if it has one.
+   * @throws IOException if the buffer does not have enough bytes remaining.
+   */
+  @Override
+  public ByteBuffer parse(ByteBuffer input) throws IOException {
+    ByteBuffers.checkRemaining(input, length);
+    ByteBuffer value = input.slice(input.position(), length);
+    input.position(input.position() + length);
+    return value;
+  }
+
+  @Override
+  public OptionalInt fixedSize() {
+    return OptionalInt.of(length);
+  }
+}
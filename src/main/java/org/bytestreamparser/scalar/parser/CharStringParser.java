@@ -6,17 +6,36 @@ import static org.bytestreamparser.scalar.util.Preconditions.check;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.scalar.util.ByteBuffers;
 
-/** A parser for fixed length character strings. */
+/**
+ * A parser for fixed length character strings.
+ *
+ * <p>A CharStringParser is thread-safe. Fixed width charsets are decoded in bulk without any
+ * decoder state. Variable width charsets need a stateful {@link CharsetDecoder}, which is created
+ * per call, so that a parser can be shared by any number of threads, platform or virtual, without
+ * locking. The sizes derived from the charset are computed once per charset and shared by all the
+ * parsers, so a parser created per value, e.g., by a {@link
+ * org.bytestreamparser.composite.parser.VariableLengthParser}, is cheap to create.
+ */
 public class CharStringParser extends DataParser<String> {
   private static final String INVALID_LENGTH = "%s: value must be of length %d, but was [%d]";
   private static final String STREAM_CHECK = "%s: %s#markSupported() required to parse %s charset";
+  private static final Set<String> UTF_32 = Set.of("UTF-32BE", "UTF-32LE");
+  private static final Map<Charset, Float> MAX_BYTES_PER_CHAR = new ConcurrentHashMap<>();
   private final int length;
-  private final CharsetDecoder decoder;
+  private final Charset charset;
+  private final int bytesPerCodePoint;
+  private final int maxBytesPerCodePoint;
 
   /**
    * Creates a new CharStringParser.
@@ -31,27 +50,119 @@ public class CharStringParser extends DataParser<String> {
   public CharStringParser(String id, int length, Charset charset) {
     super(id);
     this.length = length;
-    decoder =
-        charset
-            .newDecoder()
-            .onMalformedInput(CodingErrorAction.REPLACE)
-            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.charset = charset;
+    float maxBytesPerChar =
+        MAX_BYTES_PER_CHAR.computeIfAbsent(
+            charset, c -> c.canEncode() ? c.newEncoder().maxBytesPerChar() : 0);
+    bytesPerCodePoint = bytesPerCodePoint(charset, maxBytesPerChar);
+    // a code point is at most two chars, i.e., a surrogate pair
+    maxBytesPerCodePoint = (int) Math.ceil(maxBytesPerChar) * 2;
+  }
+
+  private static CharsetDecoder newDecoder(Charset charset) {
+    return charset
+        .newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  }
+
+  /**
+   * Returns the number of bytes every code point is encoded with, or 0 if the charset has variable
+   * width. Note that UTF-16 is variable width, since supplementary code points take 4 bytes.
+   */
+  private static int bytesPerCodePoint(Charset charset, float maxBytesPerChar) {
+    if (UTF_32.contains(charset.name())) {
+      return 4;
+    } else if (maxBytesPerChar == 1) {
+      return 1;
+    } else {
+      return 0;
+    }
   }
 
   @Override
   public void pack(String value, OutputStream output) throws IOException {
+    output.write(toBytes(value));
+  }
+
+  /**
+   * Parses the value from the input stream. Fixed width charsets, e.g., single byte charsets and
+   * UTF-32, are read and decoded in bulk. Variable width charsets are decoded one code point at a
+   * time, which requires {@link InputStream#markSupported()}. Wrapping a blocking source in a
+   * {@link org.bytestreamparser.scalar.util.FieldInputStream} provides mark support and keeps the
+   * one byte reads off the source.
+   *
+   * @param input the {@link InputStream} to read the value from.
+   * @return the parsed value.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public String parse(InputStream input) throws IOException {
+    if (bytesPerCodePoint > 0) {
+      return readFully(input, length, charset, bytesPerCodePoint);
+    }
+    check(input.markSupported(), STREAM_CHECK, getId(), input.getClass(), charset.name());
+    return readFully(input, length, newDecoder(charset));
+  }
+
+  @Override
+  public void pack(String value, ByteBuffer output) {
+    output.put(toBytes(value));
+  }
+
+  @Override
+  public String parse(ByteBuffer input) throws IOException {
+    if (bytesPerCodePoint > 0) {
+      return ByteBuffers.readFully(input, length, charset, bytesPerCodePoint);
+    }
+    return ByteBuffers.readFully(input, length, newDecoder(charset));
+  }
+
+  /**
+   * Returns the number of bytes of the value if the charset has fixed width, otherwise it is
+   * unknown until the value is encoded.
+   *
+   * @return the fixed number of bytes, or an empty result for variable width charsets.
+   */
+  @Override
+  public OptionalInt fixedSize() {
+    return bytesPerCodePoint > 0 ? OptionalInt.of(length * bytesPerCodePoint) : OptionalInt.empty();
+  }
+
+  @Override
+  public OptionalInt maxSize() {
+    if (bytesPerCodePoint > 0) {
+      return fixedSize();
+    }
+    return maxBytesPerCodePoint > 0
+        ? OptionalInt.of(length * maxBytesPerCodePoint)
+        : OptionalInt.empty();
+  }
+
+  @Override
+  public int sizeOf(String value) {
+    return bytesPerCodePoint > 0 ? length * bytesPerCodePoint : toBytes(value).length;
+  }
+
+  int length() {
+    return length;
+  }
+
+  Charset charset() {
+    return charset;
+  }
+
+  int bytesPerCodePoint() {
+    return bytesPerCodePoint;
+  }
+
+  private byte[] toBytes(String value) {
     check(
         value.codePoints().count() == length,
         INVALID_LENGTH,
         getId(),
         length,
         value.codePoints().count());
-    output.write(value.getBytes(decoder.charset()));
-  }
-
-  @Override
-  public String parse(InputStream input) throws IOException {
-    check(input.markSupported(), STREAM_CHECK, getId(), input.getClass(), decoder.charset().name());
-    return readFully(input, length, decoder);
+    return value.getBytes(charset);
   }
 }
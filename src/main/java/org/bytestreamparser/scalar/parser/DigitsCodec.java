@@ -0,0 +1,214 @@
+package org.bytestreamparser.scalar.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bytestreamparser.api.parser.DataParser;
+
+/**
+ * Encodes and decodes non-negative numbers directly between bytes and digits, without an
+ * intermediate {@link String}. It is used by {@link StringNumberParser} for the string parsers
+ * where every digit maps to a fixed number of bits: {@link CharStringParser} with a single byte
+ * charset, {@link HexStringParser} and {@link BcdStringParser}.
+ *
+ * <p>It only handles plain digits. Anything else, e.g., signs, whitespace, overflow or invalid
+ * digits, is left to the {@link String} path, so that validation and error messages stay the same.
+ * Codecs are immutable and shared by all the threads using their parser.
+ */
+abstract class DigitsCodec {
+  private static final int NOT_A_DIGIT = -1;
+  private final int digits;
+  private final int byteLength;
+  private final int maxRadix;
+
+  private DigitsCodec(int digits, int byteLength, int maxRadix) {
+    this.digits = digits;
+    this.byteLength = byteLength;
+    this.maxRadix = maxRadix;
+  }
+
+  /**
+   * Returns the codec for the given string parser.
+   *
+   * @param parser the string parser.
+   * @return the codec, or {@code null} if the string parser is not supported.
+   */
+  static DigitsCodec of(DataParser<String> parser) {
+    if (parser.getClass() == CharStringParser.class) {
+      CharStringParser charParser = (CharStringParser) parser;
+      return charParser.bytesPerCodePoint() == 1
+          ? new CharDigits(charParser.length(), charParser.charset())
+          : null;
+    } else if (parser.getClass() == HexStringParser.class) {
+      return new NibbleDigits(((HexStringParser) parser).length(), 16);
+    } else if (parser.getClass() == BcdStringParser.class) {
+      return new NibbleDigits(((BcdStringParser) parser).length(), 10);
+    } else {
+      return null;
+    }
+  }
+
+  /** Returns the number of bytes the digits are encoded with. */
+  int byteLength() {
+    return byteLength;
+  }
+
+  /**
+   * Decodes the digits from the buffer, advancing its position only if the digits are decoded.
+   *
+   * @param input the {@link ByteBuffer} to read the digits from.
+   * @param radix the radix of the digits.
+   * @param max the maximum value allowed.
+   * @return the decoded value, or -1 if the bytes are not plain digits of a value within range.
+   */
+  long decode(ByteBuffer input, int radix, long max) {
+    if (digits == 0 || input.remaining() < byteLength) {
+      return -1;
+    }
+    int position = input.position();
+    long value = 0;
+    for (int i = 0; i < digits; i++) {
+      int digit = digitAt(input, position, i);
+      if (digit == NOT_A_DIGIT || digit >= radix || value > (max - digit) / radix) {
+        return -1;
+      }
+      value = value * radix + digit;
+    }
+    input.position(position + byteLength);
+    return value;
+  }
+
+  /**
+   * Encodes the value as zero padded digits into the buffer, advancing its position only if the
+   * value is encoded.
+   *
+   * @param value the value to encode.
+   * @param length the number of digits expected.
+   * @param radix the radix of the digits.
+   * @param output the {@link ByteBuffer} to write the digits to.
+   * @return true if the value is encoded, false if it can not be encoded as plain digits.
+   */
+  boolean encode(long value, int length, int radix, ByteBuffer output) {
+    if (value < 0
+        || length != digits
+        || radix > maxRadix
+        || output.remaining() < byteLength
+        || !fits(value, radix)) {
+      return false;
+    }
+    int position = output.position();
+    writeDigits(value, radix, output, position);
+    output.position(position + byteLength);
+    return true;
+  }
+
+  private boolean fits(long value, int radix) {
+    long rest = value;
+    for (int i = 0; i < digits && rest > 0; i++) {
+      rest /= radix;
+    }
+    return rest == 0;
+  }
+
+  /** Returns the value of the digit at the given index, or -1 if it is not a digit. */
+  protected abstract int digitAt(ByteBuffer input, int position, int index);
+
+  /** Writes all the digits of the value, including the zero padding, starting at the position. */
+  protected abstract void writeDigits(long value, int radix, ByteBuffer output, int position);
+
+  /**
+   * Digits of a single byte charset, one byte per digit. The tables are built once per charset and
+   * shared by all the codecs of the charset, they are never modified.
+   */
+  private static final class CharDigits extends DigitsCodec {
+    private static final Map<Charset, int[]> DECODE_TABLES = new ConcurrentHashMap<>();
+    private static final Map<Charset, byte[]> ENCODE_TABLES = new ConcurrentHashMap<>();
+    private final int[] decodeTable;
+    private final byte[] encodeTable;
+
+    private CharDigits(int length, Charset charset) {
+      this(
+          length,
+          DECODE_TABLES.computeIfAbsent(charset, CharDigits::decodeTable),
+          ENCODE_TABLES.computeIfAbsent(charset, CharDigits::encodeTable));
+    }
+
+    private CharDigits(int length, int[] decodeTable, byte[] encodeTable) {
+      super(length, length, encodeTable.length);
+      this.decodeTable = decodeTable;
+      this.encodeTable = encodeTable;
+    }
+
+    private static int[] decodeTable(Charset charset) {
+      int[] table = new int[256];
+      for (int i = 0; i < table.length; i++) {
+        String decoded = new String(new byte[] {(byte) i}, charset);
+        table[i] =
+            decoded.length() == 1 ? Character.digit(decoded.charAt(0), Character.MAX_RADIX) : -1;
+      }
+      return table;
+    }
+
+    private static byte[] encodeTable(Charset charset) {
+      byte[] table = new byte[Character.MAX_RADIX];
+      int size = 0;
+      while (size < table.length) {
+        String digit = String.valueOf(Character.forDigit(size, Character.MAX_RADIX));
+        byte[] encoded = digit.getBytes(charset);
+        if (encoded.length != 1 || !digit.equals(new String(encoded, charset))) {
+          break;
+        }
+        table[size++] = encoded[0];
+      }
+      return Arrays.copyOf(table, size);
+    }
+
+    @Override
+    protected int digitAt(ByteBuffer input, int position, int index) {
+      return decodeTable[input.get(position + index) & 0xFF];
+    }
+
+    @Override
+    protected void writeDigits(long value, int radix, ByteBuffer output, int position) {
+      long rest = value;
+      for (int i = byteLength() - 1; i >= 0; i--) {
+        output.put(position + i, encodeTable[(int) (rest % radix)]);
+        rest /= radix;
+      }
+    }
+  }
+
+  /** Digits of a hexadecimal or BCD string, two digits per byte, left padded to full bytes. */
+  private static final class NibbleDigits extends DigitsCodec {
+    private final int padding;
+    private final int maxNibble;
+
+    private NibbleDigits(int length, int maxNibble) {
+      super(length, (length + 1) / 2, maxNibble);
+      this.padding = (length + 1) / 2 * 2 - length;
+      this.maxNibble = maxNibble;
+    }
+
+    @Override
+    protected int digitAt(ByteBuffer input, int position, int index) {
+      int offset = padding + index;
+      int bits = input.get(position + offset / 2);
+      int nibble = offset % 2 == 0 ? bits >> 4 & 0x0F : bits & 0x0F;
+      return nibble < maxNibble ? nibble : NOT_A_DIGIT;
+    }
+
+    @Override
+    protected void writeDigits(long value, int radix, ByteBuffer output, int position) {
+      long rest = value;
+      for (int i = byteLength() - 1; i >= 0; i--) {
+        int low = (int) (rest % radix);
+        rest /= radix;
+        int high = (int) (rest % radix);
+        rest /= radix;
+        output.put(position + i, (byte) (high << 4 | low));
+      }
+    }
+  }
+}
@@ -6,11 +6,18 @@ import static org.bytestreamparser.scalar.util.Preconditions.check;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.HexFormat;
+import java.util.OptionalInt;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.scalar.util.ByteBuffers;
 import org.bytestreamparser.scalar.util.Strings;
 
-/** A parser for fixed length hexadecimal strings. */
+/**
+ * A parser for fixed length hexadecimal strings. It only shares an immutable {@link HexFormat}, so
+ * it is thread-safe.
+ */
 public class HexStringParser extends DataParser<String> {
   private static final String ERROR_MESSAGE =
       "%s: value length must be less than or equal to %d, but was [%d]";
@@ -42,9 +49,9 @@ public class HexStringParser extends DataParser<String> {
    */
   @Override
   public void pack(String value, OutputStream output) throws IOException {
-    check(value.length() <= length, ERROR_MESSAGE, getId(), length, value.length());
-    String padded = Strings.padStart(value, toByteSize(length) * 2, '0');
-    output.write(HEX_FORMAT.parseHex(padded));
+    ByteBuffer buffer = ByteBuffer.allocate(toByteSize(length));
+    pack(value, buffer);
+    output.write(buffer.array());
   }
 
   /**
@@ -56,7 +63,59 @@ public class HexStringParser extends DataParser<String> {
    */
   @Override
   public String parse(InputStream input) throws IOException {
-    String parsed = HEX_FORMAT.formatHex(readFully(input, toByteSize(length)));
+    return toString(readFully(input, toByteSize(length)));
+  }
+
+  /**
+   * Packs the given value into the buffer, converting the digits straight into bytes.
+   *
+   * @param value the value to be packed. Note that odd length values will be left padded with '0'.
+   * @param output the {@link ByteBuffer} to write the packed value.
+   */
+  @Override
+  public void pack(String value, ByteBuffer output) {
+    check(value.length() <= length, ERROR_MESSAGE, getId(), length, value.length());
+    if (!isHexDigits(value)) {
+      // let HexFormat reject the value, for a consistent error message
+      HEX_FORMAT.parseHex(Strings.padStart(value, toByteSize(length) * 2, '0'));
+    }
+    int bytes = toByteSize(length);
+    if (output.remaining() < bytes) {
+      throw new BufferOverflowException();
+    }
+    int digit = value.length() - bytes * 2;
+    for (int i = 0; i < bytes; i++, digit += 2) {
+      int high = digit < 0 ? 0 : HexFormat.fromHexDigit(value.charAt(digit));
+      int low = digit + 1 < 0 ? 0 : HexFormat.fromHexDigit(value.charAt(digit + 1));
+      output.put((byte) (high << 4 | low));
+    }
+  }
+
+  @Override
+  public String parse(ByteBuffer input) throws IOException {
+    return toString(ByteBuffers.readFully(input, toByteSize(length)));
+  }
+
+  @Override
+  public OptionalInt fixedSize() {
+    return OptionalInt.of(toByteSize(length));
+  }
+
+  int length() {
+    return length;
+  }
+
+  private static boolean isHexDigits(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (!HexFormat.isHexDigit(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private String toString(byte[] bytes) {
+    String parsed = HEX_FORMAT.formatHex(bytes);
     return parsed.substring(parsed.length() - length);
   }
 }
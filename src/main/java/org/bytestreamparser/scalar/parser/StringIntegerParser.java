@@ -2,11 +2,19 @@ package org.bytestreamparser.scalar.parser;
 
 import static org.bytestreamparser.scalar.util.Preconditions.check;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.api.parser.IntDataParser;
 import org.bytestreamparser.scalar.util.Strings;
 
-/** A {@link Integer} implementation of {@link StringNumberParser}. */
-public class StringIntegerParser extends StringNumberParser<Integer> {
+/**
+ * A {@link Integer} implementation of {@link StringNumberParser}, thread-safe if its string parser
+ * is.
+ */
+public class StringIntegerParser extends StringNumberParser<Integer> implements IntDataParser {
   private static final String INVALID_LENGTH = "%s: value must be of length %d, but was [%d]";
   private final int length;
   private final int radix;
@@ -17,15 +25,67 @@ public class StringIntegerParser extends StringNumberParser<Integer> {
     this.radix = radix;
   }
 
+  @Override
+  public void pack(Integer value, OutputStream output) throws IOException {
+    packInt(value, output);
+  }
+
+  @Override
+  public Integer parse(InputStream input) throws IOException {
+    return parseInt(input);
+  }
+
+  @Override
+  public void pack(Integer value, ByteBuffer output) throws IOException {
+    packInt(value, output);
+  }
+
+  @Override
+  public Integer parse(ByteBuffer input) throws IOException {
+    return parseInt(input);
+  }
+
+  @Override
+  public void packInt(int value, OutputStream output) throws IOException {
+    if (!packDigits(value, length, radix, output)) {
+      packString(fromInt(value), output);
+    }
+  }
+
+  @Override
+  public int parseInt(InputStream input) throws IOException {
+    return (int) parseDigits(input, radix, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public void packInt(int value, ByteBuffer output) throws IOException {
+    if (!packDigits(value, length, radix, output)) {
+      packString(fromInt(value), output);
+    }
+  }
+
+  @Override
+  public int parseInt(ByteBuffer input) throws IOException {
+    return (int) parseDigits(input, radix, Integer.MAX_VALUE);
+  }
+
   @Override
   protected String fromNumber(Integer value) {
+    return fromInt(value);
+  }
+
+  @Override
+  protected Integer toNumber(String value) {
+    return toInt(value);
+  }
+
+  private String fromInt(int value) {
     String padded = Strings.padStart(Integer.toString(value, radix), length, '0');
     check(padded.length() == length, INVALID_LENGTH, getId(), length, padded.length());
     return padded;
   }
 
-  @Override
-  protected Integer toNumber(String value) {
-    return Integer.valueOf(value.strip(), radix);
+  private int toInt(String value) {
+    return Integer.parseInt(value.strip(), radix);
   }
 }
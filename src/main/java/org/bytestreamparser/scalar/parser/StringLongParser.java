@@ -2,11 +2,19 @@ package org.bytestreamparser.scalar.parser;
 
 import static org.bytestreamparser.scalar.util.Preconditions.check;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.api.parser.LongDataParser;
 import org.bytestreamparser.scalar.util.Strings;
 
-/** A {@link Long} implementation of {@link StringNumberParser<Long>}. */
-public class StringLongParser extends StringNumberParser<Long> {
+/**
+ * A {@link Long} implementation of {@link StringNumberParser<Long>}, thread-safe if its string
+ * parser is.
+ */
+public class StringLongParser extends StringNumberParser<Long> implements LongDataParser {
   private static final String INVALID_LENGTH = "%s: value must be of length %d, but was [%d]";
   private final int length;
   private final int radix;
@@ -17,15 +25,67 @@ public class StringLongParser extends StringNumberParser<Long> {
     this.radix = radix;
   }
 
+  @Override
+  public void pack(Long value, OutputStream output) throws IOException {
+    packLong(value, output);
+  }
+
+  @Override
+  public Long parse(InputStream input) throws IOException {
+    return parseLong(input);
+  }
+
+  @Override
+  public void pack(Long value, ByteBuffer output) throws IOException {
+    packLong(value, output);
+  }
+
+  @Override
+  public Long parse(ByteBuffer input) throws IOException {
+    return parseLong(input);
+  }
+
+  @Override
+  public void packLong(long value, OutputStream output) throws IOException {
+    if (!packDigits(value, length, radix, output)) {
+      packString(fromLong(value), output);
+    }
+  }
+
+  @Override
+  public long parseLong(InputStream input) throws IOException {
+    return parseDigits(input, radix, Long.MAX_VALUE);
+  }
+
+  @Override
+  public void packLong(long value, ByteBuffer output) throws IOException {
+    if (!packDigits(value, length, radix, output)) {
+      packString(fromLong(value), output);
+    }
+  }
+
+  @Override
+  public long parseLong(ByteBuffer input) throws IOException {
+    return parseDigits(input, radix, Long.MAX_VALUE);
+  }
+
   @Override
   protected String fromNumber(Long value) {
+    return fromLong(value);
+  }
+
+  @Override
+  protected Long toNumber(String value) {
+    return toLong(value);
+  }
+
+  private String fromLong(long value) {
     String padded = Strings.padStart(Long.toString(value, radix), length, '0');
     check(padded.length() == length, INVALID_LENGTH, getId(), length, padded.length());
     return padded;
   }
 
-  @Override
-  protected Long toNumber(String value) {
-    return Long.valueOf(value, radix);
+  private long toLong(String value) {
+    return Long.parseLong(value, radix);
   }
 }
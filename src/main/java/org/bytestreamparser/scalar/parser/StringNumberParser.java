@@ -3,30 +3,185 @@ package org.bytestreamparser.scalar.parser;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.OptionalInt;
 import org.bytestreamparser.api.parser.DataParser;
 
 /**
  * Abstract class for fixed length {@link Number} parsers that pack and parse the value as a {@link
  * String}.
  *
+ * <p>The number is converted without any state of its own, so a StringNumberParser is thread-safe
+ * as long as its string parser is, which holds for all the string parsers of this package.
+ *
  * @param <V>
  */
 public abstract class StringNumberParser<V extends Number> extends DataParser<V> {
   private final DataParser<String> stringParser;
+  private final DigitsCodec digitsCodec;
 
   protected StringNumberParser(String id, DataParser<String> stringParser) {
     super(id);
     this.stringParser = stringParser;
+    this.digitsCodec = DigitsCodec.of(stringParser);
   }
 
   @Override
   public void pack(V value, OutputStream output) throws IOException {
-    stringParser.pack(fromNumber(value), output);
+    packString(fromNumber(value), output);
   }
 
   @Override
   public V parse(InputStream input) throws IOException {
-    return toNumber(stringParser.parse(input));
+    return toNumber(parseString(input));
+  }
+
+  @Override
+  public void pack(V value, ByteBuffer output) throws IOException {
+    packString(fromNumber(value), output);
+  }
+
+  @Override
+  public V parse(ByteBuffer input) throws IOException {
+    return toNumber(parseString(input));
+  }
+
+  @Override
+  public OptionalInt fixedSize() {
+    return stringParser.fixedSize();
+  }
+
+  @Override
+  public OptionalInt maxSize() {
+    return stringParser.maxSize();
+  }
+
+  @Override
+  public int sizeOf(V value) throws IOException {
+    OptionalInt fixedSize = stringParser.fixedSize();
+    return fixedSize.isPresent() ? fixedSize.getAsInt() : stringParser.sizeOf(fromNumber(value));
+  }
+
+  /**
+   * Packs the {@link String} representation of the value with the underlying string parser.
+   *
+   * @param value the {@link String} representation of the value.
+   * @param output the {@link OutputStream} to write the packed value.
+   * @throws IOException if an I/O error occurs.
+   */
+  protected void packString(String value, OutputStream output) throws IOException {
+    stringParser.pack(value, output);
+  }
+
+  /**
+   * Parses the {@link String} representation of the value with the underlying string parser.
+   *
+   * @param input the {@link InputStream} to read the value from.
+   * @return the {@link String} representation of the value.
+   * @throws IOException if an I/O error occurs.
+   */
+  protected String parseString(InputStream input) throws IOException {
+    return stringParser.parse(input);
+  }
+
+  /**
+   * Packs the {@link String} representation of the value with the underlying string parser.
+   *
+   * @param value the {@link String} representation of the value.
+   * @param output the {@link ByteBuffer} to write the packed value.
+   * @throws IOException if an I/O error occurs.
+   */
+  protected void packString(String value, ByteBuffer output) throws IOException {
+    stringParser.pack(value, output);
+  }
+
+  /**
+   * Parses the {@link String} representation of the value with the underlying string parser.
+   *
+   * @param input the {@link ByteBuffer} to read the value from.
+   * @return the {@link String} representation of the value.
+   * @throws IOException if an I/O error occurs.
+   */
+  protected String parseString(ByteBuffer input) throws IOException {
+    return stringParser.parse(input);
+  }
+
+  /**
+   * Packs the value as zero padded digits straight into the output stream, without creating a
+   * {@link String}. This is only possible for non-negative values and string parsers with fixed
+   * width digits, i.e., {@link CharStringParser} with a single byte charset, {@link
+   * HexStringParser} and {@link BcdStringParser}.
+   *
+   * @param value the value to be packed.
+   * @param length the number of digits.
+   * @param radix the radix of the digits.
+   * @param output the {@link OutputStream} to write the packed value.
+   * @return true if the value is packed, false if it should be packed as a {@link String} instead.
+   * @throws IOException if an I/O error occurs.
+   */
+  protected boolean packDigits(long value, int length, int radix, OutputStream output)
+      throws IOException {
+    if (digitsCodec == null) {
+      return false;
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(digitsCodec.byteLength());
+    if (digitsCodec.encode(value, length, radix, buffer)) {
+      output.write(buffer.array());
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Packs the value as zero padded digits straight into the buffer, without creating a {@link
+   * String}.
+   *
+   * @param value the value to be packed.
+   * @param length the number of digits.
+   * @param radix the radix of the digits.
+   * @param output the {@link ByteBuffer} to write the packed value.
+   * @return true if the value is packed, false if it should be packed as a {@link String} instead.
+   * @see #packDigits(long, int, int, OutputStream)
+   */
+  protected boolean packDigits(long value, int length, int radix, ByteBuffer output) {
+    return digitsCodec != null && digitsCodec.encode(value, length, radix, output);
+  }
+
+  /**
+   * Parses the value by accumulating the digits straight from the bytes, without creating a {@link
+   * String}. Anything other than plain digits of a value within range, e.g., signs or whitespace,
+   * is parsed with {@link #toNumber(String)} instead.
+   *
+   * @param input the {@link InputStream} to read the value from.
+   * @param radix the radix of the digits.
+   * @param max the maximum value allowed.
+   * @return the parsed value.
+   * @throws IOException if an I/O error occurs.
+   */
+  protected long parseDigits(InputStream input, int radix, long max) throws IOException {
+    if (digitsCodec == null) {
+      return toNumber(parseString(input)).longValue();
+    }
+    byte[] bytes = new byte[digitsCodec.byteLength()];
+    int read = input.readNBytes(bytes, 0, bytes.length);
+    return parseDigits(ByteBuffer.wrap(bytes, 0, read), radix, max);
+  }
+
+  /**
+   * Parses the value by accumulating the digits straight from the buffer, without creating a
+   * {@link String}.
+   *
+   * @param input the {@link ByteBuffer} to read the value from.
+   * @param radix the radix of the digits.
+   * @param max the maximum value allowed.
+   * @return the parsed value.
+   * @throws IOException if an I/O error occurs.
+   * @see #parseDigits(InputStream, int, long)
+   */
+  protected long parseDigits(ByteBuffer input, int radix, long max) throws IOException {
+    long value = digitsCodec == null ? -1 : digitsCodec.decode(input, radix, max);
+    return value >= 0 ? value : toNumber(parseString(input)).longValue();
   }
 
   /**
@@ -6,10 +6,16 @@ import static org.bytestreamparser.scalar.util.Preconditions.check;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.OptionalInt;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.api.parser.IntDataParser;
+import org.bytestreamparser.scalar.util.ByteBuffers;
 
-/** A parser for parsing single byte as unsigned {@link Integer} */
-public class UnsignedByteParser extends DataParser<Integer> {
+/**
+ * A parser for parsing single byte as unsigned {@link Integer}. It is stateless and thread-safe.
+ */
+public class UnsignedByteParser extends DataParser<Integer> implements IntDataParser {
   private static final String ERROR_MESSAGE = "%s: value must be between 0 and 255, but was [%d]";
 
   public UnsignedByteParser(String id) {
@@ -18,13 +24,51 @@ public class UnsignedByteParser extends DataParser<Integer> {
 
   @Override
   public void pack(Integer value, OutputStream output) throws IOException {
+    packInt(value, output);
+  }
+
+  @Override
+  public Integer parse(InputStream input) throws IOException {
+    return parseInt(input);
+  }
+
+  @Override
+  public void pack(Integer value, ByteBuffer output) {
+    packInt(value, output);
+  }
+
+  @Override
+  public Integer parse(ByteBuffer input) throws IOException {
+    return parseInt(input);
+  }
+
+  @Override
+  public void packInt(int value, OutputStream output) throws IOException {
     check(value <= 0xFF, ERROR_MESSAGE, getId(), value);
     check(value >= 0x00, ERROR_MESSAGE, getId(), value);
-    output.write(value.byteValue());
+    output.write(value);
   }
 
   @Override
-  public Integer parse(InputStream input) throws IOException {
+  public int parseInt(InputStream input) throws IOException {
     return readFully(input, 1)[0] & 0xFF;
   }
+
+  @Override
+  public void packInt(int value, ByteBuffer output) {
+    check(value <= 0xFF, ERROR_MESSAGE, getId(), value);
+    check(value >= 0x00, ERROR_MESSAGE, getId(), value);
+    output.put((byte) value);
+  }
+
+  @Override
+  public int parseInt(ByteBuffer input) throws IOException {
+    ByteBuffers.checkRemaining(input, 1);
+    return input.get() & 0xFF;
+  }
+
+  @Override
+  public OptionalInt fixedSize() {
+    return OptionalInt.of(1);
+  }
 }
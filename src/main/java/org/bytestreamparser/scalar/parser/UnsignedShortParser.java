@@ -7,10 +7,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.OptionalInt;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.api.parser.IntDataParser;
+import org.bytestreamparser.scalar.util.ByteBuffers;
 
-/** A parser for parsing two consecutive bytes as unsigned {@link Integer} */
-public class UnsignedShortParser extends DataParser<Integer> {
+/**
+ * A parser for parsing two consecutive bytes as unsigned {@link Integer}. It is stateless and
+ * thread-safe.
+ */
+public class UnsignedShortParser extends DataParser<Integer> implements IntDataParser {
   private static final String ERROR_MESSAGE = "%s: value must be between 0 and 65535, but was [%d]";
 
   public UnsignedShortParser(String id) {
@@ -19,14 +25,53 @@ public class UnsignedShortParser extends DataParser<Integer> {
 
   @Override
   public void pack(Integer value, OutputStream output) throws IOException {
+    packInt(value, output);
+  }
+
+  @Override
+  public Integer parse(InputStream input) throws IOException {
+    return parseInt(input);
+  }
+
+  @Override
+  public void pack(Integer value, ByteBuffer output) {
+    packInt(value, output);
+  }
+
+  @Override
+  public Integer parse(ByteBuffer input) throws IOException {
+    return parseInt(input);
+  }
+
+  @Override
+  public void packInt(int value, OutputStream output) throws IOException {
     check(value <= 0xFFFF, ERROR_MESSAGE, getId(), value);
     check(value >= 0x0000, ERROR_MESSAGE, getId(), value);
-    output.write(ByteBuffer.allocate(Short.BYTES).putShort(value.shortValue()).array());
+    output.write(value >>> 8);
+    output.write(value);
   }
 
   @Override
-  public Integer parse(InputStream input) throws IOException {
+  public int parseInt(InputStream input) throws IOException {
     byte[] bytes = readFully(input, 2);
     return (bytes[0] & 0xFF) << 8 | bytes[1] & 0xFF;
   }
+
+  @Override
+  public void packInt(int value, ByteBuffer output) {
+    check(value <= 0xFFFF, ERROR_MESSAGE, getId(), value);
+    check(value >= 0x0000, ERROR_MESSAGE, getId(), value);
+    output.put((byte) (value >>> 8)).put((byte) value);
+  }
+
+  @Override
+  public int parseInt(ByteBuffer input) throws IOException {
+    ByteBuffers.checkRemaining(input, 2);
+    return (input.get() & 0xFF) << 8 | input.get() & 0xFF;
+  }
+
+  @Override
+  public OptionalInt fixedSize() {
+    return OptionalInt.of(2);
+  }
 }
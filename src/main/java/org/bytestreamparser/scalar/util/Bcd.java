@@ -0,0 +1,182 @@
+package org.bytestreamparser.scalar.util;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Utility class for encoding and decoding packed BCD digits with nibble lookup tables. Every byte
+ * holds two digits, and odd numbers of digits are left padded with a zero nibble. Digits are
+ * validated and converted in a single pass over the bytes.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
+ */
+public final class Bcd {
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final char[] HIGH_DIGITS = new char[256];
+  private static final char[] LOW_DIGITS = new char[256];
+  private static final boolean[] VALID_HIGH = new boolean[256];
+  private static final boolean[] VALID_LOW = new boolean[256];
+
+  static {
+    for (int i = 0; i < 256; i++) {
+      HIGH_DIGITS[i] = HEX_DIGITS[i >> 4];
+      LOW_DIGITS[i] = HEX_DIGITS[i & 0x0F];
+      VALID_HIGH[i] = i >> 4 <= 9;
+      VALID_LOW[i] = (i & 0x0F) <= 9;
+    }
+  }
+
+  private Bcd() {}
+
+  /**
+   * Returns the number of bytes the given number of digits are packed into.
+   *
+   * @param digits the number of digits.
+   * @return the number of bytes.
+   */
+  public static int byteLength(int digits) {
+    return (digits + 1) / 2;
+  }
+
+  /**
+   * Checks if the value is a non-empty string of decimal digits.
+   *
+   * @param value the value to check.
+   * @return true if every character of the value is between '0' and '9'.
+   */
+  public static boolean isDigits(String value) {
+    if (value.isEmpty()) {
+      return false;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      char ch = value.charAt(i);
+      if (ch < '0' || ch > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Decodes the digits from the buffer, advancing its position by {@link #byteLength(int)}. The
+   * caller must make sure that enough bytes are remaining.
+   *
+   * @param input the buffer to read from.
+   * @param digits the number of digits to decode.
+   * @return the decoded digits, or {@code null} if any nibble is not a decimal digit.
+   */
+  public static String decode(ByteBuffer input, int digits) {
+    char[] chars = new char[digits];
+    boolean valid = decode(input, digits, chars);
+    return digits > 0 && valid ? new String(chars) : null;
+  }
+
+  /**
+   * Decodes the digits from the buffer as hexadecimal digits, advancing its position by {@link
+   * #byteLength(int)}. Unlike {@link #decode(ByteBuffer, int)}, nibbles above 9 are decoded as
+   * 'a'-'f', which is useful for reporting invalid BCD strings.
+   *
+   * @param input the buffer to read from.
+   * @param digits the number of digits to decode.
+   * @return the decoded hexadecimal digits.
+   */
+  public static String decodeHex(ByteBuffer input, int digits) {
+    char[] chars = new char[digits];
+    decode(input, digits, chars);
+    return new String(chars);
+  }
+
+  /**
+   * Decodes the digits from the buffer as a non-negative long, advancing its position by {@link
+   * #byteLength(int)}. The caller must make sure that enough bytes are remaining, and that the
+   * number of digits is between 1 and 18.
+   *
+   * @param input the buffer to read from.
+   * @param digits the number of digits to decode.
+   * @return the decoded value, or -1 if any nibble is not a decimal digit.
+   */
+  public static long decodeLong(ByteBuffer input, int digits) {
+    int bytes = byteLength(digits);
+    long value = 0;
+    boolean valid = true;
+    int first = input.get() & 0xFF;
+    if (digits % 2 == 0) {
+      valid = VALID_HIGH[first];
+      value = first >> 4;
+    }
+    valid &= VALID_LOW[first];
+    value = value * 10 + (first & 0x0F);
+    for (int i = 1; i < bytes; i++) {
+      int pair = input.get() & 0xFF;
+      valid &= VALID_HIGH[pair] & VALID_LOW[pair];
+      value = value * 100 + (pair >> 4) * 10 + (pair & 0x0F);
+    }
+    return valid ? value : -1;
+  }
+
+  /**
+   * Encodes the digits into the buffer, left padded with zeros to the given length, advancing its
+   * position by {@link #byteLength(int)}. The caller must make sure that the value is valid, see
+   * {@link #isDigits(String)}, and not longer than the length.
+   *
+   * @param value the digits to encode.
+   * @param length the number of digits to pad the value to.
+   * @param output the buffer to write to.
+   * @throws BufferOverflowException if the buffer does not have enough space remaining, in which
+   *     case nothing is written.
+   */
+  public static void encode(String value, int length, ByteBuffer output) {
+    int bytes = byteLength(length);
+    if (output.remaining() < bytes) {
+      throw new BufferOverflowException();
+    }
+    int digit = value.length() - bytes * 2;
+    for (int i = 0; i < bytes; i++, digit += 2) {
+      int high = digit < 0 ? 0 : value.charAt(digit) - '0';
+      int low = digit + 1 < 0 ? 0 : value.charAt(digit + 1) - '0';
+      output.put((byte) (high << 4 | low));
+    }
+  }
+
+  /**
+   * Encodes the value into the buffer, left padded with zeros to the given length, advancing its
+   * position by {@link #byteLength(int)}. The caller must make sure that the value is not negative
+   * and fits in the given number of digits.
+   *
+   * @param value the value to encode.
+   * @param length the number of digits to pad the value to.
+   * @param output the buffer to write to.
+   * @throws BufferOverflowException if the buffer does not have enough space remaining, in which
+   *     case nothing is written.
+   */
+  public static void encode(long value, int length, ByteBuffer output) {
+    int bytes = byteLength(length);
+    if (output.remaining() < bytes) {
+      throw new BufferOverflowException();
+    }
+    int position = output.position();
+    long rest = value;
+    for (int i = bytes - 1; i >= 0; i--) {
+      int pair = (int) (rest % 100);
+      rest /= 100;
+      output.put(position + i, (byte) (pair / 10 << 4 | pair % 10));
+    }
+    output.position(position + bytes);
+  }
+
+  private static boolean decode(ByteBuffer input, int digits, char[] chars) {
+    int bytes = byteLength(digits);
+    boolean valid = true;
+    int index = 0;
+    for (int i = 0; i < bytes; i++) {
+      int pair = input.get() & 0xFF;
+      if (i > 0 || digits % 2 == 0) {
+        valid &= VALID_HIGH[pair];
+        chars[index++] = HIGH_DIGITS[pair];
+      }
+      valid &= VALID_LOW[pair];
+      chars[index++] = LOW_DIGITS[pair];
+    }
+    return valid;
+  }
+}
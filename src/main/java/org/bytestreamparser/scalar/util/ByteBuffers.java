@@ -0,0 +1,118 @@
+package org.bytestreamparser.scalar.util;
+
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+
+/** Utility class for reading from byte buffers. */
+public final class ByteBuffers {
+  private static final String END_OF_BYTE_BUFFER_REACHED =
+      "End of stream reached after reading %d bytes, bytes expected [%d]";
+  private static final String END_OF_CHAR_BUFFER_REACHED =
+      "End of stream reached after reading %d chars, chars expected [%d]";
+
+  private ByteBuffers() {}
+
+  /**
+   * Checks that the buffer has at least the specified number of bytes remaining.
+   *
+   * @param input The buffer to check.
+   * @param length The number of bytes required. If the buffer does not contain enough bytes, an
+   *     {@link EOFException} is thrown.
+   * @throws EOFException If the buffer does not contain enough bytes.
+   */
+  public static void checkRemaining(ByteBuffer input, int length) throws EOFException {
+    if (input.remaining() < length) {
+      throw new EOFException(String.format(END_OF_BYTE_BUFFER_REACHED, input.remaining(), length));
+    }
+  }
+
+  /**
+   * Reads the specified number of bytes from the buffer, advancing its position.
+   *
+   * @param input The buffer to read from.
+   * @param length The number of bytes to read. If the buffer does not contain enough bytes, an
+   *     {@link EOFException} is thrown and the position is left unchanged.
+   * @return The bytes read from the buffer.
+   * @throws EOFException If the buffer does not contain enough bytes.
+   */
+  public static byte[] readFully(ByteBuffer input, int length) throws EOFException {
+    checkRemaining(input, length);
+    byte[] bytes = new byte[length];
+    input.get(bytes);
+    return bytes;
+  }
+
+  /**
+   * Reads the specified number of characters of a fixed width charset from the buffer, advancing
+   * its position. The bytes are decoded in one pass, without copying them out of heap buffers.
+   *
+   * @param input The buffer to read from.
+   * @param length The number of characters to read. If the buffer does not contain enough
+   *     characters, an {@link EOFException} is thrown and the position is left unchanged.
+   * @param charset The fixed width {@link Charset} to use for decoding the characters. Note that
+   *     malformed input and unmappable characters will be replaced.
+   * @param bytesPerChar The number of bytes every character of the charset is encoded with.
+   * @return The characters read from the buffer.
+   * @throws EOFException If the buffer does not contain enough characters.
+   */
+  public static String readFully(ByteBuffer input, int length, Charset charset, int bytesPerChar)
+      throws EOFException {
+    int size = length * bytesPerChar;
+    if (input.remaining() < size) {
+      throw new EOFException(
+          String.format(END_OF_CHAR_BUFFER_REACHED, input.remaining() / bytesPerChar, length));
+    }
+    String value;
+    if (input.hasArray()) {
+      value = new String(input.array(), input.arrayOffset() + input.position(), size, charset);
+      input.position(input.position() + size);
+    } else {
+      byte[] bytes = new byte[size];
+      input.get(bytes);
+      value = new String(bytes, charset);
+    }
+    return value;
+  }
+
+  /**
+   * Reads the specified number of code points from the buffer, advancing its position by the
+   * number of bytes decoded.
+   *
+   * @param input The buffer to read from.
+   * @param length The number of code points to read. If the buffer does not contain enough code
+   *     points, an {@link EOFException} is thrown.
+   * @param decoder The {@link CharsetDecoder} to use for decoding the characters.
+   * @return The characters read from the buffer.
+   * @throws CharacterCodingException If the decoder reports malformed or unmappable input.
+   * @throws EOFException If the buffer does not contain enough code points.
+   */
+  public static String readFully(ByteBuffer input, int length, CharsetDecoder decoder)
+      throws CharacterCodingException, EOFException {
+    CharBuffer output = CharBuffer.allocate(length * 2);
+    int read = 0;
+    decoder.reset();
+    while (read < length) {
+      int start = output.position();
+      output.limit(start + length - read);
+      CoderResult result = decoder.decode(input, output, false);
+      if (result.isOverflow() && output.position() == start) {
+        // The next code point is a surrogate pair, which needs room for two chars.
+        output.limit(start + length - read + 1);
+        result = decoder.decode(input, output, false);
+      }
+      if (result.isError()) {
+        result.throwException();
+      }
+      if (output.position() == start) {
+        throw new EOFException(String.format(END_OF_CHAR_BUFFER_REACHED, read, length));
+      }
+      read += Character.codePointCount(output.array(), start, output.position() - start);
+    }
+    return output.flip().toString();
+  }
+}
@@ -5,22 +5,45 @@ import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A class for reading code points from an {@link InputStream} using a {@link CharsetDecoder}. This
  * differs from {@link java.io.InputStreamReader} in that it reads a single code point at a time.
  * Whereas {@link java.io.InputStreamReader} reads a large number of code points into a buffer
  * regardless of the number of code points requested.
+ *
+ * <p>The byte and char buffers are allocated once and reused for every code point, so a reader can
+ * be {@link #reset(InputStream) reset} and reused for any number of streams without producing
+ * garbage per character. Their sizes are computed once per charset. Instances are not thread safe,
+ * a reader should be confined to a single thread.
  */
 public class CodePointStreamReader {
-  private final InputStream input;
+  private static final Map<Charset, Integer> MAX_BYTES_PER_CHAR = new ConcurrentHashMap<>();
   private final CharsetDecoder decoder;
-  private final int maxBytesPerChar;
+  private final ByteBuffer byteBuffer;
+  private final CharBuffer charBuffer;
+  private InputStream input;
+
+  /**
+   * Creates a new CodePointStreamReader that has no input stream yet. {@link #reset(InputStream)}
+   * must be called before reading.
+   *
+   * @param decoder The {@link CharsetDecoder} to use for decoding the code points.
+   */
+  public CodePointStreamReader(CharsetDecoder decoder) {
+    this.decoder = decoder;
+    int maxBytesPerChar =
+        MAX_BYTES_PER_CHAR.computeIfAbsent(
+            decoder.charset(), c -> (int) c.newEncoder().maxBytesPerChar());
+    byteBuffer = ByteBuffer.allocate(maxBytesPerChar * 2);
+    charBuffer = CharBuffer.allocate(2);
+  }
 
   public CodePointStreamReader(InputStream input, CharsetDecoder decoder) {
+    this(decoder);
     this.input = input;
-    this.decoder = decoder;
-    maxBytesPerChar = (int) decoder.charset().newEncoder().maxBytesPerChar();
   }
 
   private static int surrogatePair(int high, int low) {
@@ -32,7 +55,7 @@ public class CodePointStreamReader {
     if (Character.isSurrogate(ch)) {
       return surrogatePair(ch, charBuffer.get());
     } else {
-      return Character.codePointAt(new char[] {ch}, 0);
+      return ch;
     }
   }
 
@@ -44,6 +67,19 @@ public class CodePointStreamReader {
     }
   }
 
+  /**
+   * Resets the reader to read from the given input stream. The decoder is reset as well, so that no
+   * state is carried over from the previous input stream.
+   *
+   * @param input The input stream to read from.
+   * @return This reader.
+   */
+  public CodePointStreamReader reset(InputStream input) {
+    this.input = input;
+    decoder.reset();
+    return this;
+  }
+
   /**
    * Reads a single code point from the input stream. Note that a code point may consist of multiple
    * bytes depending on the charset.
@@ -52,14 +88,14 @@ public class CodePointStreamReader {
    * @throws IOException If an I/O error occurs.
    */
   public int read() throws IOException {
-    ByteBuffer byteBuffer = ByteBuffer.allocate(maxBytesPerChar * 2);
-    CharBuffer charBuffer = CharBuffer.allocate(2);
+    byteBuffer.clear();
+    charBuffer.clear();
     int offset = 0;
     while (true) {
       if (input.read(byteBuffer.array(), offset++, 1) == -1) {
         return -1;
       } else {
-        CoderResult result = decode(byteBuffer, offset, charBuffer);
+        CoderResult result = decode(offset);
         if (charBuffer.position() > 0) {
           return convertToCodePoint(charBuffer);
         } else {
@@ -69,8 +105,14 @@ public class CodePointStreamReader {
     }
   }
 
-  private CoderResult decode(ByteBuffer byteBuffer, int offset, CharBuffer charBuffer) {
+  private CoderResult decode(int offset) {
     byteBuffer.limit(offset);
-    return decoder.decode(byteBuffer, charBuffer, offset == byteBuffer.capacity());
+    boolean endOfInput = offset == byteBuffer.capacity();
+    CoderResult result = decoder.decode(byteBuffer, charBuffer, endOfInput);
+    if (endOfInput) {
+      // the decoder cannot continue after end of input, reset it for the next code point
+      decoder.reset();
+    }
+    return result;
   }
 }
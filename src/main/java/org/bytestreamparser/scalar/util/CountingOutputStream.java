@@ -0,0 +1,27 @@
+package org.bytestreamparser.scalar.util;
+
+import java.io.OutputStream;
+
+/** An {@link OutputStream} that discards the bytes written to it, only counting them. */
+public class CountingOutputStream extends OutputStream {
+  private int count;
+
+  /**
+   * Returns the number of bytes written so far.
+   *
+   * @return the number of bytes written.
+   */
+  public int count() {
+    return count;
+  }
+
+  @Override
+  public void write(int value) {
+    count++;
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) {
+    count += length;
+  }
+}
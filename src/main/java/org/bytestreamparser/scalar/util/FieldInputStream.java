@@ -0,0 +1,187 @@
+package org.bytestreamparser.scalar.util;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A buffered {@link InputStream} meant to sit between the parsers and a blocking source, e.g., a
+ * socket. A read that cannot be served from the buffer makes a single read of the underlying input
+ * stream of up to the buffer size, so that a field, or many small ones, costs at most one
+ * underlying read as long as the source has the bytes available. Bytes already buffered are
+ * returned without reading from the source, even if fewer than requested.
+ *
+ * <p>Unlike {@link java.io.BufferedInputStream}, state is guarded by a {@link ReentrantLock}
+ * rather than {@code synchronized}, so a virtual thread blocked in the underlying read does not pin
+ * its carrier thread. {@link #mark(int)} and {@link #reset()} are supported, which makes the stream
+ * suitable for parsing variable width charsets with a {@link
+ * org.bytestreamparser.scalar.parser.CharStringParser}.
+ */
+public class FieldInputStream extends InputStream {
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+  private static final String INVALID_SIZE = "buffer size must be greater than 0, but was [%d]";
+  private final ReentrantLock lock = new ReentrantLock();
+  private final InputStream input;
+  private byte[] buffer;
+  private int position;
+  private int count;
+  private int markPosition = -1;
+  private int markLimit;
+
+  /**
+   * Creates a new FieldInputStream with a buffer of 8192 bytes.
+   *
+   * @param input the input stream to read from.
+   */
+  public FieldInputStream(InputStream input) {
+    this(input, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Creates a new FieldInputStream.
+   *
+   * @param input the input stream to read from.
+   * @param bufferSize the size of the buffer, which is also the most bytes read from the input
+   *     stream at once.
+   */
+  public FieldInputStream(InputStream input, int bufferSize) {
+    check(bufferSize > 0, INVALID_SIZE, bufferSize);
+    this.input = input;
+    this.buffer = new byte[bufferSize];
+  }
+
+  @Override
+  public int read() throws IOException {
+    lock.lock();
+    try {
+      if (position >= count && fill() <= 0) {
+        return -1;
+      }
+      return buffer[position++] & 0xFF;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws IOException {
+    lock.lock();
+    try {
+      if (length == 0) {
+        return 0;
+      } else if (position >= count) {
+        if (length >= buffer.length && markPosition < 0) {
+          return input.read(bytes, offset, length);
+        } else if (fill() <= 0) {
+          return -1;
+        }
+      }
+      int read = Math.min(length, count - position);
+      System.arraycopy(buffer, position, bytes, offset, read);
+      position += read;
+      return read;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    lock.lock();
+    try {
+      if (n <= 0) {
+        return 0;
+      } else if (position < count) {
+        int skipped = (int) Math.min(n, count - position);
+        position += skipped;
+        return skipped;
+      } else if (markPosition < 0) {
+        return input.skip(n);
+      } else if (fill() <= 0) {
+        return 0;
+      }
+      int skipped = (int) Math.min(n, count - position);
+      position += skipped;
+      return skipped;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int available() throws IOException {
+    lock.lock();
+    try {
+      int buffered = count - position;
+      int available = input.available();
+      return buffered > Integer.MAX_VALUE - available ? Integer.MAX_VALUE : buffered + available;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean markSupported() {
+    return true;
+  }
+
+  @Override
+  public void mark(int readLimit) {
+    lock.lock();
+    try {
+      markLimit = readLimit;
+      markPosition = position;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void reset() throws IOException {
+    lock.lock();
+    try {
+      if (markPosition < 0) {
+        throw new IOException("Resetting to invalid mark");
+      }
+      position = markPosition;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    lock.lock();
+    try {
+      input.close();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Makes room in the buffer, keeping the marked bytes, and reads once from the input stream. */
+  private int fill() throws IOException {
+    if (markPosition < 0) {
+      position = 0;
+    } else if (position - markPosition >= markLimit) {
+      markPosition = -1;
+      position = 0;
+    } else if (markPosition > 0) {
+      int kept = position - markPosition;
+      System.arraycopy(buffer, markPosition, buffer, 0, kept);
+      markPosition = 0;
+      position = kept;
+    } else if (position >= buffer.length) {
+      buffer = Arrays.copyOf(buffer, (int) Math.min((long) position * 2, markLimit));
+    }
+    count = position;
+    int read = input.read(buffer, position, buffer.length - position);
+    if (read > 0) {
+      count += read;
+    }
+    return read;
+  }
+}
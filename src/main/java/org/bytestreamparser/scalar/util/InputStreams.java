@@ -3,6 +3,7 @@ package org.bytestreamparser.scalar.util;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 
 /** Utility class for reading from input streams. */
@@ -25,19 +26,59 @@ public final class InputStreams {
    */
   public static byte[] readFully(InputStream input, int length) throws IOException {
     byte[] bytes = new byte[length];
+    int total = read(input, bytes);
+    if (total != length) {
+      throw new EOFException(String.format(END_OF_BYTE_STREAM_REACHED, total, length));
+    }
+    return bytes;
+  }
+
+  /**
+   * Skips the specified number of bytes of the input stream. Bytes are skipped with {@link
+   * InputStream#skip(long)} where possible, and read one at a time to tell the end of the stream
+   * from a stream that does not skip.
+   *
+   * @param input The input stream to skip the bytes of.
+   * @param length The number of bytes to skip. If the input stream does not contain enough bytes,
+   *     an {@link EOFException} is thrown.
+   * @throws IOException If an I/O error occurs.
+   */
+  public static void skipFully(InputStream input, int length) throws IOException {
     int total = 0;
     while (total < length) {
-      int read = input.read(bytes, total, length - total);
-      if (read == -1) {
-        break;
+      long skipped = input.skip((long) length - total);
+      if (skipped > 0) {
+        total += (int) skipped;
+      } else if (input.read() == -1) {
+        throw new EOFException(String.format(END_OF_BYTE_STREAM_REACHED, total, length));
       } else {
-        total += read;
+        total++;
       }
     }
-    if (total != length) {
-      throw new EOFException(String.format(END_OF_BYTE_STREAM_REACHED, total, length));
+  }
+
+  /**
+   * Reads the specified number of characters of a fixed width charset from the input stream. All
+   * the bytes are read with as few calls to the input stream as possible and decoded in one pass.
+   *
+   * @param input The input stream to read from.
+   * @param length The number of characters to read. If the input stream does not contain enough
+   *     characters, an {@link EOFException} is thrown.
+   * @param charset The fixed width {@link Charset} to use for decoding the characters. Note that
+   *     malformed input and unmappable characters will be replaced.
+   * @param bytesPerChar The number of bytes every character of the charset is encoded with.
+   * @return The characters read from the input stream.
+   * @throws IOException If an I/O error occurs.
+   */
+  public static String readFully(InputStream input, int length, Charset charset, int bytesPerChar)
+      throws IOException {
+    byte[] bytes = new byte[length * bytesPerChar];
+    int total = read(input, bytes);
+    if (total != bytes.length) {
+      throw new EOFException(
+          String.format(END_OF_CHAR_STREAM_REACHED, total / bytesPerChar, length));
     }
-    return bytes;
+    return new String(bytes, charset);
   }
 
   /**
@@ -52,8 +93,21 @@ public final class InputStreams {
    */
   public static String readFully(InputStream input, int length, CharsetDecoder decoder)
       throws IOException {
+    return readFully(new CodePointStreamReader(input, decoder), length);
+  }
+
+  /**
+   * Reads the specified number of characters with the given reader. The reader should already be
+   * {@link CodePointStreamReader#reset(InputStream) reset} to the input stream to read from.
+   *
+   * @param reader The {@link CodePointStreamReader} to read the characters with.
+   * @param length The number of characters to read. If the input stream does not contain enough
+   *     characters, an {@link EOFException} is thrown.
+   * @return The characters read from the input stream.
+   * @throws IOException If an I/O error occurs.
+   */
+  public static String readFully(CodePointStreamReader reader, int length) throws IOException {
     StringBuilder builder = new StringBuilder(length);
-    CodePointStreamReader reader = new CodePointStreamReader(input, decoder);
     int read = 0;
     while (read < length) {
       int codePoint = reader.read();
@@ -66,4 +120,17 @@ public final class InputStreams {
     }
     return builder.toString();
   }
+
+  private static int read(InputStream input, byte[] bytes) throws IOException {
+    int total = 0;
+    while (total < bytes.length) {
+      int read = input.read(bytes, total, bytes.length - total);
+      if (read == -1) {
+        break;
+      } else {
+        total += read;
+      }
+    }
+    return total;
+  }
 }
@@ -0,0 +1,84 @@
+package org.bytestreamparser.scalar.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An {@link InputStream} that reads at most a limited number of bytes from another {@link
+ * InputStream}, and reports end of stream once the limit is reached. {@link #mark(int)} and {@link
+ * #reset()} are supported if the underlying input stream supports them. Neither of them is {@code
+ * synchronized}, so that the stream does not pin a virtual thread, and it should not be shared
+ * between threads.
+ */
+public class LimitedInputStream extends FilterInputStream {
+  private long remaining;
+  private long markedRemaining;
+
+  /**
+   * Creates a new LimitedInputStream.
+   *
+   * @param input the input stream to read from.
+   * @param limit the maximum number of bytes to read.
+   */
+  public LimitedInputStream(InputStream input, long limit) {
+    super(input);
+    this.remaining = limit;
+    this.markedRemaining = limit;
+  }
+
+  /** Returns the number of bytes that can still be read before the limit is reached. */
+  public long remaining() {
+    return remaining;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (remaining <= 0) {
+      return -1;
+    }
+    int read = super.read();
+    if (read != -1) {
+      remaining--;
+    }
+    return read;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    } else if (remaining <= 0) {
+      return -1;
+    }
+    int read = super.read(bytes, offset, (int) Math.min(length, remaining));
+    if (read != -1) {
+      remaining -= read;
+    }
+    return read;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = super.skip(Math.min(n, remaining));
+    remaining -= skipped;
+    return skipped;
+  }
+
+  @Override
+  public int available() throws IOException {
+    return (int) Math.min(super.available(), remaining);
+  }
+
+  @Override
+  public void mark(int readLimit) {
+    super.mark(readLimit);
+    markedRemaining = remaining;
+  }
+
+  @Override
+  public void reset() throws IOException {
+    super.reset();
+    remaining = markedRemaining;
+  }
+}
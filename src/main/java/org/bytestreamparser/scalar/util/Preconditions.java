@@ -17,4 +17,38 @@ public final class Preconditions {
       throw new IllegalArgumentException(String.format(errorTemplate, args));
     }
   }
+
+  /**
+   * Checks if the condition is true, otherwise throws an {@link IllegalArgumentException} with the
+   * error message. Unlike {@link #check(boolean, String, Object...)}, the numeric argument is
+   * neither boxed nor wrapped in an array unless the check fails.
+   *
+   * @param condition the condition to check.
+   * @param errorTemplate the error message template.
+   * @param id the first argument to the error message template.
+   * @param value the second argument to the error message template.
+   */
+  public static void check(boolean condition, String errorTemplate, Object id, long value) {
+    if (!condition) {
+      throw new IllegalArgumentException(String.format(errorTemplate, id, value));
+    }
+  }
+
+  /**
+   * Checks if the condition is true, otherwise throws an {@link IllegalArgumentException} with the
+   * error message. Like {@link #check(boolean, String, Object, long)}, the numeric arguments are
+   * neither boxed nor wrapped in an array unless the check fails.
+   *
+   * @param condition the condition to check.
+   * @param errorTemplate the error message template.
+   * @param id the first argument to the error message template.
+   * @param limit the second argument to the error message template.
+   * @param value the third argument to the error message template.
+   */
+  public static void check(
+      boolean condition, String errorTemplate, Object id, long limit, long value) {
+    if (!condition) {
+      throw new IllegalArgumentException(String.format(errorTemplate, id, limit, value));
+    }
+  }
 }
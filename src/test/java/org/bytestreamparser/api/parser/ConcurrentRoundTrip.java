@@ -0,0 +1,65 @@
+package org.bytestreamparser.api.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Packs and parses values with a single parser from many threads at once, asserting that every
+ * round trip returns the original value.
+ */
+public final class ConcurrentRoundTrip {
+  private static final int THREADS = 8;
+  private static final int ITERATIONS = 500;
+
+  private ConcurrentRoundTrip() {}
+
+  public static <V> void assertRoundTrips(DataParser<V> parser, List<V> values) throws Exception {
+    assertRoundTrips(parser, values, Function.identity());
+  }
+
+  public static <V> void assertRoundTrips(
+      DataParser<V> parser, List<V> values, Function<V, ?> comparable) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<?>> results = new ArrayList<>();
+      for (int thread = 0; thread < THREADS; thread++) {
+        int offset = thread;
+        results.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int i = 0; i < ITERATIONS; i++) {
+                    V value = values.get((offset + i) % values.size());
+                    byte[] bytes = parser.packToBytes(value);
+                    assertThat(comparable.apply(parser.parse(ByteBuffer.wrap(bytes))))
+                        .isEqualTo(comparable.apply(value));
+                    assertThat(comparable.apply(parser.parse(new ByteArrayInputStream(bytes))))
+                        .isEqualTo(comparable.apply(value));
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (Future<?> result : results) {
+        try {
+          result.get();
+        } catch (ExecutionException e) {
+          throw new AssertionError("concurrent round trip failed", e.getCause());
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -7,6 +7,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.random.RandomGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -58,4 +60,57 @@ class DataParserTest {
       return input.readAllBytes();
     }
   }
+
+  @Test
+  void pack_byte_buffer() throws IOException {
+    byte[] value = new byte[randomGenerator.nextInt(1, 100)];
+    randomGenerator.nextBytes(value);
+    ByteBuffer output = ByteBuffer.allocate(value.length + 1);
+    parser.pack(value, output);
+    assertThat(output.position()).isEqualTo(value.length);
+    assertThat(Arrays.copyOf(output.array(), value.length)).isEqualTo(value);
+  }
+
+  @Test
+  void parse_byte_buffer() throws IOException {
+    byte[] value = new byte[randomGenerator.nextInt(1, 100)];
+    randomGenerator.nextBytes(value);
+    ByteBuffer input = ByteBuffer.allocateDirect(value.length).put(value).flip();
+    assertThat(parser.parse(input)).isEqualTo(value);
+    assertThat(input.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void size() throws IOException {
+    byte[] value = new byte[randomGenerator.nextInt(1, 100)];
+    randomGenerator.nextBytes(value);
+    assertThat(parser.fixedSize()).isEmpty();
+    assertThat(parser.maxSize()).isEmpty();
+    assertThat(parser.sizeOf(value)).isEqualTo(value.length);
+  }
+
+  @Test
+  void pack_to_bytes() throws IOException {
+    byte[] value = new byte[randomGenerator.nextInt(1, 100)];
+    randomGenerator.nextBytes(value);
+    assertThat(parser.packToBytes(value)).isEqualTo(value);
+  }
+
+  @Test
+  void skip() throws IOException {
+    byte[] value = new byte[randomGenerator.nextInt(1, 100)];
+    randomGenerator.nextBytes(value);
+    ByteBuffer input = ByteBuffer.wrap(value);
+    parser.skip(input);
+    assertThat(input.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void skip_input_stream() throws IOException {
+    byte[] value = new byte[randomGenerator.nextInt(1, 100)];
+    randomGenerator.nextBytes(value);
+    ByteArrayInputStream input = new ByteArrayInputStream(value);
+    parser.skip(input);
+    assertThat(input.available()).isZero();
+  }
 }
@@ -0,0 +1,168 @@
+package org.bytestreamparser.api.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bytestreamparser.composite.parser.CountedListParser;
+import org.bytestreamparser.composite.parser.ListParser;
+import org.bytestreamparser.composite.parser.VariableLengthParser;
+import org.bytestreamparser.scalar.parser.BcdStringParser;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.bytestreamparser.scalar.parser.UnsignedByteParser;
+import org.junit.jupiter.api.Test;
+
+class IncrementalParserTest {
+  private static final VariableLengthParser<String> FRAME_PARSER =
+      new VariableLengthParser<>(
+          "frame",
+          new UnsignedByteParser("length"),
+          length -> new CharStringParser("content", length, StandardCharsets.US_ASCII),
+          String::length);
+
+  private static byte[] pack(List<String> frames) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new ListParser<>("frames", FRAME_PARSER).pack(frames, output);
+    return output.toByteArray();
+  }
+
+  private static <V> List<V> drain(IncrementalParser<V> parser) throws IOException {
+    List<V> values = new ArrayList<>();
+    for (Optional<V> value = parser.next(); value.isPresent(); value = parser.next()) {
+      values.add(value.get());
+    }
+    return values;
+  }
+
+  @Test
+  void next_without_input() throws IOException {
+    assertThat(new IncrementalParser<>(FRAME_PARSER).next()).isEmpty();
+  }
+
+  @Test
+  void next_in_one_chunk() throws IOException {
+    List<String> frames = List.of("first", "", "third frame");
+    IncrementalParser<String> parser = new IncrementalParser<>(FRAME_PARSER);
+    ByteBuffer chunk = ByteBuffer.wrap(pack(frames));
+    parser.feed(chunk);
+    assertThat(chunk.hasRemaining()).isFalse();
+    assertThat(drain(parser)).containsExactlyElementsOf(frames);
+    assertThat(parser.buffered()).isZero();
+  }
+
+  @Test
+  void next_byte_by_byte() throws IOException {
+    List<String> frames = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      frames.add("frame-" + "x".repeat(i));
+    }
+    IncrementalParser<String> parser = new IncrementalParser<>(FRAME_PARSER, 1);
+    List<String> parsed = new ArrayList<>();
+    for (byte b : pack(frames)) {
+      parser.feed(ByteBuffer.wrap(new byte[] {b}));
+      parsed.addAll(drain(parser));
+    }
+    assertThat(parsed).containsExactlyElementsOf(frames);
+    assertThat(parser.buffered()).isZero();
+  }
+
+  @Test
+  void next_keeps_partial_frame() throws IOException {
+    byte[] bytes = pack(List.of("first", "second"));
+    IncrementalParser<String> parser = new IncrementalParser<>(FRAME_PARSER);
+    parser.feed(ByteBuffer.wrap(bytes, 0, 9));
+    assertThat(drain(parser)).containsExactly("first");
+    assertThat(parser.buffered()).isEqualTo(3);
+    parser.feed(ByteBuffer.wrap(bytes, 9, bytes.length - 9));
+    assertThat(drain(parser)).containsExactly("second");
+  }
+
+  @Test
+  void next_counted_list_in_two_chunks() throws IOException {
+    byte[] bytes = pack(List.of("first", "second"));
+    IncrementalParser<List<String>> parser =
+        new IncrementalParser<>(new CountedListParser<>("frames", 2, FRAME_PARSER));
+    parser.feed(ByteBuffer.wrap(bytes, 0, 6));
+    assertThat(parser.next()).isEmpty();
+    parser.feed(ByteBuffer.wrap(bytes, 6, bytes.length - 6));
+    assertThat(parser.next()).contains(List.of("first", "second"));
+  }
+
+  @Test
+  void unbounded_parser() {
+    ListParser<String> listParser = new ListParser<>("frames", FRAME_PARSER);
+    assertThatThrownBy(() -> new IncrementalParser<>(listParser))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "frames: parser [%s] must not read to the end of its input",
+            ListParser.class.getName());
+  }
+
+  @Test
+  void next_parses_again_only_after_feed() throws IOException {
+    AtomicInteger attempts = new AtomicInteger();
+    DataParser<String> frameParser =
+        new DataParser<>("frame") {
+          @Override
+          public void pack(String value, OutputStream output) throws IOException {
+            FRAME_PARSER.pack(value, output);
+          }
+
+          @Override
+          public String parse(InputStream input) throws IOException {
+            attempts.incrementAndGet();
+            return FRAME_PARSER.parse(input);
+          }
+        };
+    IncrementalParser<String> parser = new IncrementalParser<>(frameParser);
+    parser.feed(ByteBuffer.wrap(new byte[] {3, 'a'}));
+    assertThat(parser.next()).isEmpty();
+    assertThat(parser.next()).isEmpty();
+    assertThat(attempts).hasValue(1);
+    parser.feed(ByteBuffer.wrap(new byte[] {'b', 'c'}));
+    assertThat(parser.next()).contains("abc");
+    assertThat(attempts).hasValue(2);
+  }
+
+  @Test
+  void next_waits_for_fixed_size() throws IOException {
+    IncrementalParser<String> parser = new IncrementalParser<>(new BcdStringParser("bcd", 4));
+    parser.feed(ByteBuffer.wrap(new byte[] {0x12}));
+    assertThat(parser.next()).isEmpty();
+    parser.feed(ByteBuffer.wrap(new byte[] {0x34, 0x56}));
+    assertThat(parser.next()).contains("1234");
+    assertThat(parser.buffered()).isEqualTo(1);
+  }
+
+  @Test
+  void next_invalid_value() {
+    IncrementalParser<String> parser = new IncrementalParser<>(new BcdStringParser("bcd", 2));
+    parser.feed(ByteBuffer.wrap(new byte[] {(byte) 0xAB}));
+    assertThatThrownBy(parser::next).isInstanceOf(IllegalArgumentException.class);
+    assertThat(parser.buffered()).isEqualTo(1);
+    parser.feed(ByteBuffer.wrap(new byte[] {0x12}));
+    assertThatThrownBy(parser::next).isInstanceOf(IllegalArgumentException.class);
+    assertThat(parser.buffered()).isEqualTo(2);
+  }
+
+  @Test
+  void next_after_clear() throws IOException {
+    IncrementalParser<String> parser = new IncrementalParser<>(new BcdStringParser("bcd", 2));
+    parser.feed(ByteBuffer.wrap(new byte[] {(byte) 0xAB, 0x12}));
+    assertThatThrownBy(parser::next).isInstanceOf(IllegalArgumentException.class);
+    parser.clear();
+    assertThat(parser.buffered()).isZero();
+    assertThat(parser.next()).isEmpty();
+    parser.feed(ByteBuffer.wrap(new byte[] {0x34}));
+    assertThat(parser.next()).contains("34");
+  }
+}
@@ -0,0 +1,243 @@
+package org.bytestreamparser.codec.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.bytestreamparser.codec.annotation.Bcd;
+import org.bytestreamparser.codec.annotation.Binary;
+import org.bytestreamparser.codec.annotation.CharString;
+import org.bytestreamparser.codec.annotation.Codec;
+import org.bytestreamparser.codec.annotation.Hex;
+import org.bytestreamparser.codec.annotation.LengthPrefixed;
+import org.bytestreamparser.codec.annotation.UnsignedByte;
+import org.bytestreamparser.codec.annotation.UnsignedShort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CodecProcessorTest {
+  private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+  @Codec(id = "authorization")
+  record Authorization(
+      @CharString(length = 4) String mti,
+      @Bcd(length = 6) String processingCode,
+      @Bcd(length = 12) long amount,
+      @LengthPrefixed(size = 2, charset = "US-ASCII") @CharString String pan,
+      @CharString(length = 2, charset = "IBM1047") String currency,
+      @UnsignedByte int flags,
+      Terminal terminal) {}
+
+  @Codec
+  record Terminal(@Hex(length = 4) String id, @UnsignedShort Integer sequence) {}
+
+  @Codec
+  static class Record {
+    @LengthPrefixed @Bcd String account;
+
+    @Binary(length = 2)
+    byte[] mac;
+
+    @LengthPrefixed(size = 2)
+    @Binary
+    byte[] data;
+  }
+
+  private static Authorization authorization() {
+    return new Authorization(
+        "0100", "003000", 12345L, "4761739001010119", "AB", 255, new Terminal("beef", 513));
+  }
+
+  @Test
+  void pack() throws IOException {
+    Authorization value = authorization();
+    CodecProcessorTest_AuthorizationCodec codec = new CodecProcessorTest_AuthorizationCodec();
+    String expected =
+        "30313030"
+            + "003000"
+            + "000000012345"
+            + "3136"
+            + "34373631373339303031303130313139"
+            + "c1c2"
+            + "ff"
+            + "beef0201";
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    codec.pack(value, output);
+    assertThat(HEX_FORMAT.formatHex(output.toByteArray())).isEqualTo(expected);
+    assertThat(HEX_FORMAT.formatHex(codec.packToBytes(value))).isEqualTo(expected);
+    assertThat(codec.sizeOf(value)).isEqualTo(output.size());
+    assertThat(codec.getId()).isEqualTo("authorization");
+  }
+
+  @Test
+  void parse() throws IOException {
+    Authorization value = authorization();
+    CodecProcessorTest_AuthorizationCodec codec = new CodecProcessorTest_AuthorizationCodec();
+    byte[] bytes = codec.packToBytes(value);
+
+    assertThat(codec.parse(new ByteArrayInputStream(bytes))).isEqualTo(value);
+    assertThat(codec.parse(ByteBuffer.wrap(bytes))).isEqualTo(value);
+  }
+
+  @Test
+  void class_fields() throws IOException {
+    Record value = new Record();
+    value.account = "1234567";
+    value.mac = new byte[] {1, 2};
+    value.data = new byte[] {3, 4, 5};
+    CodecProcessorTest_RecordCodec codec = new CodecProcessorTest_RecordCodec();
+    byte[] bytes = codec.packToBytes(value);
+
+    assertThat(HEX_FORMAT.formatHex(bytes)).isEqualTo("07" + "01234567" + "0102" + "0003030405");
+    for (Record parsed :
+        List.of(
+            codec.parse(new ByteArrayInputStream(bytes)), codec.parse(ByteBuffer.wrap(bytes)))) {
+      assertThat(parsed.account).isEqualTo("1234567");
+      assertThat(parsed.mac).containsExactly(1, 2);
+      assertThat(parsed.data).containsExactly(3, 4, 5);
+    }
+    assertThat(codec.getId()).isEqualTo("Record");
+  }
+
+  @Test
+  void sizes() throws IOException {
+    CodecProcessorTest_TerminalCodec terminal = new CodecProcessorTest_TerminalCodec();
+    CodecProcessorTest_AuthorizationCodec authorization =
+        new CodecProcessorTest_AuthorizationCodec();
+
+    assertThat(terminal.fixedSize()).isEqualTo(OptionalInt.of(4));
+    assertThat(terminal.maxSize()).isEqualTo(OptionalInt.of(4));
+    assertThat(terminal.sizeOf(new Terminal("0000", 0))).isEqualTo(4);
+    assertThat(authorization.fixedSize()).isEmpty();
+    assertThat(authorization.maxSize()).isEmpty();
+  }
+
+  @Test
+  void skip() throws IOException {
+    CodecProcessorTest_AuthorizationCodec codec = new CodecProcessorTest_AuthorizationCodec();
+    byte[] bytes = codec.packToBytes(authorization());
+    ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 1).put(bytes).flip();
+
+    codec.skip(buffer);
+    assertThat(buffer.position()).isEqualTo(bytes.length);
+  }
+
+  @Test
+  void missing_annotation(@TempDir Path output) throws IOException {
+    assertThat(compile(output, "@Codec record Value(String text) {}"))
+        .containsExactly("field of type [java.lang.String] must have a codec annotation");
+  }
+
+  @Test
+  void invalid_annotations(@TempDir Path output) throws IOException {
+    String source =
+        """
+        @Codec record Value(
+            @Bcd(length = 19) long amount,
+            @CharString String text,
+            @CharString(length = 2, charset = "NOPE") String name,
+            @LengthPrefixed(size = 3) @Binary byte[] data,
+            @UnsignedByte String flags,
+            @Hex(length = 2) @Bcd(length = 2) String code) {}
+        """;
+    assertThat(compile(output, source))
+        .containsExactly(
+            "length must be between 1 and 18, but was [19]",
+            "length must be greater than 0, but was [0]",
+            "charset [NOPE] is not supported",
+            "size of a binary length must be 1 or 2, but was [3]",
+            "field of type [java.lang.String] must be an int",
+            "field must have exactly one codec annotation");
+    assertThat(output.resolve("ValueCodec.java")).doesNotExist();
+  }
+
+  @Test
+  void invalid_types(@TempDir Path output) throws IOException {
+    String source =
+        """
+        @Codec interface Value {}
+        @Codec abstract class Base {}
+        @Codec class Fields {
+          @Bcd(length = 2) private String code;
+          Fields(int code) {}
+        }
+        """;
+    assertThat(compile(output, source))
+        .containsExactlyInAnyOrder(
+            "@Codec type must be a record or a class, but was [INTERFACE]",
+            "@Codec type must not be abstract",
+            "@Codec class must have a non-private no-arg constructor");
+  }
+
+  @Test
+  void generate(@TempDir Path output) throws IOException {
+    String source =
+        """
+        @Codec record Value(@Bcd(length = 4) String code, @UnsignedByte int count) {}
+        """;
+    assertThat(compile(output, source)).isEmpty();
+    assertThat(Files.readString(output.resolve("ValueCodec.java")))
+        .contains(
+            "final class ValueCodec extends org.bytestreamparser.api.parser.DataParser<Value>")
+        .contains("var count$ = countParser.parseInt(input);")
+        .contains("countParser.packInt(value.count(), output);");
+  }
+
+  private static List<String> compile(Path output, String source) throws IOException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    String imports =
+        List.of(Bcd.class, Binary.class, CharString.class, Codec.class, Hex.class).stream()
+                .map(c -> "import " + c.getName() + ";")
+                .collect(Collectors.joining())
+            + "import "
+            + LengthPrefixed.class.getName()
+            + ";import "
+            + UnsignedByte.class.getName()
+            + ";";
+    JavaFileObject file =
+        new SimpleJavaFileObject(URI.create("string:///Value.java"), JavaFileObject.Kind.SOURCE) {
+          @Override
+          public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return imports + source;
+          }
+        };
+    JavaCompiler.CompilationTask task =
+        compiler.getTask(
+            null,
+            null,
+            diagnostics,
+            List.of(
+                "-proc:only",
+                "-classpath",
+                System.getProperty("java.class.path"),
+                "-s",
+                output.toString(),
+                "-d",
+                output.toString()),
+            null,
+            List.of(file));
+    task.setProcessors(List.of(new CodecProcessor()));
+    task.call();
+    return diagnostics.getDiagnostics().stream()
+        .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+        .map(d -> d.getMessage(null))
+        .collect(Collectors.toList());
+  }
+}
@@ -36,4 +36,10 @@ class AbstractDataObjectTest {
     assertThat(data.set(id, value).fields()).contains(id);
     assertThat(data.clear(id).fields()).isEmpty();
   }
+
+  @Test
+  void clear_all(@Randomize String id, @Randomize int value) {
+    assertThat(data.set(id, value).set(id + "2", value).clear().fields()).isEmpty();
+    assertValue(data).hasValue(id, null);
+  }
 }
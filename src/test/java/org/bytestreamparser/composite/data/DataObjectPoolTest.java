@@ -0,0 +1,60 @@
+package org.bytestreamparser.composite.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class DataObjectPoolTest {
+  private AtomicInteger created;
+  private DataObjectPool<TestDataObject> pool;
+
+  @BeforeEach
+  void setUp() {
+    created = new AtomicInteger();
+    pool =
+        new DataObjectPool<>(
+            () -> {
+              created.incrementAndGet();
+              return new TestDataObject();
+            },
+            2);
+  }
+
+  @Test
+  void get_from_empty_pool() {
+    assertThat(pool.get()).isNotSameAs(pool.get());
+    assertThat(created).hasValue(2);
+  }
+
+  @Test
+  void get_released(@Randomize String id, @Randomize int value) {
+    TestDataObject instance = pool.get().set(id, value);
+    pool.release(instance);
+    assertThat(pool.available()).isOne();
+    assertThat(pool.get()).isSameAs(instance);
+    assertThat(instance.fields()).isEmpty();
+    assertThat(created).hasValue(1);
+  }
+
+  @Test
+  void release_to_full_pool() {
+    pool.release(new TestDataObject());
+    pool.release(new TestDataObject());
+    pool.release(new TestDataObject());
+    assertThat(pool.available()).isEqualTo(2);
+  }
+
+  @Test
+  void invalid_capacity() {
+    assertThatThrownBy(() -> new DataObjectPool<>(TestDataObject::new, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("capacity must be greater than 0, but was [0]");
+  }
+}
@@ -0,0 +1,36 @@
+package org.bytestreamparser.composite.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class FieldLayoutTest {
+  @Test
+  void index_and_id(@Randomize String id1, @Randomize String id2) {
+    FieldLayout layout = FieldLayout.of(id1, id2);
+    assertThat(layout.size()).isEqualTo(2);
+    assertThat(layout.ids()).containsExactly(id1, id2);
+    assertThat(layout.index(id1)).isZero();
+    assertThat(layout.index(id2)).isOne();
+    assertThat(layout.id(0)).isEqualTo(id1);
+    assertThat(layout.id(1)).isEqualTo(id2);
+  }
+
+  @Test
+  void index_of_unknown_field(@Randomize String id1, @Randomize String id2) {
+    FieldLayout layout = FieldLayout.of(List.of(id1));
+    assertThat(layout.index(id1 + id2)).isEqualTo(-1);
+  }
+
+  @Test
+  void index_of_duplicate_field(@Randomize String id1, @Randomize String id2) {
+    FieldLayout layout = FieldLayout.of(id1, id2, id1);
+    assertThat(layout.size()).isEqualTo(3);
+    assertThat(layout.index(id1)).isZero();
+  }
+}
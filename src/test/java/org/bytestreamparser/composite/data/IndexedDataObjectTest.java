@@ -0,0 +1,66 @@
+package org.bytestreamparser.composite.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.bytestreamparser.composite.assertion.DataAssert.assertValue;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class IndexedDataObjectTest {
+  private static final String F1 = "F1";
+  private static final String F2 = "F2";
+  private static final FieldLayout LAYOUT = FieldLayout.of(F1, F2);
+  private TestIndexedDataObject data;
+
+  @BeforeEach
+  void setUp() {
+    data = new TestIndexedDataObject(LAYOUT);
+  }
+
+  @Test
+  void fields(@Randomize String id) {
+    assertThat(data.fields()).isEmpty();
+    assertThat(data.set(F2, 1).set(id, 2).set(F1, 3).fields()).containsExactly(F1, F2, id);
+  }
+
+  @Test
+  void get_and_set(@Randomize int value) {
+    assertValue(data).hasValue(F1, null);
+    assertValue(data.set(F1, value)).hasValue(F1, value);
+    assertThat(data.<Integer>get(0)).isEqualTo(value);
+  }
+
+  @Test
+  void get_and_set_by_index(@Randomize int value) {
+    assertThat(data.<Integer>get(1)).isNull();
+    assertValue(data.set(1, value)).hasValue(F2, value);
+  }
+
+  @Test
+  void get_and_set_outside_layout(@Randomize String id, @Randomize int value) {
+    assertValue(data).hasValue(id, null);
+    assertValue(data.set(id, value)).hasValue(id, value);
+  }
+
+  @Test
+  void clear(@Randomize String id, @Randomize int value) {
+    assertThat(data.set(F1, value).set(id, value).fields()).containsExactly(F1, id);
+    assertThat(data.clear(F1).clear(id).fields()).isEmpty();
+  }
+
+  @Test
+  void clear_by_index(@Randomize int value) {
+    assertThat(data.set(F2, value).clear(1).fields()).isEmpty();
+  }
+
+  @Test
+  void clear_all(@Randomize String id, @Randomize int value) {
+    assertThat(data.set(F1, value).set(F2, value).set(id, value).clear().fields()).isEmpty();
+    assertThat(data.<Integer>get(0)).isNull();
+    assertValue(data).hasValue(id, null);
+  }
+}
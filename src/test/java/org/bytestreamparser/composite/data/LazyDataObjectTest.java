@@ -0,0 +1,86 @@
+package org.bytestreamparser.composite.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.bytestreamparser.composite.assertion.DataAssert.assertValue;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bytestreamparser.scalar.parser.BinaryParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class LazyDataObjectTest {
+  private static final String F1 = "F1";
+  private static final String F2 = "F2";
+  private TestLazyDataObject data;
+
+  @BeforeEach
+  void setUp() {
+    data = new TestLazyDataObject();
+  }
+
+  @Test
+  void get_deferred(@Randomize byte[] value) {
+    AtomicInteger decoded = new AtomicInteger();
+    BinaryParser parser =
+        new BinaryParser(F1, value.length) {
+          @Override
+          public byte[] parse(ByteBuffer input) throws IOException {
+            decoded.incrementAndGet();
+            return super.parse(input);
+          }
+        };
+    data.defer(F1, parser, ByteBuffer.wrap(value));
+    assertThat(data.fields()).containsExactly(F1);
+    assertThat(decoded).hasValue(0);
+
+    assertValue(data).hasValue(F1, value);
+    assertValue(data).hasValue(F1, value);
+    assertThat(decoded).hasValue(1);
+  }
+
+  @Test
+  void raw(@Randomize byte[] value) {
+    data.defer(F1, new BinaryParser(F1, value.length), ByteBuffer.wrap(value));
+    data.defer(F2, new BinaryParser(F2, value.length), ByteBuffer.wrap(value));
+    ByteBuffer raw = data.raw(F1);
+    assertThat(raw.isReadOnly()).isTrue();
+    assertThat(raw).isEqualTo(ByteBuffer.wrap(value));
+
+    data.get(F1);
+    data.set(F2, value);
+    assertThat(data.raw(F1)).isNull();
+    assertThat(data.raw(F2)).isNull();
+    assertThat(data.raw("unknown")).isNull();
+  }
+
+  @Test
+  void set_and_clear(@Randomize byte[] value) {
+    data.defer(F1, new BinaryParser(F1, value.length), ByteBuffer.wrap(value));
+    assertValue(data.set(F1, "value")).hasValue(F1, "value");
+    assertThat(data.clear(F1).fields()).isEmpty();
+  }
+
+  @Test
+  void get_invalid_deferred(@Randomize byte[] value) {
+    data.defer(F1, new BinaryParser(F1, value.length + 1), ByteBuffer.wrap(value));
+    assertThatThrownBy(() -> data.get(F1))
+        .isInstanceOf(UncheckedIOException.class)
+        .hasCauseInstanceOf(EOFException.class);
+  }
+
+  @Test
+  void clear_all(@Randomize byte[] value) {
+    data.defer(F1, new BinaryParser(F1, value.length), ByteBuffer.wrap(value)).set(F2, value);
+    assertThat(data.clear().fields()).isEmpty();
+    assertThat(data.raw(F1)).isNull();
+  }
+}
@@ -0,0 +1,7 @@
+package org.bytestreamparser.composite.data;
+
+public class TestIndexedDataObject extends IndexedDataObject<TestIndexedDataObject> {
+  public TestIndexedDataObject(FieldLayout layout) {
+    super(layout);
+  }
+}
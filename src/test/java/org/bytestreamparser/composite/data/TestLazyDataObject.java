@@ -0,0 +1,9 @@
+package org.bytestreamparser.composite.data;
+
+import java.util.LinkedHashMap;
+
+public class TestLazyDataObject extends LazyDataObject<TestLazyDataObject> {
+  public TestLazyDataObject() {
+    super(new LinkedHashMap<>());
+  }
+}
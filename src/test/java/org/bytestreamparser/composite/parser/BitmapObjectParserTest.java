@@ -0,0 +1,216 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.composite.data.TestDataObject;
+import org.bytestreamparser.scalar.parser.BcdStringParser;
+import org.bytestreamparser.scalar.parser.BinaryParser;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.bytestreamparser.scalar.parser.UnsignedByteParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BitmapObjectParserTest {
+  private static final HexFormat HEX_FORMAT = HexFormat.of();
+  private static final String MTI = "mti";
+  private static final String PAN = "pan";
+  private static final String AMOUNT = "amount";
+  private static final String MAC = "mac";
+  private static final String ORIGINAL = "original";
+  private static final String RESERVED = "reserved";
+  private BitmapObjectParser<TestDataObject> parser;
+
+  private static <V> DataFieldParser<TestDataObject, V> field(DataParser<V> parser) {
+    return new DataFieldParser<>(parser.getId(), parser);
+  }
+
+  @BeforeEach
+  void setUp() {
+    parser =
+        new BitmapObjectParser<>(
+            "message",
+            TestDataObject::new,
+            List.of(field(new CharStringParser(MTI, 4, StandardCharsets.US_ASCII))),
+            Map.of(
+                2,
+                field(
+                    new VariableLengthParser<>(
+                        PAN,
+                        new UnsignedByteParser("length"),
+                        length -> new CharStringParser(PAN, length, StandardCharsets.US_ASCII),
+                        String::length)),
+                4,
+                field(new BcdStringParser(AMOUNT, 12)),
+                64,
+                field(new BinaryParser(MAC, 2)),
+                90,
+                field(new BcdStringParser(ORIGINAL, 4)),
+                128,
+                field(new BinaryParser(RESERVED, 1))));
+  }
+
+  @Test
+  void pack_primary_bitmap() throws IOException {
+    TestDataObject value =
+        new TestDataObject().set(MTI, "0100").set(AMOUNT, "000000012345").set(PAN, "4761");
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+
+    assertThat(HEX_FORMAT.formatHex(output.toByteArray()))
+        .isEqualTo("30313030" + "5000000000000000" + "0434373631" + "000000012345");
+    assertThat(parser.sizeOf(value)).isEqualTo(output.size());
+  }
+
+  @Test
+  void pack_secondary_bitmap() throws IOException {
+    TestDataObject value =
+        new TestDataObject()
+            .set(MTI, "0400")
+            .set(MAC, new byte[] {1, 2})
+            .set(ORIGINAL, "1234")
+            .set(RESERVED, new byte[] {3});
+    ByteBuffer output = ByteBuffer.allocate(64);
+    parser.pack(value, output);
+
+    assertThat(HEX_FORMAT.formatHex(output.array(), 0, output.position()))
+        .isEqualTo("30343030" + "8000000000000001" + "0000004000000001" + "0102" + "1234" + "03");
+    assertThat(parser.sizeOf(value)).isEqualTo(output.position());
+  }
+
+  @Test
+  void parse_primary_bitmap() throws IOException {
+    byte[] bytes =
+        HEX_FORMAT.parseHex("30313030" + "5000000000000000" + "0434373631" + "000000012345");
+    for (TestDataObject value :
+        List.of(
+            parser.parse(new ByteArrayInputStream(bytes)), parser.parse(ByteBuffer.wrap(bytes)))) {
+      assertThat(value.fields()).containsExactlyInAnyOrder(MTI, PAN, AMOUNT);
+      assertThat(value.<String>get(MTI)).isEqualTo("0100");
+      assertThat(value.<String>get(PAN)).isEqualTo("4761");
+      assertThat(value.<String>get(AMOUNT)).isEqualTo("000000012345");
+    }
+  }
+
+  @Test
+  void round_trip_secondary_bitmap() throws IOException {
+    TestDataObject value =
+        new TestDataObject()
+            .set(MTI, "0400")
+            .set(PAN, "476173")
+            .set(MAC, new byte[] {1, 2})
+            .set(ORIGINAL, "1234")
+            .set(RESERVED, new byte[] {3});
+    byte[] bytes = parser.packToBytes(value);
+
+    for (TestDataObject parsed :
+        List.of(
+            parser.parse(new ByteArrayInputStream(bytes)), parser.parse(ByteBuffer.wrap(bytes)))) {
+      assertThat(parsed.fields()).containsExactlyInAnyOrder(MTI, PAN, MAC, ORIGINAL, RESERVED);
+      assertThat(parsed.<String>get(PAN)).isEqualTo("476173");
+      assertThat(parsed.<byte[]>get(MAC)).containsExactly(1, 2);
+      assertThat(parsed.<String>get(ORIGINAL)).isEqualTo("1234");
+      assertThat(parsed.<byte[]>get(RESERVED)).containsExactly(3);
+    }
+  }
+
+  @Test
+  void pack_ignores_unknown_fields() throws IOException {
+    TestDataObject value = new TestDataObject().set(MTI, "0800").set("other", "value");
+    assertThat(HEX_FORMAT.formatHex(parser.packToBytes(value)))
+        .isEqualTo("30383030" + "0000000000000000");
+  }
+
+  @Test
+  void pack_ignores_null_fields() throws IOException {
+    TestDataObject value = new TestDataObject().set(MTI, "0100").set(PAN, null).set(ORIGINAL, null);
+    assertThat(HEX_FORMAT.formatHex(parser.packToBytes(value)))
+        .isEqualTo("30313030" + "0000000000000000");
+    assertThat(parser.sizeOf(value)).isEqualTo(12);
+  }
+
+  @Test
+  void parse_unknown_field() {
+    byte[] bytes = HEX_FORMAT.parseHex("30313030" + "2000000000000000" + "00");
+    assertThatThrownBy(() -> parser.parse(ByteBuffer.wrap(bytes)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("message: no parser for field [3] of the bitmap");
+  }
+
+  @Test
+  void parse_truncated_bitmap() {
+    byte[] bytes = HEX_FORMAT.parseHex("30313030" + "50000000");
+    assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream(bytes)))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 4 bytes, bytes expected [8]");
+  }
+
+  @Test
+  void max_size() {
+    BitmapObjectParser<TestDataObject> fixedFields =
+        new BitmapObjectParser<>(
+            "message",
+            TestDataObject::new,
+            Map.of(4, field(new BcdStringParser(AMOUNT, 12)), 64, field(new BinaryParser(MAC, 2))));
+    assertThat(fixedFields.maxSize()).isEqualTo(OptionalInt.of(16 + 6 + 2));
+    assertThat(fixedFields.fixedSize()).isEmpty();
+    assertThat(parser.maxSize()).isEmpty();
+  }
+
+  @Test
+  void invalid_field_number() {
+    Map<Integer, DataFieldParser<TestDataObject, byte[]>> fieldParsers =
+        Map.of(1, field(new BinaryParser("bitmap", 8)));
+    assertThatThrownBy(() -> new BitmapObjectParser<>("message", TestDataObject::new, fieldParsers))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("message: field must be between 2 and 128, but was [1]");
+  }
+
+  @Test
+  void duplicate_field_id() {
+    Map<Integer, DataFieldParser<TestDataObject, byte[]>> fieldParsers =
+        Map.of(2, field(new BinaryParser("data", 2)), 3, field(new BinaryParser("data", 4)));
+    assertThatThrownBy(() -> new BitmapObjectParser<>("message", TestDataObject::new, fieldParsers))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("message: field [data] must have a single number");
+  }
+
+  @Test
+  void conditional_field() {
+    Map<Integer, DataFieldParser<TestDataObject, byte[]>> fieldParsers =
+        Map.of(
+            2,
+            new DataFieldParser<TestDataObject, byte[]>(
+                "data", new BinaryParser("data", 2), d -> d.get(MTI) != null));
+    assertThatThrownBy(() -> new BitmapObjectParser<>("message", TestDataObject::new, fieldParsers))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "message: field [data] must not have a predicate, its presence is given by the bitmap");
+  }
+
+  @Test
+  void skip() throws IOException {
+    TestDataObject value =
+        new TestDataObject().set(MTI, "0400").set(PAN, "476173").set(ORIGINAL, "1234");
+    byte[] bytes = Arrays.copyOf(parser.packToBytes(value), parser.sizeOf(value) + 1);
+
+    ByteArrayInputStream input = new ByteArrayInputStream(bytes);
+    parser.skip(input);
+    assertThat(input.available()).isOne();
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    parser.skip(buffer);
+    assertThat(buffer.remaining()).isOne();
+  }
+}
@@ -0,0 +1,145 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalInt;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.bytestreamparser.scalar.parser.UnsignedShortParser;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@ExtendWith(RandomParametersExtension.class)
+class BoundedListParserTest {
+  private static BoundedListParser<String> listParser(String charset, int bytes, int length) {
+    CharStringParser stringParser = new CharStringParser("item", length, Charset.forName(charset));
+    return new BoundedListParser<>("list", bytes, stringParser);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void parse(String charset, @Randomize String value1, @Randomize String value2)
+      throws IOException {
+    byte[] bytes = (value1 + value2).getBytes(charset);
+    int length = value1.getBytes(charset).length;
+    BoundedListParser<String> parser = listParser(charset, length, value1.length());
+    InputStream input = new ByteArrayInputStream(bytes);
+    assertThat(parser.parse(input)).containsExactly(value1);
+    assertThat(input.available()).isEqualTo(bytes.length - length);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void parse_byte_buffer(String charset, @Randomize String value1, @Randomize String value2)
+      throws IOException {
+    byte[] bytes = (value1 + value2 + value1).getBytes(charset);
+    int length = (value1 + value2).getBytes(charset).length;
+    BoundedListParser<String> parser = listParser(charset, length, value1.length());
+    ByteBuffer input = ByteBuffer.wrap(bytes);
+    Iterator<String> iterator = parser.iterator(input);
+    assertThat(input.position()).isEqualTo(length);
+    assertThat(iterator).toIterable().containsExactly(value1, value2);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void parse_byte_buffer_insufficient_data(String charset, @Randomize String value)
+      throws IOException {
+    int length = value.getBytes(charset).length;
+    BoundedListParser<String> parser = listParser(charset, length + 1, value.length());
+    ByteBuffer input = ByteBuffer.wrap(value.getBytes(charset));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage(
+            "End of stream reached after reading %d bytes, bytes expected [%d]",
+            length, length + 1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047"})
+  void parse_item_beyond_bound(String charset, @Randomize String value1, @Randomize String value2)
+      throws IOException {
+    BoundedListParser<String> parser = listParser(charset, 3, value1.length());
+    InputStream input = new ByteArrayInputStream((value1 + value2).getBytes(charset));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 3 chars, chars expected [5]");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "UTF-8"})
+  void pack_and_parse_length_prefixed(
+      String charset, @Randomize String value1, @Randomize String value2) throws IOException {
+    Charset cs = Charset.forName(charset);
+    DataParser<String> itemParser = new CharStringParser("item", value1.length(), cs);
+    VariableLengthParser<List<String>> parser =
+        new VariableLengthParser<>(
+            "list",
+            new UnsignedShortParser("length"),
+            length -> new BoundedListParser<>("list", length, itemParser),
+            values -> String.join("", values).getBytes(cs).length);
+
+    ByteBuffer output = ByteBuffer.allocate(64);
+    parser.pack(List.of(value1, value2), output);
+    output.put((byte) 0).flip();
+    assertThat(parser.parse(output)).containsExactly(value1, value2);
+    assertThat(output.remaining()).isOne();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void size(String charset, @Randomize String value1, @Randomize String value2) throws IOException {
+    int length = (value1 + value2).getBytes(charset).length;
+    BoundedListParser<String> parser = listParser(charset, length, value1.length());
+    assertThat(parser.fixedSize()).isEqualTo(OptionalInt.of(length));
+    assertThat(parser.sizeOf(List.of(value1, value2))).isEqualTo(length);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "UTF-8"})
+  void pack_invalid_length(String charset, @Randomize String value1, @Randomize String value2)
+      throws IOException {
+    int length = value1.getBytes(charset).length;
+    int size = (value1 + value2).getBytes(charset).length;
+    BoundedListParser<String> parser = listParser(charset, length, value1.length());
+    List<String> values = List.of(value1, value2);
+    assertThatThrownBy(() -> parser.pack(values, new ByteArrayOutputStream()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("list: values must take up %d bytes, but took [%d]", length, size);
+    assertThatThrownBy(() -> parser.pack(values, ByteBuffer.allocate(size)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("list: values must take up %d bytes, but took [%d]", length, size);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "UTF-8"})
+  void parse_custom_item_input(String charset, @Randomize String value1, @Randomize String value2)
+      throws IOException {
+    byte[] bytes = (value1 + value2).getBytes(charset);
+    BoundedListParser<String> parser =
+        new BoundedListParser<>(
+            "list",
+            bytes.length,
+            new CharStringParser("item", value1.length(), Charset.forName(charset))) {
+          @Override
+          protected InputStream itemInput(InputStream input) {
+            return new BufferedInputStream(super.itemInput(input));
+          }
+        };
+    assertThat(parser.parse(new ByteArrayInputStream(bytes))).containsExactly(value1, value2);
+  }
+}
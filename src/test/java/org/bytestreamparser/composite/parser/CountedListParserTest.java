@@ -0,0 +1,168 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.scalar.parser.BinaryParser;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.bytestreamparser.scalar.parser.UnsignedByteParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@ExtendWith(RandomParametersExtension.class)
+class CountedListParserTest {
+  private static CountedListParser<String> listParser(String charset, int count, int length) {
+    CharStringParser stringParser = new CharStringParser("item", length, Charset.forName(charset));
+    return new CountedListParser<>("list", count, stringParser);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void parse(String charset, @Randomize String value1, @Randomize String value2)
+      throws IOException {
+    CountedListParser<String> parser = listParser(charset, 1, value1.length());
+    ByteArrayInputStream input = new ByteArrayInputStream((value1 + value2).getBytes(charset));
+    assertThat(parser.parse(input)).containsExactly(value1);
+    assertThat(input.available()).isEqualTo(value2.getBytes(charset).length);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void parse_byte_buffer(String charset, @Randomize String value1, @Randomize String value2)
+      throws IOException {
+    CountedListParser<String> parser = listParser(charset, 2, value1.length());
+    ByteBuffer input = ByteBuffer.wrap((value1 + value2 + value1).getBytes(charset));
+    assertThat(parser.stream(input).collect(Collectors.toList())).containsExactly(value1, value2);
+    assertThat(input.remaining()).isEqualTo(value1.getBytes(charset).length);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void parse_insufficient_data(String charset, @Randomize String value) throws IOException {
+    CountedListParser<String> parser = listParser(charset, 2, value.length());
+    ByteBuffer input = ByteBuffer.wrap(value.getBytes(charset));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 0 chars, chars expected [5]");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void pack(String charset, @Randomize String value1, @Randomize String value2) throws IOException {
+    CountedListParser<String> parser = listParser(charset, 2, value1.length());
+    byte[] expected = (value1 + value2).getBytes(charset);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(List.of(value1, value2), output);
+    assertThat(output.toByteArray()).isEqualTo(expected);
+
+    ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+    parser.pack(List.of(value1, value2), buffer);
+    assertThat(buffer.array()).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "UTF-8"})
+  void pack_invalid_size(String charset, @Randomize String value) {
+    CountedListParser<String> parser = listParser(charset, 2, value.length());
+    ByteBuffer output = ByteBuffer.allocate(32);
+    assertThatThrownBy(() -> parser.pack(List.of(value), output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("list: value must be of size 2, but was [1]");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "UTF-8"})
+  void pack_and_parse_count_prefixed(
+      String charset, @Randomize String value1, @Randomize String value2) throws IOException {
+    DataParser<String> itemParser =
+        new CharStringParser("item", value1.length(), Charset.forName(charset));
+    VariableLengthParser<List<String>> parser =
+        new VariableLengthParser<>(
+            "list",
+            new UnsignedByteParser("count"),
+            count -> new CountedListParser<>("list", count, itemParser),
+            List::size);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(List.of(value1, value2), output);
+    assertThat(output.toByteArray()[0]).isEqualTo((byte) 2);
+    assertThat(parser.parse(new ByteArrayInputStream(output.toByteArray())))
+        .containsExactly(value1, value2);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void size(String charset, @Randomize String value1, @Randomize String value2) throws IOException {
+    CountedListParser<String> parser = listParser(charset, 2, value1.length());
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(List.of(value1, value2), output);
+    assertThat(parser.sizeOf(List.of(value1, value2))).isEqualTo(output.size());
+    assertThat(parser.maxSize().orElseThrow()).isGreaterThanOrEqualTo(output.size());
+  }
+
+  @Test
+  void size_of_fixed_size_items() {
+    CountedListParser<byte[]> parser =
+        new CountedListParser<>("list", 3, new BinaryParser("item", 4));
+    assertThat(parser.fixedSize()).isEqualTo(OptionalInt.of(12));
+    assertThat(parser.maxSize()).isEqualTo(OptionalInt.of(12));
+  }
+
+  @Test
+  void skip_fixed_size_items(@Randomize(length = 13) byte[] value) throws IOException {
+    CountedListParser<byte[]> parser =
+        new CountedListParser<>("list", 3, new BinaryParser("item", 4));
+    ByteBuffer input = ByteBuffer.wrap(value);
+    parser.skip(input);
+    assertThat(input.remaining()).isOne();
+    assertThatThrownBy(() -> parser.skip(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 1 bytes, bytes expected [12]");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void skip(String charset, @Randomize String value1, @Randomize String value2) throws IOException {
+    CountedListParser<String> parser = listParser(charset, 1, value1.length());
+    ByteBuffer input = ByteBuffer.wrap((value1 + value2).getBytes(charset));
+    parser.skip(input);
+    assertThat(input.remaining()).isEqualTo(value2.getBytes(charset).length);
+  }
+
+  @Test
+  void skip_input_stream_fixed_size_items(@Randomize(length = 13) byte[] value) throws IOException {
+    CountedListParser<byte[]> parser =
+        new CountedListParser<>("list", 3, new BinaryParser("item", 4));
+    ByteArrayInputStream input = new ByteArrayInputStream(value);
+    parser.skip(input);
+    assertThat(input.available()).isOne();
+    assertThatThrownBy(() -> parser.skip(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 1 bytes, bytes expected [12]");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void skip_input_stream(String charset, @Randomize String value1, @Randomize String value2)
+      throws IOException {
+    CountedListParser<String> parser = listParser(charset, 1, value1.length());
+    ByteArrayInputStream input = new ByteArrayInputStream((value1 + value2).getBytes(charset));
+    parser.skip(input);
+    assertThat(input.available()).isEqualTo(value2.getBytes(charset).length);
+  }
+}
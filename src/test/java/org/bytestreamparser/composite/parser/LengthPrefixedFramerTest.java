@@ -0,0 +1,228 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.composite.data.TestDataObject;
+import org.bytestreamparser.scalar.parser.BcdStringParser;
+import org.bytestreamparser.scalar.parser.BinarySliceParser;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.bytestreamparser.scalar.parser.StringIntegerParser;
+import org.bytestreamparser.scalar.parser.UnsignedShortParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LengthPrefixedFramerTest {
+  private static final String CODE = "code";
+  private static final String TEXT = "text";
+  private static final int FRAMES = 500;
+
+  private static ObjectParser<TestDataObject> frameParser() {
+    return new ObjectParser<>(
+        "frame",
+        TestDataObject::new,
+        List.of(
+            new DataFieldParser<>(CODE, new BcdStringParser(CODE, 4)),
+            new DataFieldParser<TestDataObject, String>(
+                TEXT,
+                new VariableLengthParser<>(
+                    TEXT,
+                    new UnsignedShortParser("length"),
+                    length -> new CharStringParser(TEXT, length, StandardCharsets.US_ASCII),
+                    String::length))));
+  }
+
+  private static LengthPrefixedFramer<TestDataObject> binaryFramer(int bufferSize) {
+    return new LengthPrefixedFramer<>(
+        "framer", new UnsignedShortParser("length"), frameParser(), bufferSize);
+  }
+
+  private static List<TestDataObject> frames() {
+    List<TestDataObject> frames = new ArrayList<>(FRAMES);
+    for (int i = 0; i < FRAMES; i++) {
+      frames.add(
+          new TestDataObject().set(CODE, String.format("%04d", i)).set(TEXT, "x".repeat(i % 50)));
+    }
+    return frames;
+  }
+
+  private static byte[] pack(LengthPrefixedFramer<TestDataObject> framer) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    for (TestDataObject frame : frames()) {
+      framer.pack(frame, output);
+    }
+    return output.toByteArray();
+  }
+
+  private static void assertFrames(List<TestDataObject> parsed) {
+    List<TestDataObject> frames = frames();
+    assertThat(parsed).hasSameSizeAs(frames);
+    for (int i = 0; i < FRAMES; i++) {
+      assertThat(parsed.get(i).<String>get(CODE)).isEqualTo(frames.get(i).get(CODE));
+      assertThat(parsed.get(i).<String>get(TEXT)).isEqualTo(frames.get(i).get(TEXT));
+    }
+  }
+
+  @Test
+  void pack() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    binaryFramer(16).pack(new TestDataObject().set(CODE, "1234").set(TEXT, "abc"), output);
+    assertThat(output.toByteArray()).containsExactly(0, 7, 0x12, 0x34, 0, 3, 'a', 'b', 'c');
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 16, 8192})
+  void read_channel(int bufferSize) throws IOException {
+    LengthPrefixedFramer<TestDataObject> framer = binaryFramer(bufferSize);
+    List<TestDataObject> parsed = new ArrayList<>();
+    framer.read(Channels.newChannel(new ByteArrayInputStream(pack(framer))), parsed::add);
+    assertFrames(parsed);
+    assertThat(framer.buffered()).isZero();
+  }
+
+  @Test
+  void read_channel_in_batches() throws IOException {
+    LengthPrefixedFramer<TestDataObject> framer = binaryFramer(64 * 1024);
+    ReadableByteChannel delegate = Channels.newChannel(new ByteArrayInputStream(pack(framer)));
+    AtomicInteger reads = new AtomicInteger();
+    ReadableByteChannel channel =
+        new ReadableByteChannel() {
+          @Override
+          public int read(ByteBuffer dst) throws IOException {
+            reads.incrementAndGet();
+            return delegate.read(dst);
+          }
+
+          @Override
+          public boolean isOpen() {
+            return delegate.isOpen();
+          }
+
+          @Override
+          public void close() throws IOException {
+            delegate.close();
+          }
+        };
+    List<TestDataObject> parsed = new ArrayList<>();
+    framer.read(channel, parsed::add);
+    assertFrames(parsed);
+    assertThat(reads.get()).isLessThan(FRAMES / 10);
+  }
+
+  @Test
+  void read_input_stream_byte_by_byte() throws IOException {
+    LengthPrefixedFramer<TestDataObject> framer = binaryFramer(8);
+    InputStream delegate = new ByteArrayInputStream(pack(framer));
+    InputStream input =
+        new InputStream() {
+          @Override
+          public int read() throws IOException {
+            return delegate.read();
+          }
+
+          @Override
+          public int read(byte[] b, int off, int len) throws IOException {
+            return delegate.read(b, off, Math.min(len, 1));
+          }
+        };
+    List<TestDataObject> parsed = new ArrayList<>();
+    framer.read(input, parsed::add);
+    assertFrames(parsed);
+  }
+
+  @Test
+  void receive_partial_frame() throws IOException {
+    LengthPrefixedFramer<TestDataObject> framer = binaryFramer(16);
+    byte[] frame = {0, 7, 0x12, 0x34, 0, 3, 'a', 'b', 'c'};
+    List<TestDataObject> parsed = new ArrayList<>();
+    assertThat(
+            framer.receive(Channels.newChannel(new ByteArrayInputStream(frame, 0, 5)), parsed::add))
+        .isTrue();
+    assertThat(parsed).isEmpty();
+    assertThat(framer.buffered()).isEqualTo(5);
+    assertThat(
+            framer.receive(Channels.newChannel(new ByteArrayInputStream(frame, 5, 4)), parsed::add))
+        .isTrue();
+    assertThat(parsed).hasSize(1);
+    assertThat(parsed.get(0).<String>get(TEXT)).isEqualTo("abc");
+    assertThat(framer.receive(Channels.newChannel(InputStream.nullInputStream()), parsed::add))
+        .isFalse();
+  }
+
+  @Test
+  void receive_after_invalid_frame() throws IOException {
+    LengthPrefixedFramer<TestDataObject> framer = binaryFramer(16);
+    byte[] frames = {0, 4, (byte) 0xAB, (byte) 0xCD, 0, 0, 0, 5, 0x12, 0x34, 0, 1, 'a'};
+    byte[] frame = {0, 5, 0x56, 0x78, 0, 1, 'b'};
+    List<TestDataObject> parsed = new ArrayList<>();
+    assertThatThrownBy(
+            () ->
+                framer.receive(Channels.newChannel(new ByteArrayInputStream(frames)), parsed::add))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(framer.buffered()).isEqualTo(7);
+    assertThat(framer.receive(Channels.newChannel(new ByteArrayInputStream(frame)), parsed::add))
+        .isTrue();
+    assertThat(parsed).hasSize(2);
+    assertThat(parsed.get(0).<String>get(CODE)).isEqualTo("1234");
+    assertThat(parsed.get(1).<String>get(CODE)).isEqualTo("5678");
+    assertThat(framer.buffered()).isZero();
+  }
+
+  @Test
+  void receive_slices_valid_until_consumer_returns() throws IOException {
+    LengthPrefixedFramer<ByteBuffer> framer =
+        new LengthPrefixedFramer<>(
+            "framer", new UnsignedShortParser("length"), new BinarySliceParser("frame", 3), 16);
+    byte[] frames = {0, 3, 'a', 'a', 'a', 0, 3, 'b', 'b', 'b', 0, 3, 'c'};
+    List<ByteBuffer> parsed = new ArrayList<>();
+    List<String> contents = new ArrayList<>();
+    framer.receive(
+        Channels.newChannel(new ByteArrayInputStream(frames)),
+        frame -> {
+          parsed.add(frame);
+          contents.add(StandardCharsets.US_ASCII.decode(frame.duplicate()).toString());
+        });
+    assertThat(contents).containsExactly("aaa", "bbb");
+    // the partial frame has been moved over the first frame by the time receive returns
+    assertThat(StandardCharsets.US_ASCII.decode(parsed.get(0).duplicate()).toString())
+        .isEqualTo("caa");
+  }
+
+  @Test
+  void read_ascii_length() throws IOException {
+    DataParser<Integer> lengthParser =
+        new StringIntegerParser(
+            "length", new CharStringParser("length", 4, StandardCharsets.US_ASCII), 4, 10);
+    LengthPrefixedFramer<String> framer =
+        new LengthPrefixedFramer<>(
+            "framer", lengthParser, new CharStringParser("frame", 5, StandardCharsets.US_ASCII));
+    List<String> parsed = new ArrayList<>();
+    framer.read(
+        new ByteArrayInputStream("0005hello0005world".getBytes(StandardCharsets.US_ASCII)),
+        parsed::add);
+    assertThat(parsed).containsExactly("hello", "world");
+  }
+
+  @Test
+  void read_truncated_frame() {
+    LengthPrefixedFramer<TestDataObject> framer = binaryFramer(16);
+    byte[] frame = {0, 7, 0x12, 0x34, 0, 3, 'a'};
+    assertThatThrownBy(() -> framer.read(new ByteArrayInputStream(frame), value -> {}))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 7 bytes, bytes expected [9]");
+  }
+}
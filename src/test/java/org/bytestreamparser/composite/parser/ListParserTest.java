@@ -8,7 +8,11 @@ import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
 import java.io.*;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
 import org.bytestreamparser.scalar.parser.CharStringParser;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -71,4 +75,90 @@ class ListParserTest {
         .isInstanceOf(EOFException.class)
         .hasMessage("End of stream reached after reading 4 chars, chars expected [5]");
   }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16BE"})
+  void pack_byte_buffer(String charset, @Randomize String value1, @Randomize String value2)
+      throws IOException {
+    ListParser<String> parser = listParser(charset, value1.length());
+    byte[] expected = (value1 + value2).getBytes(charset);
+    ByteBuffer output = ByteBuffer.allocate(expected.length);
+    parser.pack(List.of(value1, value2), output);
+    assertThat(output.array()).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16", "UTF-16BE", "UTF-16LE"})
+  void parse_byte_buffer(String charset, @Randomize String value1, @Randomize String value2)
+      throws IOException {
+    ListParser<String> parser = listParser(charset, value1.length());
+    ByteBuffer input = ByteBuffer.wrap((value1 + value2).getBytes(charset));
+    assertThat(parser.parse(input)).isEqualTo(List.of(value1, value2));
+    assertThat(input.hasRemaining()).isFalse();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void iterator(String charset, @Randomize String value1, @Randomize String value2)
+      throws IOException {
+    ListParser<String> parser = listParser(charset, value1.length());
+    ByteArrayInputStream input = new ByteArrayInputStream((value1 + value2).getBytes(charset));
+    Iterator<String> iterator = parser.iterator(input);
+
+    assertThat(iterator.hasNext()).isTrue();
+    assertThat(iterator.next()).isEqualTo(value1);
+    assertThat(input.available()).isEqualTo(value2.getBytes(charset).length);
+    assertThat(iterator.next()).isEqualTo(value2);
+    assertThat(iterator.hasNext()).isFalse();
+    assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void iterator_insufficient_data(String charset, @Randomize(length = 4) String value)
+      throws IOException {
+    ListParser<String> parser = listParser(charset, 5);
+    Iterator<String> iterator = parser.iterator(ByteBuffer.wrap(value.getBytes(charset)));
+    assertThatThrownBy(iterator::next)
+        .isInstanceOf(UncheckedIOException.class)
+        .hasCauseInstanceOf(EOFException.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void stream(String charset, @Randomize String value1, @Randomize String value2)
+      throws IOException {
+    ListParser<String> parser = listParser(charset, value1.length());
+    byte[] bytes = (value1 + value2).getBytes(charset);
+    assertThat(parser.stream(new ByteArrayInputStream(bytes)).collect(Collectors.toList()))
+        .containsExactly(value1, value2);
+    assertThat(parser.stream(ByteBuffer.wrap(bytes)).limit(1).collect(Collectors.toList()))
+        .containsExactly(value1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void parse_to_consumer(String charset, @Randomize String value1, @Randomize String value2)
+      throws IOException {
+    ListParser<String> parser = listParser(charset, value1.length());
+    byte[] bytes = (value1 + value2).getBytes(charset);
+
+    List<String> values = new ArrayList<>();
+    parser.parse(new ByteArrayInputStream(bytes), values::add);
+    parser.parse(ByteBuffer.wrap(bytes), values::add);
+    assertThat(values).containsExactly(value1, value2, value1, value2);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16", "UTF-16BE", "UTF-16LE"})
+  void size(String charset, @Randomize String value1, @Randomize String value2) throws IOException {
+    ListParser<String> parser = listParser(charset, value1.length());
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(List.of(value1, value2), output);
+    assertThat(parser.sizeOf(List.of(value1, value2))).isEqualTo(output.size());
+    assertThat(parser.fixedSize()).isEmpty();
+    assertThat(parser.maxSize()).isEmpty();
+  }
 }
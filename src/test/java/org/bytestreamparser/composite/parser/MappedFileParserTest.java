@@ -0,0 +1,157 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.bytestreamparser.scalar.parser.UnsignedByteParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedFileParserTest {
+  private static final int ITEMS = 1_000;
+  private static final VariableLengthParser<String> ITEM_PARSER =
+      new VariableLengthParser<>(
+          "item",
+          new UnsignedByteParser("length"),
+          length -> new CharStringParser("content", length, StandardCharsets.US_ASCII),
+          String::length);
+
+  private static List<String> items() {
+    List<String> items = new ArrayList<>(ITEMS);
+    for (int i = 0; i < ITEMS; i++) {
+      items.add("item-" + "x".repeat(i % 20) + i);
+    }
+    return items;
+  }
+
+  private static Path write(Path directory, List<String> items) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new ListParser<>("items", ITEM_PARSER).pack(items, output);
+    return Files.write(directory.resolve("items.bin"), output.toByteArray());
+  }
+
+  @Test
+  void parse(@TempDir Path directory) throws IOException {
+    List<String> items = items();
+    Path file = write(directory, items);
+    assertThat(new MappedFileParser<>(ITEM_PARSER).parse(file)).containsExactlyElementsOf(items);
+  }
+
+  @Test
+  void parse_across_windows(@TempDir Path directory) throws IOException {
+    List<String> items = items();
+    Path file = write(directory, items);
+    assertThat(new MappedFileParser<>(ITEM_PARSER, 64).parse(file))
+        .containsExactlyElementsOf(items);
+  }
+
+  @Test
+  void parse_channel(@TempDir Path directory) throws IOException {
+    List<String> items = items();
+    Path file = write(directory, items);
+    List<String> parsed = new ArrayList<>();
+    try (FileChannel channel = FileChannel.open(file)) {
+      channel.position(ITEM_PARSER.sizeOf(items.get(0)));
+      new MappedFileParser<>(ITEM_PARSER, 100).parse(channel, parsed::add);
+      assertThat(channel.position()).isEqualTo(channel.size());
+    }
+    assertThat(parsed).containsExactlyElementsOf(items.subList(1, ITEMS));
+  }
+
+  @Test
+  void stream(@TempDir Path directory) throws IOException {
+    List<String> items = items();
+    Path file = write(directory, items);
+    try (Stream<String> stream = new MappedFileParser<>(ITEM_PARSER, 100).stream(file)) {
+      assertThat(stream.limit(10).collect(Collectors.toList()))
+          .containsExactlyElementsOf(items.subList(0, 10));
+    }
+  }
+
+  @Test
+  void parse_empty_file(@TempDir Path directory) throws IOException {
+    Path file = Files.write(directory.resolve("items.bin"), new byte[0]);
+    assertThat(new MappedFileParser<>(ITEM_PARSER).parse(file)).isEmpty();
+  }
+
+  @Test
+  void parse_truncated_file(@TempDir Path directory) throws IOException {
+    Path file = Files.write(directory.resolve("items.bin"), new byte[] {1, 'a', 3, 'b'});
+    MappedFileParser<String> parser = new MappedFileParser<>(ITEM_PARSER, 3);
+    assertThatThrownBy(() -> parser.parse(file))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 1 chars, chars expected [3]");
+  }
+
+  @Test
+  void stream_truncated_file(@TempDir Path directory) throws IOException {
+    Path file = Files.write(directory.resolve("items.bin"), new byte[] {1, 'a', 3, 'b'});
+    try (Stream<String> stream = new MappedFileParser<>(ITEM_PARSER).stream(file)) {
+      assertThatThrownBy(() -> stream.collect(Collectors.toList()))
+          .isInstanceOf(UncheckedIOException.class)
+          .hasCauseInstanceOf(EOFException.class);
+    }
+  }
+
+  @Test
+  void parse_item_larger_than_window(@TempDir Path directory) throws IOException {
+    Path file = Files.write(directory.resolve("items.bin"), new byte[] {3, 'a', 'b', 'c', 0});
+    MappedFileParser<String> parser = new MappedFileParser<>(ITEM_PARSER, 2);
+    assertThatThrownBy(() -> parser.parse(file))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 1 chars, chars expected [3]");
+  }
+
+  @Test
+  void stream_channel_position(@TempDir Path directory) throws IOException {
+    List<String> items = items();
+    Path file = write(directory, items);
+    try (FileChannel channel = FileChannel.open(file);
+        Stream<String> stream = new MappedFileParser<>(ITEM_PARSER, 100).stream(channel)) {
+      assertThat(stream.collect(Collectors.toList())).containsExactlyElementsOf(items);
+      assertThat(channel.position()).isEqualTo(channel.size());
+    }
+  }
+
+  @Test
+  void parse_bounded_list_items(@TempDir Path directory) throws IOException {
+    CountedListParser<String> itemParser = new CountedListParser<>("item", 2, ITEM_PARSER);
+    List<List<String>> items = List.of(List.of("a", "bc"), List.of("def", ""), List.of("g", "h"));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    for (List<String> item : items) {
+      itemParser.pack(item, output);
+    }
+    Path file = Files.write(directory.resolve("items.bin"), output.toByteArray());
+    assertThat(new MappedFileParser<>(itemParser, 6).parse(file)).isEqualTo(items);
+  }
+
+  @Test
+  void unbounded_item_parser() {
+    ListParser<String> itemParser = new ListParser<>("items", ITEM_PARSER);
+    assertThatThrownBy(() -> new MappedFileParser<>(itemParser))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "items: item parser [%s] must not read to the end of its input",
+            ListParser.class.getName());
+  }
+
+  @Test
+  void invalid_window_size() {
+    assertThatThrownBy(() -> new MappedFileParser<>(ITEM_PARSER, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("item: window size must be greater than 0, but was [0]");
+  }
+}
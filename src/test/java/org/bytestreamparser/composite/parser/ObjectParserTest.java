@@ -1,6 +1,7 @@
 package org.bytestreamparser.composite.parser;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.bytestreamparser.composite.assertion.DataAssert.assertValue;
 
 import io.github.lyang.randomparamsresolver.RandomParametersExtension;
@@ -8,14 +9,27 @@ import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.composite.data.DataObjectPool;
+import org.bytestreamparser.composite.data.FieldLayout;
 import org.bytestreamparser.composite.data.TestDataObject;
+import org.bytestreamparser.composite.data.TestIndexedDataObject;
+import org.bytestreamparser.composite.data.TestLazyDataObject;
+import org.bytestreamparser.scalar.parser.BcdStringParser;
 import org.bytestreamparser.scalar.parser.BinaryParser;
 import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -128,4 +142,395 @@ class ObjectParserTest {
     assertValue(parsed).hasValue(F1, f1).hasValue(F2, null);
     assertThat(parsed.fields()).isEqualTo(Set.of(F1));
   }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16", "UTF-16BE", "UTF-16LE"})
+  void pack_byte_buffer(
+      String charset, @Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2)
+      throws IOException {
+    DataFieldParser<TestDataObject, String> parser1 =
+        dataFieldParser(stringParser(charset, (int) f1.codePoints().count()));
+    DataFieldParser<TestDataObject, byte[]> parser2 = dataFieldParser(binaryParser(f2.length));
+    ObjectParser<TestDataObject> objectParser = objectParser(parser1, parser2);
+
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    parser1.pack(f1, expected);
+    parser2.pack(f2, expected);
+
+    TestDataObject value = new TestDataObject();
+    value.set(F1, f1).set(F2, f2);
+    ByteBuffer output = ByteBuffer.allocate(expected.size());
+    objectParser.pack(value, output);
+    assertThat(output.array()).isEqualTo(expected.toByteArray());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16", "UTF-16BE", "UTF-16LE"})
+  void parse_byte_buffer(
+      String charset, @Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2)
+      throws IOException {
+    DataFieldParser<TestDataObject, String> parser1 =
+        dataFieldParser(stringParser(charset, (int) f1.codePoints().count()));
+    DataFieldParser<TestDataObject, byte[]> parser2 = dataFieldParser(binaryParser(f2.length));
+    ObjectParser<TestDataObject> objectParser = objectParser(parser1, parser2);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser1.pack(f1, output);
+    parser2.pack(f2, output);
+    ByteBuffer input = ByteBuffer.allocateDirect(output.size()).put(output.toByteArray()).flip();
+
+    TestDataObject parsed = objectParser.parse(input);
+    assertValue(parsed).hasValue(F1, f1).hasValue(F2, f2);
+    assertThat(input.hasRemaining()).isFalse();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "UTF-8", "UTF-16"})
+  void pack_and_parse_indexed(
+      String charset, @Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2)
+      throws IOException {
+    FieldLayout layout = FieldLayout.of(F2, F1);
+    ObjectParser<TestIndexedDataObject> objectParser =
+        new ObjectParser<>(
+            "object",
+            () -> new TestIndexedDataObject(layout),
+            List.of(
+                new DataFieldParser<>(F1, stringParser(charset, (int) f1.codePoints().count())),
+                new DataFieldParser<>(F2, binaryParser(f2.length))));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    objectParser.pack(new TestIndexedDataObject(layout).set(F1, f1).set(F2, f2), output);
+    byte[] packed = output.toByteArray();
+
+    TestIndexedDataObject parsed = objectParser.parse(new ByteArrayInputStream(packed));
+    assertValue(parsed).hasValue(F1, f1).hasValue(F2, f2);
+    assertThat(parsed.<String>get(1)).isEqualTo(f1);
+
+    ByteBuffer input = ByteBuffer.wrap(packed);
+    assertValue(objectParser.parse(input)).hasValue(F1, f1).hasValue(F2, f2);
+    ByteBuffer buffer = ByteBuffer.allocate(packed.length);
+    objectParser.pack(parsed, buffer);
+    assertThat(buffer.array()).isEqualTo(packed);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "UTF-8", "UTF-16"})
+  void parse_indexed_outside_layout(
+      String charset, @Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2)
+      throws IOException {
+    FieldLayout layout = FieldLayout.of(F1);
+    ObjectParser<TestIndexedDataObject> objectParser =
+        new ObjectParser<>(
+            "object",
+            () -> new TestIndexedDataObject(layout),
+            List.of(
+                new DataFieldParser<>(F1, stringParser(charset, (int) f1.codePoints().count())),
+                new DataFieldParser<TestIndexedDataObject, byte[]>(
+                    F2, binaryParser(f2.length), d -> d.get(F1) != null)));
+
+    ByteBuffer output = ByteBuffer.allocate(f1.getBytes(charset).length + f2.length);
+    objectParser.pack(new TestIndexedDataObject(layout).set(F1, f1).set(F2, f2), output);
+
+    TestIndexedDataObject parsed = objectParser.parse(output.flip());
+    assertValue(parsed).hasValue(F1, f1).hasValue(F2, f2);
+    assertThat(parsed.fields()).containsExactly(F1, F2);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16", "UTF-16BE", "UTF-16LE"})
+  void size(String charset, @Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2)
+      throws IOException {
+    DataFieldParser<TestDataObject, String> parser1 =
+        dataFieldParser(stringParser(charset, (int) f1.codePoints().count()));
+    DataFieldParser<TestDataObject, byte[]> parser2 = dataFieldParser(binaryParser(f2.length));
+    ObjectParser<TestDataObject> objectParser = objectParser(parser1, parser2);
+
+    TestDataObject value = new TestDataObject().set(F1, f1).set(F2, f2);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    objectParser.pack(value, output);
+    assertThat(objectParser.sizeOf(value)).isEqualTo(output.size());
+    assertThat(objectParser.maxSize().orElseThrow()).isGreaterThanOrEqualTo(output.size());
+    assertThat(objectParser.fixedSize())
+        .isEqualTo(
+            parser1.fixedSize().isPresent() ? OptionalInt.of(output.size()) : OptionalInt.empty());
+  }
+
+  @Test
+  void size_when_inapplicable(@Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2)
+      throws IOException {
+    DataFieldParser<TestDataObject, String> parser1 =
+        dataFieldParser(stringParser("US-ASCII", 3), d -> false);
+    DataFieldParser<TestDataObject, byte[]> parser2 = dataFieldParser(binaryParser(6));
+    ObjectParser<TestDataObject> objectParser = objectParser(parser1, parser2);
+
+    TestDataObject value = new TestDataObject().set(F1, f1).set(F2, f2);
+    assertThat(objectParser.fixedSize()).isEmpty();
+    assertThat(objectParser.maxSize()).isEqualTo(OptionalInt.of(9));
+    assertThat(objectParser.sizeOf(value)).isEqualTo(6);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16", "UTF-16BE", "UTF-16LE"})
+  void pack_to_bytes(
+      String charset, @Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2)
+      throws IOException {
+    DataFieldParser<TestDataObject, String> parser1 =
+        dataFieldParser(stringParser(charset, (int) f1.codePoints().count()));
+    DataFieldParser<TestDataObject, byte[]> parser2 = dataFieldParser(binaryParser(f2.length));
+    ObjectParser<TestDataObject> objectParser = objectParser(parser1, parser2);
+
+    TestDataObject value = new TestDataObject().set(F1, f1).set(F2, f2);
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    objectParser.pack(value, expected);
+    assertThat(objectParser.packToBytes(value)).isEqualTo(expected.toByteArray());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16"})
+  void parse_lazy(
+      String charset, @Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2)
+      throws IOException {
+    AtomicInteger decoded = new AtomicInteger();
+    DataParser<byte[]> countingParser =
+        new BinaryParser(F2, f2.length) {
+          @Override
+          public byte[] parse(ByteBuffer input) throws IOException {
+            decoded.incrementAndGet();
+            return super.parse(input);
+          }
+        };
+    ObjectParser<TestLazyDataObject> objectParser =
+        new ObjectParser<>(
+            "object",
+            TestLazyDataObject::new,
+            List.of(
+                new DataFieldParser<>(F1, stringParser(charset, (int) f1.codePoints().count())),
+                new DataFieldParser<>(F2, countingParser)));
+
+    byte[] packed = objectParser.packToBytes(new TestLazyDataObject().set(F1, f1).set(F2, f2));
+    ByteBuffer input = ByteBuffer.wrap(packed);
+    TestLazyDataObject parsed = objectParser.parse(input);
+    assertThat(input.hasRemaining()).isFalse();
+    assertThat(parsed.fields()).containsExactly(F1, F2);
+    assertThat(decoded).hasValue(0);
+
+    assertValue(parsed).hasValue(F1, f1).hasValue(F2, f2);
+    assertThat(decoded).hasValue(1);
+  }
+
+  @Test
+  void parse_lazy_when_inapplicable(
+      @Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2) throws IOException {
+    ObjectParser<TestLazyDataObject> objectParser =
+        new ObjectParser<>(
+            "object",
+            TestLazyDataObject::new,
+            List.of(
+                new DataFieldParser<>(F1, stringParser("US-ASCII", 3)),
+                new DataFieldParser<TestLazyDataObject, byte[]>(
+                    F2, binaryParser(6), d -> !f1.equals(d.get(F1)))));
+
+    ByteBuffer input = ByteBuffer.wrap((f1 + "other").getBytes(StandardCharsets.US_ASCII));
+    TestLazyDataObject parsed = objectParser.parse(input);
+    assertThat(parsed.fields()).containsExactly(F1);
+    assertThat(input.remaining()).isEqualTo(5);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16"})
+  void pack_lazy(String charset, @Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2)
+      throws IOException {
+    ObjectParser<TestLazyDataObject> objectParser =
+        new ObjectParser<>(
+            "object",
+            TestLazyDataObject::new,
+            List.of(
+                new DataFieldParser<>(F1, stringParser(charset, (int) f1.codePoints().count())),
+                new DataFieldParser<>(F2, new BcdStringParser(F2, 2))));
+
+    // the invalid BCD digits can only be packed again from the raw bytes
+    byte[] packed =
+        ByteBuffer.allocate(f1.getBytes(charset).length + 1)
+            .put(f1.getBytes(charset))
+            .put((byte) 0xAB)
+            .array();
+    TestLazyDataObject parsed = objectParser.parse(ByteBuffer.wrap(packed));
+    assertThat(objectParser.sizeOf(parsed)).isEqualTo(packed.length);
+    assertThat(objectParser.packToBytes(parsed)).isEqualTo(packed);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    objectParser.pack(parsed, output);
+    assertThat(output.toByteArray()).isEqualTo(packed);
+
+    parsed.set(F2, "12");
+    packed[packed.length - 1] = (byte) 0x12;
+    assertThat(objectParser.packToBytes(parsed)).isEqualTo(packed);
+  }
+
+  @Test
+  void parse_into_instance(@Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2)
+      throws IOException {
+    ObjectParser<TestDataObject> objectParser =
+        objectParser(
+            dataFieldParser(stringParser("US-ASCII", 3)), dataFieldParser(binaryParser(6)));
+    byte[] packed = objectParser.packToBytes(new TestDataObject().set(F1, f1).set(F2, f2));
+    TestDataObject instance = new TestDataObject().set("stale", 1);
+
+    assertThat(objectParser.parse(new ByteArrayInputStream(packed), instance)).isSameAs(instance);
+    assertValue(instance).hasValue(F1, f1).hasValue(F2, f2);
+    assertThat(instance.fields()).containsExactlyInAnyOrder(F1, F2);
+
+    instance.set("stale", 1);
+    assertThat(objectParser.parse(ByteBuffer.wrap(packed), instance)).isSameAs(instance);
+    assertValue(instance).hasValue(F1, f1).hasValue(F2, f2);
+    assertThat(instance.fields()).containsExactlyInAnyOrder(F1, F2);
+  }
+
+  @Test
+  void parse_pooled(@Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2)
+      throws IOException {
+    FieldLayout layout = FieldLayout.of(F1, F2);
+    DataObjectPool<TestIndexedDataObject> pool =
+        new DataObjectPool<>(() -> new TestIndexedDataObject(layout), 1);
+    ObjectParser<TestIndexedDataObject> objectParser =
+        new ObjectParser<>(
+            "object",
+            pool,
+            List.of(
+                new DataFieldParser<>(F1, stringParser("US-ASCII", 3)),
+                new DataFieldParser<>(F2, binaryParser(6))));
+    byte[] packed = objectParser.packToBytes(pool.get().set(F1, f1).set(F2, f2));
+
+    TestIndexedDataObject parsed = objectParser.parse(ByteBuffer.wrap(packed));
+    pool.release(parsed);
+    assertThat(objectParser.parse(ByteBuffer.wrap(packed))).isSameAs(parsed);
+    assertValue(parsed).hasValue(F1, f1).hasValue(F2, f2);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void skip(String charset, @Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2)
+      throws IOException {
+    ObjectParser<TestDataObject> objectParser =
+        objectParser(
+            dataFieldParser(stringParser(charset, (int) f1.codePoints().count())),
+            dataFieldParser(binaryParser(6)));
+    byte[] packed = objectParser.packToBytes(new TestDataObject().set(F1, f1).set(F2, f2));
+    byte[] bytes = Arrays.copyOf(packed, packed.length + 1);
+
+    ByteArrayInputStream input = new ByteArrayInputStream(bytes);
+    objectParser.skip(input);
+    assertThat(input.available()).isOne();
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    objectParser.skip(buffer);
+    assertThat(buffer.remaining()).isOne();
+  }
+
+  @Test
+  void skip_when_inapplicable(@Randomize(length = 3) String f1) throws IOException {
+    ObjectParser<TestDataObject> objectParser =
+        objectParser(
+            dataFieldParser(stringParser("US-ASCII", 3)),
+            dataFieldParser(binaryParser(6), d -> !d.<String>get(F1).equals(f1)));
+    byte[] bytes = (f1 + "abcdef").getBytes(StandardCharsets.US_ASCII);
+
+    ByteArrayInputStream input = new ByteArrayInputStream(bytes);
+    objectParser.skip(input);
+    assertThat(input.available()).isEqualTo(6);
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    objectParser.skip(buffer);
+    assertThat(buffer.remaining()).isEqualTo(6);
+  }
+
+  @Test
+  void skip_pooled(@Randomize(length = 3) String f1) throws IOException {
+    FieldLayout layout = FieldLayout.of(F1, F2);
+    DataObjectPool<TestIndexedDataObject> pool =
+        new DataObjectPool<>(() -> new TestIndexedDataObject(layout), 1);
+    ObjectParser<TestIndexedDataObject> objectParser =
+        new ObjectParser<>(
+            "object",
+            pool,
+            List.of(
+                new DataFieldParser<>(F1, stringParser("US-ASCII", 3)),
+                new DataFieldParser<TestIndexedDataObject, byte[]>(
+                    F2, binaryParser(6), d -> d.<String>get(F1).equals(f1))));
+    byte[] bytes = (f1 + "abcdef").getBytes(StandardCharsets.US_ASCII);
+    TestIndexedDataObject instance = pool.get();
+    pool.release(instance);
+
+    objectParser.skip(new ByteArrayInputStream(bytes));
+    assertThat(pool.available()).isOne();
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    objectParser.skip(buffer);
+    assertThat(buffer.hasRemaining()).isFalse();
+    assertThat(pool.available()).isOne();
+    assertThat(pool.get()).isSameAs(instance);
+    assertThat(instance.fields()).isEmpty();
+  }
+
+  @Test
+  void project(@Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2)
+      throws IOException {
+    DataParser<String> undecodable =
+        new DataParser<>(F1) {
+          @Override
+          public void pack(String value, OutputStream output) throws IOException {
+            output.write(value.getBytes(StandardCharsets.US_ASCII));
+          }
+
+          @Override
+          public String parse(InputStream input) {
+            throw new UnsupportedOperationException();
+          }
+
+          @Override
+          public OptionalInt fixedSize() {
+            return OptionalInt.of(3);
+          }
+        };
+    ObjectParser<TestDataObject> objectParser =
+        objectParser(dataFieldParser(undecodable), dataFieldParser(binaryParser(6)));
+    byte[] packed = objectParser.packToBytes(new TestDataObject().set(F1, f1).set(F2, f2));
+    ObjectParser<TestDataObject> projected = objectParser.project(List.of(F2));
+
+    for (TestDataObject parsed :
+        List.of(
+            projected.parse(new ByteArrayInputStream(packed)),
+            projected.parse(ByteBuffer.wrap(packed)))) {
+      assertValue(parsed).hasValue(F2, f2);
+      assertThat(parsed.fields()).isEqualTo(Set.of(F2));
+    }
+    assertThat(projected.fixedSize()).isEqualTo(OptionalInt.of(9));
+  }
+
+  @Test
+  void project_lazy(@Randomize(length = 3) String f1, @Randomize(length = 6) byte[] f2)
+      throws IOException {
+    ObjectParser<TestLazyDataObject> objectParser =
+        new ObjectParser<>(
+            "object",
+            TestLazyDataObject::new,
+            List.of(
+                new DataFieldParser<>(F1, stringParser("US-ASCII", 3)),
+                new DataFieldParser<>(F2, binaryParser(6))));
+    byte[] packed = objectParser.packToBytes(new TestLazyDataObject().set(F1, f1).set(F2, f2));
+
+    TestLazyDataObject parsed = objectParser.project(Set.of(F1)).parse(ByteBuffer.wrap(packed));
+    assertThat(parsed.fields()).isEqualTo(Set.of(F1));
+    assertValue(parsed).hasValue(F1, f1);
+  }
+
+  @Test
+  void project_unknown_field() {
+    ObjectParser<TestDataObject> objectParser =
+        objectParser(
+            dataFieldParser(stringParser("US-ASCII", 3)), dataFieldParser(binaryParser(6)));
+    assertThatThrownBy(() -> objectParser.project(List.of(F1, "F3")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("object: unknown field [F3]");
+  }
 }
@@ -0,0 +1,182 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.scalar.parser.BcdStringParser;
+import org.bytestreamparser.scalar.parser.BinaryParser;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@ExtendWith(RandomParametersExtension.class)
+class ParallelListParserTest {
+  private static final int RECORDS = 10_000;
+  private static final BcdStringParser RECORD_PARSER = new BcdStringParser("record", 8);
+
+  private static List<String> records() {
+    List<String> records = new ArrayList<>(RECORDS);
+    for (int i = 0; i < RECORDS; i++) {
+      records.add(String.format("%08d", i));
+    }
+    return records;
+  }
+
+  private static byte[] pack(List<String> records) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new ListParser<>("records", RECORD_PARSER).pack(records, output);
+    return output.toByteArray();
+  }
+
+  @Test
+  void parse() throws IOException {
+    List<String> records = records();
+    ByteBuffer input = ByteBuffer.wrap(pack(records));
+    assertThat(new ParallelListParser<>("records", 4, RECORD_PARSER).parse(input))
+        .containsExactlyElementsOf(records);
+    assertThat(input.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void parse_in_pool() throws IOException {
+    List<String> records = records();
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    DataParser<String> recordParser =
+        new BcdStringParser("record", 8) {
+          @Override
+          public String parse(ByteBuffer input) throws IOException {
+            threads.add(Thread.currentThread());
+            return super.parse(input);
+          }
+        };
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      ParallelListParser<String> parser =
+          new ParallelListParser<>("records", 4, recordParser, pool);
+      assertThat(parser.parse(ByteBuffer.wrap(pack(records)))).containsExactlyElementsOf(records);
+      assertThat(threads).allMatch(thread -> thread.getName().startsWith("ForkJoinPool-"));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-32BE"})
+  void stream(String charset, @Randomize String value1, @Randomize String value2)
+      throws IOException {
+    CharStringParser itemParser =
+        new CharStringParser("item", value1.length(), Charset.forName(charset));
+    byte[] bytes = (value1 + value2).getBytes(charset);
+    ParallelListParser<String> parser =
+        new ParallelListParser<>("list", bytes.length / 2, itemParser);
+    ByteBuffer input = ByteBuffer.allocate(bytes.length + 1).put((byte) 0).put(bytes);
+    input.position(1);
+    assertThat(parser.stream(input).collect(Collectors.toList())).containsExactly(value1, value2);
+    assertThat(input.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void parse_input_stream_sequentially() throws IOException {
+    List<String> records = records();
+    ParallelListParser<String> parser = new ParallelListParser<>("records", 4, RECORD_PARSER);
+    assertThat(parser.parse(new ByteArrayInputStream(pack(records))))
+        .containsExactlyElementsOf(records);
+  }
+
+  @Test
+  void parse_partial_record() throws IOException {
+    ByteBuffer input = ByteBuffer.allocate(11).put(pack(List.of("00000001", "00000002")));
+    input.flip().limit(11);
+    ParallelListParser<String> parser = new ParallelListParser<>("records", 4, RECORD_PARSER);
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 3 bytes, bytes expected [4]");
+    assertThat(input.position()).isZero();
+  }
+
+  @Test
+  void parse_invalid_record() {
+    ParallelListParser<byte[]> parser =
+        new ParallelListParser<>("records", 4, new BinaryParser("record", 5));
+    ByteBuffer input = ByteBuffer.allocate(8);
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 4 bytes, bytes expected [5]");
+  }
+
+  @Test
+  void invalid_record_length() {
+    assertThatThrownBy(() -> new ParallelListParser<>("records", 0, RECORD_PARSER))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("records: record length must be greater than 0, but was [0]");
+  }
+
+  @Test
+  void parse_file(@TempDir Path directory) throws IOException {
+    List<String> records = records();
+    Path file = Files.write(directory.resolve("records.bin"), pack(records));
+    ParallelListParser<String> parser =
+        new ParallelListParser<>("records", 4, RECORD_PARSER, ForkJoinPool.commonPool(), 1001);
+    try (FileChannel channel = FileChannel.open(file)) {
+      channel.position(4);
+      assertThat(parser.parse(channel)).containsExactlyElementsOf(records.subList(1, RECORDS));
+      assertThat(channel.position()).isEqualTo(channel.size());
+    }
+  }
+
+  @Test
+  void parse_file_partial_record(@TempDir Path directory) throws IOException {
+    Path file = Files.write(directory.resolve("records.bin"), new byte[6]);
+    ParallelListParser<String> parser = new ParallelListParser<>("records", 4, RECORD_PARSER);
+    try (FileChannel channel = FileChannel.open(file)) {
+      assertThatThrownBy(() -> parser.stream(channel))
+          .isInstanceOf(EOFException.class)
+          .hasMessage("End of stream reached after reading 2 bytes, bytes expected [4]");
+    }
+  }
+
+  @Test
+  void record_length_of_item_parser() throws IOException {
+    List<String> records = records();
+    ParallelListParser<String> parser = new ParallelListParser<>("records", RECORD_PARSER);
+    assertThat(parser.parse(ByteBuffer.wrap(pack(records)))).containsExactlyElementsOf(records);
+    assertThat(parser.sizeOf(records)).isEqualTo(RECORDS * 4);
+  }
+
+  @Test
+  void record_length_of_variable_size_item_parser() {
+    CharStringParser itemParser = new CharStringParser("item", 4, StandardCharsets.UTF_8);
+    assertThatThrownBy(() -> new ParallelListParser<>("records", itemParser))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("records: item parser [item] must have a fixed size");
+  }
+
+  @Test
+  void skip() throws IOException {
+    ByteBuffer input = ByteBuffer.wrap(pack(records()));
+    new ParallelListParser<>("records", RECORD_PARSER).skip(input);
+    assertThat(input.hasRemaining()).isFalse();
+  }
+}
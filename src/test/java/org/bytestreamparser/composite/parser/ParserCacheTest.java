@@ -0,0 +1,106 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.scalar.parser.BinaryParser;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.bytestreamparser.scalar.parser.UnsignedByteParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParserCacheTest {
+  private AtomicInteger created;
+  private ParserCache<byte[]> cache;
+
+  @BeforeEach
+  void setUp() {
+    created = new AtomicInteger();
+    cache =
+        new ParserCache<>(
+            length -> {
+              created.incrementAndGet();
+              return new BinaryParser("value", length);
+            },
+            4,
+            2);
+  }
+
+  @Test
+  void apply_dense() {
+    DataParser<byte[]> parser = cache.apply(3);
+    assertThat(parser.fixedSize()).hasValue(3);
+    assertThat(cache.apply(3)).isSameAs(parser);
+    assertThat(cache.apply(0)).isNotSameAs(parser);
+    assertThat(created).hasValue(2);
+  }
+
+  @Test
+  void apply_sparse() {
+    DataParser<byte[]> parser = cache.apply(100);
+    assertThat(parser.fixedSize()).hasValue(100);
+    assertThat(cache.apply(100)).isSameAs(parser);
+    assertThat(created).hasValue(1);
+  }
+
+  @Test
+  void apply_sparse_evicts() {
+    cache.apply(10);
+    cache.apply(11);
+    cache.apply(12);
+    assertThat(created).hasValue(3);
+    cache.apply(12);
+    assertThat(created).hasValue(3);
+    cache.apply(10);
+    cache.apply(11);
+    assertThat(created.get()).isGreaterThan(3);
+  }
+
+  @Test
+  void apply_negative() {
+    ParserCache<String> cache =
+        new ParserCache<>(
+            length -> {
+              created.incrementAndGet();
+              return new CharStringParser("value", Math.abs(length), StandardCharsets.US_ASCII);
+            });
+    cache.apply(-1);
+    cache.apply(-1);
+    assertThat(created).hasValue(2);
+  }
+
+  @Test
+  void apply_without_sparse() {
+    ParserCache<byte[]> cache =
+        new ParserCache<>(length -> new BinaryParser("value", length), 0, 0);
+    assertThat(cache.apply(1)).isNotSameAs(cache.apply(1));
+  }
+
+  @Test
+  void variable_length_parser() throws IOException {
+    VariableLengthParser<String> parser =
+        VariableLengthParser.ofInt(
+            "var",
+            new UnsignedByteParser("length"),
+            new ParserCache<>(
+                length -> new CharStringParser("content", length, StandardCharsets.US_ASCII)),
+            String::length);
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    parser.pack("abc", buffer);
+    parser.pack("def", buffer);
+    assertThat(parser.parse(buffer.flip())).isEqualTo("abc");
+    assertThat(parser.parse(buffer)).isEqualTo("def");
+  }
+
+  @Test
+  void invalid_size() {
+    assertThatThrownBy(() -> new ParserCache<>(length -> new BinaryParser("value", length), -1, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("dense size must not be negative, but was [-1]");
+  }
+}
@@ -0,0 +1,146 @@
+package org.bytestreamparser.composite.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.bytestreamparser.api.parser.ConcurrentRoundTrip.assertRoundTrips;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.bytestreamparser.composite.data.DataObject;
+import org.bytestreamparser.composite.data.FieldLayout;
+import org.bytestreamparser.composite.data.TestDataObject;
+import org.bytestreamparser.composite.data.TestIndexedDataObject;
+import org.bytestreamparser.scalar.parser.BcdStringParser;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.bytestreamparser.scalar.parser.UnsignedByteParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ThreadSafetyTest {
+  private static final String CODE = "code";
+  private static final String NAME = "name";
+  private static final String NOTE = "note";
+  private static final List<String> TEXTS = List.of("", "a", "ñ€😀", "日本語テキスト", "plain text");
+  private static final VariableLengthParser<String> TEXT_PARSER =
+      VariableLengthParser.ofInt(
+          "text",
+          new UnsignedByteParser("length"),
+          new ParserCache<>(length -> new CharStringParser("text", length, StandardCharsets.UTF_8)),
+          text -> (int) text.codePoints().count());
+
+  private static <T extends DataObject<T>> List<DataFieldParser<T, ?>> fields() {
+    return List.of(
+        new DataFieldParser<>(CODE, new BcdStringParser(CODE, 4)),
+        new DataFieldParser<>(NAME, new CharStringParser(NAME, 3, StandardCharsets.UTF_16)),
+        new DataFieldParser<T, String>(NOTE, TEXT_PARSER, d -> !"0000".equals(d.get(CODE))));
+  }
+
+  private static <T extends DataObject<T>> List<T> objects(List<T> instances) {
+    for (int i = 0; i < instances.size(); i++) {
+      T instance = instances.get(i).set(CODE, String.format("%04d", i)).set(NAME, "n€" + i);
+      if (i > 0) {
+        instance.set(NOTE, TEXTS.get(i % TEXTS.size()));
+      }
+    }
+    return instances;
+  }
+
+  private static Map<String, Object> fieldsOf(DataObject<?> object) {
+    Map<String, Object> fields = new HashMap<>();
+    for (String id : object.fields()) {
+      fields.put(id, object.get(id));
+    }
+    return fields;
+  }
+
+  @Test
+  void variable_length_parser() throws Exception {
+    assertRoundTrips(TEXT_PARSER, TEXTS);
+  }
+
+  @Test
+  void data_field_parser() throws Exception {
+    assertRoundTrips(new DataFieldParser<TestDataObject, String>(NOTE, TEXT_PARSER), TEXTS);
+  }
+
+  @Test
+  void object_parser() throws Exception {
+    ObjectParser<TestDataObject> parser =
+        new ObjectParser<>("object", TestDataObject::new, fields());
+    List<TestDataObject> objects = objects(List.of(new TestDataObject(), new TestDataObject()));
+    assertRoundTrips(parser, objects, ThreadSafetyTest::fieldsOf);
+  }
+
+  @Test
+  void indexed_object_parser() throws Exception {
+    FieldLayout layout = FieldLayout.of(CODE, NAME, NOTE);
+    ObjectParser<TestIndexedDataObject> parser =
+        new ObjectParser<>("object", () -> new TestIndexedDataObject(layout), fields());
+    List<TestIndexedDataObject> objects =
+        objects(List.of(new TestIndexedDataObject(layout), new TestIndexedDataObject(layout)));
+    assertRoundTrips(parser, objects, ThreadSafetyTest::fieldsOf);
+  }
+
+  @Test
+  void list_parser() throws Exception {
+    assertRoundTrips(new ListParser<>("list", TEXT_PARSER), List.of(TEXTS, TEXTS.subList(1, 3)));
+  }
+
+  @Test
+  void counted_list_parser() throws Exception {
+    assertRoundTrips(new CountedListParser<>("list", 2, TEXT_PARSER), List.of(TEXTS.subList(0, 2)));
+  }
+
+  @Test
+  void bounded_list_parser() throws Exception {
+    List<String> texts = TEXTS.subList(1, 4);
+    int length = new ListParser<>("list", TEXT_PARSER).sizeOf(texts);
+    assertRoundTrips(new BoundedListParser<>("list", length, TEXT_PARSER), List.of(texts));
+  }
+
+  @Test
+  void parallel_list_parser() throws Exception {
+    ParallelListParser<String> parser =
+        new ParallelListParser<>("list", new BcdStringParser("code", 4));
+    assertRoundTrips(parser, List.of(List.of("1234", "5678"), List.of("0000", "9999", "4321")));
+  }
+
+  @Test
+  void mapped_file_parser(@TempDir Path directory) throws Exception {
+    List<String> texts = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      texts.addAll(TEXTS);
+    }
+    Path file =
+        Files.write(
+            directory.resolve("texts.bin"),
+            new ListParser<>("list", TEXT_PARSER).packToBytes(texts));
+    MappedFileParser<String> parser = new MappedFileParser<>(TEXT_PARSER, 64);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Callable<List<String>> parse = () -> parser.parse(file);
+      List<Future<List<String>>> results = executor.invokeAll(List.of(parse, parse, parse, parse));
+      for (Future<List<String>> result : results) {
+        assertThat(result.get()).containsExactlyElementsOf(texts);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void parser_cache() throws IOException {
+    ParserCache<String> cache =
+        new ParserCache<>(length -> new CharStringParser("text", length, StandardCharsets.UTF_8));
+    assertThat(cache.apply(3)).isSameAs(cache.apply(3));
+  }
+}
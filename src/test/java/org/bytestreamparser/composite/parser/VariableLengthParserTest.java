@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.github.lyang.randomparamsresolver.RandomParametersExtension;
 import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
 import java.io.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Arrays;
@@ -34,6 +36,27 @@ class VariableLengthParserTest {
         content -> Math.toIntExact(content.codePoints().count()));
   }
 
+  private static VariableLengthParser<String> boxedVarParser(String charset) {
+    DataParser<Integer> delegate = lengthParser();
+    DataParser<Integer> boxedLengthParser =
+        new DataParser<>("length") {
+          @Override
+          public void pack(Integer value, OutputStream output) throws IOException {
+            delegate.pack(value, output);
+          }
+
+          @Override
+          public Integer parse(InputStream input) throws IOException {
+            return delegate.parse(input);
+          }
+        };
+    return new VariableLengthParser<>(
+        "var",
+        boxedLengthParser,
+        contentParser(charset),
+        content -> Math.toIntExact(content.codePoints().count()));
+  }
+
   private static InputStream prepareInput(String value, String charset, int length)
       throws UnsupportedEncodingException {
     byte[] content = value.getBytes(charset);
@@ -74,4 +97,106 @@ class VariableLengthParserTest {
       assertThat(parsed).isEqualTo(value.substring(0, length));
     }
   }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16", "UTF-16BE", "UTF-16LE"})
+  void pack_byte_buffer(String charset, @Randomize String value) throws IOException {
+    VariableLengthParser<String> parser = varParser(charset);
+    byte[] content = value.getBytes(charset);
+    ByteBuffer output = ByteBuffer.allocate(content.length + 1);
+    parser.pack(value, output);
+    assertThat(output.array()[0]).isEqualTo((byte) value.length());
+    assertThat(Arrays.copyOfRange(output.array(), 1, output.position())).isEqualTo(content);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16", "UTF-16BE", "UTF-16LE"})
+  void parse_byte_buffer(String charset, @Randomize String value) throws IOException {
+    VariableLengthParser<String> parser = varParser(charset);
+    ByteBuffer input = ByteBuffer.wrap(prepareInput(value, charset, value.length()).readAllBytes());
+    assertThat(parser.parse(input)).isEqualTo(value);
+    assertThat(input.hasRemaining()).isFalse();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "UTF-8", "UTF-16"})
+  void pack_boxed_length(String charset, @Randomize String value) throws IOException {
+    VariableLengthParser<String> parser = boxedVarParser(charset);
+    byte[] content = value.getBytes(charset);
+    ByteBuffer output = ByteBuffer.allocate(content.length + 1);
+    parser.pack(value, output);
+    assertThat(output.array()[0]).isEqualTo((byte) value.length());
+    assertThat(Arrays.copyOfRange(output.array(), 1, output.position())).isEqualTo(content);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "UTF-8", "UTF-16"})
+  void parse_boxed_length(String charset, @Randomize String value) throws IOException {
+    VariableLengthParser<String> parser = boxedVarParser(charset);
+    assertThat(parser.parse(prepareInput(value, charset, value.length()))).isEqualTo(value);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16", "UTF-16BE", "UTF-16LE"})
+  void size(String charset, @Randomize String value) throws IOException {
+    VariableLengthParser<String> parser = varParser(charset);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    assertThat(parser.sizeOf(value)).isEqualTo(output.size());
+    assertThat(parser.fixedSize()).isEmpty();
+    assertThat(parser.maxSize()).isEmpty();
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16", "UTF-16BE", "UTF-16LE"})
+  void skip(String charset, @Randomize String value) throws IOException {
+    VariableLengthParser<String> parser = varParser(charset);
+    ByteBuffer input = ByteBuffer.allocate(64);
+    parser.pack(value, input);
+    int length = input.position();
+    input.put((byte) 1).flip();
+    parser.skip(input);
+    assertThat(input.position()).isEqualTo(length);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16", "UTF-16BE", "UTF-16LE"})
+  void skip_input_stream(String charset, @Randomize String value) throws IOException {
+    VariableLengthParser<String> parser = varParser(charset);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    output.write(1);
+    ByteArrayInputStream input = new ByteArrayInputStream(output.toByteArray());
+    parser.skip(input);
+    assertThat(input.available()).isOne();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "UTF-8"})
+  void implicit_lambdas(String charset, @Randomize String value) throws IOException {
+    Charset cs = Charset.forName(charset);
+    // both forms must compile without declaring the lambda parameter types
+    VariableLengthParser<String> boxed =
+        new VariableLengthParser<>(
+            "var",
+            new UnsignedByteParser("length"),
+            length -> new CharStringParser("content", length, cs),
+            content -> Math.toIntExact(content.codePoints().count()));
+    VariableLengthParser<String> primitive =
+        VariableLengthParser.ofInt(
+            "var",
+            new UnsignedByteParser("length"),
+            length -> new CharStringParser("content", length, cs),
+            content -> Math.toIntExact(content.codePoints().count()));
+
+    byte[] packed = boxed.packToBytes(value);
+    assertThat(primitive.packToBytes(value)).isEqualTo(packed);
+    assertThat(boxed.parse(ByteBuffer.wrap(packed))).isEqualTo(value);
+    assertThat(primitive.parse(ByteBuffer.wrap(packed))).isEqualTo(value);
+  }
 }
@@ -0,0 +1,124 @@
+package org.bytestreamparser.scalar.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@ExtendWith(RandomParametersExtension.class)
+class BcdLongParserTest {
+  private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+  private static long value(long random, int length) {
+    return Math.floorMod(random, (long) Math.pow(10, length));
+  }
+
+  private static byte[] bcd(long value, int length) {
+    return HEX_FORMAT.parseHex(String.format("%0" + (length + 1) / 2 * 2 + "d", value));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 12, 18})
+  void parse(int length, @Randomize long random) throws IOException {
+    long value = value(random, length);
+    BcdLongParser parser = new BcdLongParser("bcd", length);
+    ByteArrayInputStream input = new ByteArrayInputStream(bcd(value, length));
+    assertThat(parser.parse(input)).isEqualTo(value);
+    assertThat(input.available()).isZero();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 12, 18})
+  void pack(int length, @Randomize long random) throws IOException {
+    long value = value(random, length);
+    BcdLongParser parser = new BcdLongParser("bcd", length);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    assertThat(output.toByteArray()).isEqualTo(bcd(value, length));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 12, 18})
+  void parse_byte_buffer(int length, @Randomize long random) throws IOException {
+    long value = value(random, length);
+    BcdLongParser parser = new BcdLongParser("bcd", length);
+    ByteBuffer input = ByteBuffer.wrap(bcd(value, length));
+    assertThat(parser.parseLong(input)).isEqualTo(value);
+    assertThat(input.hasRemaining()).isFalse();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 12, 18})
+  void pack_byte_buffer(int length, @Randomize long random) {
+    long value = value(random, length);
+    BcdLongParser parser = new BcdLongParser("bcd", length);
+    ByteBuffer output = ByteBuffer.allocate((length + 1) / 2);
+    parser.packLong(value, output);
+    assertThat(output.array()).isEqualTo(bcd(value, length));
+  }
+
+  @Test
+  void parse_insufficient_data() {
+    BcdLongParser parser = new BcdLongParser("bcd", 6);
+    ByteBuffer input = ByteBuffer.wrap(HEX_FORMAT.parseHex("1234"));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 2 bytes, bytes expected [3]");
+  }
+
+  @Test
+  void parse_invalid_bcd() {
+    BcdLongParser parser = new BcdLongParser("bcd", 5);
+    ByteArrayInputStream input = new ByteArrayInputStream(HEX_FORMAT.parseHex("0123c5"));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bcd: Invalid BCD String [123c5]");
+  }
+
+  @Test
+  void pack_too_large_value() {
+    BcdLongParser parser = new BcdLongParser("bcd", 3);
+    ByteBuffer output = ByteBuffer.allocate(2);
+    assertThatThrownBy(() -> parser.packLong(1000, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bcd: value must be between 0 and 999, but was [1000]");
+  }
+
+  @Test
+  void pack_negative_value(@Randomize(intMin = 1) int value) {
+    BcdLongParser parser = new BcdLongParser("bcd", 3);
+    ByteBuffer output = ByteBuffer.allocate(2);
+    assertThatThrownBy(() -> parser.packLong(-value, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bcd: value must be between 0 and 999, but was [%d]", -value);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 19})
+  void invalid_length(int length) {
+    assertThatThrownBy(() -> new BcdLongParser("bcd", length))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bcd: length must be between 1 and 18, but was [%d]", length);
+  }
+
+  @Test
+  void size(@Randomize(intMin = 0, intMax = 100000) int value) throws IOException {
+    BcdLongParser parser = new BcdLongParser("bcd", 5);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack((long) value, output);
+    assertThat(parser.fixedSize()).isEqualTo(OptionalInt.of(output.size()));
+    assertThat(parser.sizeOf((long) value)).isEqualTo(3);
+  }
+}
@@ -9,7 +9,10 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.HexFormat;
+import java.util.OptionalInt;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -88,4 +91,74 @@ class BcdStringParserTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("bcd: Invalid BCD String [abc]");
   }
+
+  @Test
+  void pack_byte_buffer(@Randomize(intMin = 0, intMax = 1000) int value) throws IOException {
+    BcdStringParser parser = new BcdStringParser("bcd", 3);
+    ByteBuffer output = ByteBuffer.allocate(2);
+    parser.pack(String.format("%03d", value), output);
+    assertThat(output.array()).isEqualTo(HEX_FORMAT.parseHex(String.format("%04d", value)));
+  }
+
+  @Test
+  void parse_byte_buffer(@Randomize(intMin = 0, intMax = 1000) int value) throws IOException {
+    BcdStringParser parser = new BcdStringParser("bcd", 3);
+    ByteBuffer input = ByteBuffer.wrap(HEX_FORMAT.parseHex(String.format("%04d", value)));
+    assertThat(parser.parse(input)).isEqualTo(String.format("%03d", value));
+    assertThat(input.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void parse_byte_buffer_invalid_bcd_string() {
+    BcdStringParser parser = new BcdStringParser("bcd", 3);
+    ByteBuffer input = ByteBuffer.wrap(HEX_FORMAT.parseHex("0abc"));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bcd: Invalid BCD String [abc]");
+  }
+
+  @Test
+  void pack_empty_string() {
+    BcdStringParser parser = new BcdStringParser("bcd", 2);
+    ByteBuffer output = ByteBuffer.allocate(1);
+    assertThatThrownBy(() -> parser.pack("", output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bcd: Invalid BCD String []");
+  }
+
+  @Test
+  void pack_byte_buffer_short_value(@Randomize(intMin = 0, intMax = 10) int value)
+      throws IOException {
+    BcdStringParser parser = new BcdStringParser("bcd", 6);
+    ByteBuffer output = ByteBuffer.allocate(3);
+    parser.pack(String.valueOf(value), output);
+    assertThat(output.array()).isEqualTo(HEX_FORMAT.parseHex(String.format("%06d", value)));
+  }
+
+  @Test
+  void pack_byte_buffer_overflow() {
+    BcdStringParser parser = new BcdStringParser("bcd", 4);
+    ByteBuffer output = ByteBuffer.allocate(1);
+    assertThatThrownBy(() -> parser.pack("1234", output))
+        .isInstanceOf(BufferOverflowException.class);
+    assertThat(output.position()).isZero();
+  }
+
+  @Test
+  void parse_byte_buffer_even_length_invalid_bcd_string() {
+    BcdStringParser parser = new BcdStringParser("bcd", 4);
+    ByteBuffer input = ByteBuffer.wrap(HEX_FORMAT.parseHex("f123"));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bcd: Invalid BCD String [f123]");
+  }
+
+  @Test
+  void size(@Randomize(intMin = 0, intMax = 100000) int value) throws IOException {
+    BcdStringParser parser = new BcdStringParser("bcd", 6);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(String.valueOf(value), output);
+    assertThat(parser.fixedSize()).isEqualTo(OptionalInt.of(output.size()));
+    assertThat(parser.sizeOf(String.valueOf(value))).isEqualTo(3);
+  }
 }
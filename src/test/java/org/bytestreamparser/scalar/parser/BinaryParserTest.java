@@ -9,7 +9,9 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.OptionalInt;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -63,4 +65,41 @@ class BinaryParserTest {
             "End of stream reached after reading %d bytes, bytes expected [%d]",
             value.length, value.length + 1);
   }
+
+  @Test
+  void pack_byte_buffer(@Randomize byte[] value) throws IOException {
+    BinaryParser parser = new BinaryParser(ID, value.length);
+    ByteBuffer output = ByteBuffer.allocate(value.length);
+    parser.pack(value, output);
+    assertThat(output.array()).isEqualTo(value);
+    assertThat(output.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void parse_byte_buffer(@Randomize byte[] value) throws IOException {
+    BinaryParser parser = new BinaryParser(ID, value.length - 1);
+    ByteBuffer input = ByteBuffer.wrap(value);
+    assertThat(parser.parse(input)).isEqualTo(Arrays.copyOfRange(value, 0, value.length - 1));
+    assertThat(input.remaining()).isEqualTo(1);
+  }
+
+  @Test
+  void parse_byte_buffer_insufficient_data(@Randomize byte[] value) {
+    BinaryParser parser = new BinaryParser(ID, value.length + 1);
+    ByteBuffer input = ByteBuffer.wrap(value);
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage(
+            "End of stream reached after reading %d bytes, bytes expected [%d]",
+            value.length, value.length + 1);
+    assertThat(input.position()).isZero();
+  }
+
+  @Test
+  void size(@Randomize byte[] value) throws IOException {
+    BinaryParser parser = new BinaryParser(ID, value.length);
+    assertThat(parser.fixedSize()).isEqualTo(OptionalInt.of(value.length));
+    assertThat(parser.maxSize()).isEqualTo(OptionalInt.of(value.length));
+    assertThat(parser.sizeOf(value)).isEqualTo(value.length);
+  }
 }
@@ -0,0 +1,133 @@
+package org.bytestreamparser.scalar.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class BinarySliceParserTest {
+  private static final String ID = "bin";
+
+  @Test
+  void parse_byte_buffer(@Randomize byte[] value) throws IOException {
+    BinarySliceParser parser = new BinarySliceParser(ID, value.length - 1);
+    ByteBuffer input = ByteBuffer.wrap(value);
+    ByteBuffer parsed = parser.parse(input);
+    assertThat(parsed.hasArray()).isTrue();
+    assertThat(parsed.array()).isSameAs(value);
+    assertThat(parsed).isEqualTo(ByteBuffer.wrap(value, 0, value.length - 1));
+    assertThat(input.remaining()).isOne();
+
+    value[0]++;
+    assertThat(parsed.get(0)).isEqualTo(value[0]);
+  }
+
+  @Test
+  void parse_byte_buffer_insufficient_data(@Randomize byte[] value) {
+    BinarySliceParser parser = new BinarySliceParser(ID, value.length + 1);
+    ByteBuffer input = ByteBuffer.wrap(value);
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage(
+            "End of stream reached after reading %d bytes, bytes expected [%d]",
+            value.length, value.length + 1);
+    assertThat(input.position()).isZero();
+  }
+
+  @Test
+  void parse(@Randomize byte[] value) throws IOException {
+    BinarySliceParser parser = new BinarySliceParser(ID, value.length);
+    ByteBuffer parsed = parser.parse(new ByteArrayInputStream(value));
+    assertThat(parsed.hasArray()).isTrue();
+    assertThat(parsed).isEqualTo(ByteBuffer.wrap(value));
+  }
+
+  @Test
+  void pack(@Randomize byte[] value) throws IOException {
+    BinarySliceParser parser = new BinarySliceParser(ID, value.length);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ByteBuffer slice = parser.parse(ByteBuffer.wrap(value));
+    parser.pack(slice, output);
+    parser.pack(ByteBuffer.wrap(value), output);
+    assertThat(output.toByteArray()).startsWith(value).endsWith(value);
+    assertThat(slice.remaining()).isEqualTo(value.length);
+  }
+
+  @Test
+  void pack_without_copying(@Randomize byte[] value) throws IOException {
+    BinarySliceParser parser = new BinarySliceParser(ID, value.length - 1);
+    List<byte[]> written = new ArrayList<>();
+    OutputStream output =
+        new OutputStream() {
+          @Override
+          public void write(int b) {
+            throw new UnsupportedOperationException();
+          }
+
+          @Override
+          public void write(byte[] b, int off, int len) {
+            assertThat(off).isOne();
+            assertThat(len).isEqualTo(value.length - 1);
+            written.add(b);
+          }
+        };
+    ByteBuffer input = ByteBuffer.wrap(value);
+    input.get();
+    parser.pack(parser.parse(input.slice()), output);
+    assertThat(written).singleElement().isSameAs(value);
+  }
+
+  @Test
+  void pack_read_only(@Randomize byte[] value) throws IOException {
+    BinarySliceParser parser = new BinarySliceParser(ID, value.length);
+    ByteBuffer slice = parser.parse(ByteBuffer.wrap(value).asReadOnlyBuffer());
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(slice, output);
+    assertThat(slice.isReadOnly()).isTrue();
+    assertThat(output.toByteArray()).isEqualTo(value);
+    assertThat(slice.remaining()).isEqualTo(value.length);
+  }
+
+  @Test
+  void pack_byte_buffer(@Randomize byte[] value) throws IOException {
+    BinarySliceParser parser = new BinarySliceParser(ID, value.length);
+    ByteBuffer slice = parser.parse(ByteBuffer.wrap(value));
+    ByteBuffer output = ByteBuffer.allocate(value.length);
+    parser.pack(slice, output);
+    assertThat(output.array()).isEqualTo(value);
+    assertThat(slice.remaining()).isEqualTo(value.length);
+    assertThatThrownBy(() -> parser.pack(slice, output))
+        .isInstanceOf(BufferOverflowException.class);
+  }
+
+  @Test
+  void pack_invalid_length(@Randomize byte[] value) {
+    BinarySliceParser parser = new BinarySliceParser(ID, value.length + 1);
+    ByteBuffer output = ByteBuffer.allocate(value.length + 1);
+    assertThatThrownBy(() -> parser.pack(ByteBuffer.wrap(value), output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "bin: value must be of length %d, but was [%d]", value.length + 1, value.length);
+  }
+
+  @Test
+  void size(@Randomize byte[] value) throws IOException {
+    BinarySliceParser parser = new BinarySliceParser(ID, value.length);
+    assertThat(parser.fixedSize()).isEqualTo(OptionalInt.of(value.length));
+    assertThat(parser.sizeOf(ByteBuffer.wrap(value))).isEqualTo(value.length);
+  }
+}
@@ -6,7 +6,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import io.github.lyang.randomparamsresolver.RandomParametersExtension;
 import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -17,6 +21,15 @@ class CharStringParserTest {
     return new CharStringParser("txt", length, Charset.forName(charset));
   }
 
+  private static InputStream withoutMarkSupport(byte[] bytes) {
+    return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+      @Override
+      public boolean markSupported() {
+        return false;
+      }
+    };
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {"US-ASCII", "IBM1047", "ISO-8859-1"})
   void parse_single_byte_charset(
@@ -115,4 +128,146 @@ class CharStringParserTest {
             "txt: value must be of length %d, but was [%d]",
             value.codePoints().count() + 1, value.codePoints().count());
   }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "ISO-8859-1"})
+  void parse_byte_buffer_single_byte_charset(
+      String charset, @Randomize String value, @Randomize(intMin = 1, intMax = 4) int length)
+      throws IOException {
+    CharStringParser parser = createParser(charset, length);
+    ByteBuffer input = ByteBuffer.wrap(value.getBytes(charset));
+    assertThat(parser.parse(input)).isEqualTo(value.substring(0, length));
+    assertThat(input.position()).isEqualTo(length);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"UTF-8", "UTF-16", "UTF-16BE"})
+  void parse_byte_buffer_multi_byte_charset(
+      String charset,
+      @Randomize(unicodeBlocks = "EMOTICONS") String value,
+      @Randomize(intMin = 1, intMax = 4) int length)
+      throws IOException {
+    CharStringParser parser = createParser(charset, length);
+    ByteBuffer input = ByteBuffer.wrap(value.getBytes(charset));
+    String parsed = parser.parse(input);
+    assertThat(parsed).isEqualTo(value.substring(0, value.offsetByCodePoints(0, length)));
+    assertThat(input.hasRemaining()).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16"})
+  void parse_byte_buffer_insufficient_data(String charset, @Randomize String value)
+      throws IOException {
+    CharStringParser parser = createParser(charset, value.length() + 1);
+    ByteBuffer input = ByteBuffer.wrap(value.getBytes(charset));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage(
+            "End of stream reached after reading %d chars, chars expected [%d]",
+            value.length(), value.length() + 1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "ISO-8859-1", "UTF-8", "UTF-16"})
+  void pack_byte_buffer(String charset, @Randomize String value) throws IOException {
+    CharStringParser parser = createParser(charset, value.length());
+    byte[] expected = value.getBytes(charset);
+    ByteBuffer output = ByteBuffer.allocate(expected.length);
+    parser.pack(value, output);
+    assertThat(output.array()).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "ISO-8859-1"})
+  void parse_single_byte_charset_without_mark_support(
+      String charset, @Randomize String value, @Randomize(intMin = 1, intMax = 4) int length)
+      throws IOException {
+    CharStringParser parser = createParser(charset, length);
+    InputStream input = withoutMarkSupport(value.getBytes(charset));
+    assertThat(parser.parse(input)).isEqualTo(value.substring(0, length));
+    assertThat(input.available()).isEqualTo(value.length() - length);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"UTF-32BE", "UTF-32LE"})
+  void parse_utf32_without_mark_support(
+      String charset,
+      @Randomize(unicodeBlocks = "EMOTICONS") String value,
+      @Randomize(intMin = 1, intMax = 4) int length)
+      throws IOException {
+    CharStringParser parser = createParser(charset, length);
+    InputStream input = withoutMarkSupport(value.getBytes(charset));
+    assertThat(parser.parse(input))
+        .isEqualTo(value.substring(0, value.offsetByCodePoints(0, length)));
+    assertThat(input.available()).isEqualTo((5 - length) * 4);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"UTF-32BE", "UTF-32LE"})
+  void parse_utf32_insufficient_data(
+      String charset, @Randomize(unicodeBlocks = "EMOTICONS") String value) throws IOException {
+    CharStringParser parser = createParser(charset, 6);
+    ByteArrayInputStream input = new ByteArrayInputStream(value.getBytes(charset));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 5 chars, chars expected [6]");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"UTF-32BE", "UTF-32LE"})
+  void parse_byte_buffer_utf32(
+      String charset,
+      @Randomize(unicodeBlocks = "EMOTICONS") String value,
+      @Randomize(intMin = 1, intMax = 4) int length)
+      throws IOException {
+    CharStringParser parser = createParser(charset, length);
+    ByteBuffer input = ByteBuffer.wrap(value.getBytes(charset));
+    assertThat(parser.parse(input))
+        .isEqualTo(value.substring(0, value.offsetByCodePoints(0, length)));
+    assertThat(input.position()).isEqualTo(length * 4);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"UTF-8", "UTF-16"})
+  void parse_multi_byte_charset_without_mark_support(
+      String charset, @Randomize(unicodeBlocks = "EMOTICONS") String value) throws IOException {
+    CharStringParser parser = createParser(charset, 1);
+    InputStream input = withoutMarkSupport(value.getBytes(charset));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "txt: %s#markSupported() required to parse %s charset",
+            input.getClass(), Charset.forName(charset).name());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "US-ASCII",
+        "IBM1047",
+        "ISO-8859-1",
+        "UTF-8",
+        "UTF-16",
+        "UTF-16BE",
+        "UTF-16LE",
+        "UTF-32BE"
+      })
+  void size(String charset, @Randomize String value) throws IOException {
+    CharStringParser parser =
+        new CharStringParser(
+            "id", value.codePointCount(0, value.length()), Charset.forName(charset));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    assertThat(parser.sizeOf(value)).isEqualTo(output.size());
+    assertThat(parser.maxSize().orElseThrow()).isGreaterThanOrEqualTo(output.size());
+    parser.fixedSize().ifPresent(size -> assertThat(size).isEqualTo(output.size()));
+  }
+
+  @Test
+  void size_variable_width_charset() {
+    CharStringParser parser = new CharStringParser("id", 2, StandardCharsets.UTF_8);
+    assertThat(parser.fixedSize()).isEmpty();
+    assertThat(parser.maxSize()).isEqualTo(OptionalInt.of(12));
+    assertThat(parser.sizeOf("\u00e9\ud83d\ude00")).isEqualTo(6);
+  }
 }
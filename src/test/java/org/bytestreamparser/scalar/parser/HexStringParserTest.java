@@ -9,8 +9,11 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.HexFormat;
+import java.util.OptionalInt;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -72,4 +75,56 @@ class HexStringParserTest {
         .hasMessage(
             "End of stream reached after reading %d bytes, bytes expected [%d]", value.length, 2);
   }
+
+  @Test
+  void pack_byte_buffer(@Randomize(intMin = 0, intMax = 0x0FFF) int value) throws IOException {
+    HexStringParser parser = new HexStringParser("hex", 3);
+    ByteBuffer output = ByteBuffer.allocate(2);
+    parser.pack(String.format("%03x", value), output);
+    assertThat(output.array()).isEqualTo(HEX_FORMAT.parseHex(String.format("%04x", value)));
+  }
+
+  @Test
+  void parse_byte_buffer(@Randomize(length = 3) byte[] value) throws IOException {
+    HexStringParser parser = new HexStringParser("hex", 3);
+    ByteBuffer input = ByteBuffer.wrap(value);
+    String expected = HEX_FORMAT.formatHex(Arrays.copyOfRange(value, 0, 2)).substring(1, 4);
+    assertThat(parser.parse(input)).isEqualTo(expected);
+    assertThat(input.remaining()).isEqualTo(1);
+  }
+
+  @Test
+  void size(@Randomize(intMin = 0, intMax = 0x0FFF) int value) throws IOException {
+    HexStringParser parser = new HexStringParser("hex", 3);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(String.format("%03x", value), output);
+    assertThat(parser.fixedSize()).isEqualTo(OptionalInt.of(output.size()));
+    assertThat(parser.maxSize()).isEqualTo(OptionalInt.of(2));
+    assertThat(parser.sizeOf(String.format("%x", value))).isEqualTo(2);
+  }
+
+  @Test
+  void pack_byte_buffer_overflow(@Randomize(intMin = 0, intMax = 0x0FFF) int value) {
+    HexStringParser parser = new HexStringParser("hex", 3);
+    ByteBuffer output = ByteBuffer.allocate(1);
+    assertThatThrownBy(() -> parser.pack(String.format("%x", value), output))
+        .isInstanceOf(BufferOverflowException.class);
+    assertThat(output.position()).isZero();
+  }
+
+  @Test
+  void pack_invalid_hex_digits() {
+    HexStringParser parser = new HexStringParser("hex", 4);
+    ByteBuffer output = ByteBuffer.allocate(2);
+    assertThatThrownBy(() -> parser.pack("0x1", output))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(output.position()).isZero();
+  }
+
+  @Test
+  void pack_to_bytes(@Randomize(intMin = 0, intMax = 0x0FFF) int value) throws IOException {
+    HexStringParser parser = new HexStringParser("hex", 3);
+    assertThat(parser.packToBytes(String.format("%X", value)))
+        .isEqualTo(HEX_FORMAT.parseHex(String.format("%04x", value)));
+  }
 }
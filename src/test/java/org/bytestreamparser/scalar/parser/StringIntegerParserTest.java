@@ -7,9 +7,14 @@ import io.github.lyang.randomparamsresolver.RandomParametersExtension;
 import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.HexFormat;
+import org.bytestreamparser.scalar.util.Strings;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -81,4 +86,168 @@ class StringIntegerParserTest {
             "str-int: value must be of length 1, but was [%d]",
             Integer.toString(value, radix).length());
   }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16"})
+  void parse_byte_buffer(
+      String charset,
+      @Randomize Integer value,
+      @Randomize(intMin = Character.MIN_RADIX, intMax = Character.MAX_RADIX + 1) int radix)
+      throws IOException {
+    String string = Integer.toString(value, radix);
+    ByteBuffer input = ByteBuffer.wrap(string.getBytes(charset));
+    StringIntegerParser parser = createParser(charset, string.length(), radix);
+    assertThat(parser.parse(input)).isEqualTo(value);
+    assertThat(input.hasRemaining()).isFalse();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16"})
+  void pack_byte_buffer(
+      String charset,
+      @Randomize Integer value,
+      @Randomize(intMin = Character.MIN_RADIX, intMax = Character.MAX_RADIX + 1) int radix)
+      throws IOException {
+    byte[] expected = Integer.toString(value, radix).getBytes(charset);
+    StringIntegerParser parser =
+        createParser(charset, Integer.toString(value, radix).length(), radix);
+    ByteBuffer output = ByteBuffer.allocate(expected.length);
+    parser.pack(value, output);
+    assertThat(output.array()).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16"})
+  void parse_int(
+      String charset,
+      @Randomize int value,
+      @Randomize(intMin = Character.MIN_RADIX, intMax = Character.MAX_RADIX + 1) int radix)
+      throws IOException {
+    byte[] bytes = Integer.toString(value, radix).getBytes(charset);
+    StringIntegerParser parser =
+        createParser(charset, Integer.toString(value, radix).length(), radix);
+    assertThat(parser.parseInt(new ByteArrayInputStream(bytes))).isEqualTo(value);
+    assertThat(parser.parseInt(ByteBuffer.wrap(bytes))).isEqualTo(value);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16"})
+  void pack_int(
+      String charset,
+      @Randomize int value,
+      @Randomize(intMin = Character.MIN_RADIX, intMax = Character.MAX_RADIX + 1) int radix)
+      throws IOException {
+    byte[] expected = Integer.toString(value, radix).getBytes(charset);
+    StringIntegerParser parser =
+        createParser(charset, Integer.toString(value, radix).length(), radix);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.packInt(value, output);
+    assertThat(output.toByteArray()).isEqualTo(expected);
+
+    ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+    parser.packInt(value, buffer);
+    assertThat(buffer.array()).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 5, 9})
+  void parse_bcd_digits(int length, @Randomize(intMin = 0, intMax = 10) int value)
+      throws IOException {
+    StringIntegerParser parser =
+        new StringIntegerParser("bcd-int", new BcdStringParser("bcd", length), length, 10);
+    String digits = String.format("%0" + (length + 1) / 2 * 2 + "d", value);
+    byte[] bytes = HexFormat.of().parseHex(digits);
+    assertThat(parser.parse(new ByteArrayInputStream(bytes))).isEqualTo(value);
+    assertThat(parser.parse(ByteBuffer.wrap(bytes))).isEqualTo(value);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 5, 9})
+  void pack_bcd_digits(int length, @Randomize(intMin = 0, intMax = 10) int value)
+      throws IOException {
+    StringIntegerParser parser =
+        new StringIntegerParser("bcd-int", new BcdStringParser("bcd", length), length, 10);
+    byte[] expected =
+        HexFormat.of().parseHex(String.format("%0" + (length + 1) / 2 * 2 + "d", value));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    assertThat(output.toByteArray()).isEqualTo(expected);
+
+    ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+    parser.pack(value, buffer);
+    assertThat(buffer.array()).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4, 7})
+  void parse_hex_digits(int length, @Randomize(intMin = 0, intMax = 16) int value)
+      throws IOException {
+    StringIntegerParser parser =
+        new StringIntegerParser("hex-int", new HexStringParser("hex", length), length, 16);
+    String digits = Strings.padStart(Integer.toHexString(value), (length + 1) / 2 * 2, '0');
+    assertThat(parser.parse(ByteBuffer.wrap(HexFormat.of().parseHex(digits)))).isEqualTo(value);
+  }
+
+  @Test
+  void parse_invalid_bcd_digits() {
+    StringIntegerParser parser =
+        new StringIntegerParser("bcd-int", new BcdStringParser("bcd", 4), 4, 10);
+    ByteBuffer input = ByteBuffer.wrap(new byte[] {0x12, 0x3A});
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bcd: Invalid BCD String [123a]");
+  }
+
+  @Test
+  void pack_negative_bcd_digits() {
+    StringIntegerParser parser =
+        new StringIntegerParser("bcd-int", new BcdStringParser("bcd", 2), 2, 10);
+    ByteBuffer output = ByteBuffer.allocate(1);
+    assertThatThrownBy(() -> parser.pack(-1, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bcd: Invalid BCD String [-1]");
+    assertThat(output.position()).isZero();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "ISO-8859-1"})
+  void parse_zero_padded_digits(String charset, @Randomize(intMin = 0, intMax = 1000) int value)
+      throws IOException {
+    StringIntegerParser parser = createParser(charset, 8, 10);
+    byte[] bytes = String.format("%08d", value).getBytes(charset);
+    assertThat(parser.parse(new ByteArrayInputStream(bytes))).isEqualTo(value);
+
+    ByteBuffer output = ByteBuffer.allocate(8);
+    parser.pack(value, output);
+    assertThat(output.array()).isEqualTo(bytes);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "ISO-8859-1"})
+  void parse_space_padded_digits(String charset, @Randomize(intMin = 0, intMax = 1000) int value)
+      throws IOException {
+    StringIntegerParser parser = createParser(charset, 8, 10);
+    byte[] bytes = String.format("%8d", value).getBytes(charset);
+    assertThat(parser.parse(ByteBuffer.wrap(bytes))).isEqualTo(value);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "ISO-8859-1"})
+  void parse_insufficient_digits(String charset) {
+    StringIntegerParser parser = createParser(charset, 8, 10);
+    InputStream input = new ByteArrayInputStream("1234".getBytes(Charset.forName(charset)));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 4 chars, chars expected [8]");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16BE"})
+  void size(String charset, @Randomize(intMin = 0, intMax = 100000) int value) throws IOException {
+    StringIntegerParser parser = createParser(charset, 6, 10);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    assertThat(parser.sizeOf(value)).isEqualTo(output.size());
+    assertThat(parser.maxSize().orElseThrow()).isGreaterThanOrEqualTo(output.size());
+  }
 }
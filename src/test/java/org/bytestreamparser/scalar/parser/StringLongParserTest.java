@@ -9,7 +9,10 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -81,4 +84,87 @@ class StringLongParserTest {
             "str-long: value must be of length 1, but was [%d]",
             Long.toString(value, radix).length());
   }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16"})
+  void parse_byte_buffer(
+      String charset,
+      @Randomize Long value,
+      @Randomize(intMin = Character.MIN_RADIX, intMax = Character.MAX_RADIX + 1) int radix)
+      throws IOException {
+    String string = Long.toString(value, radix);
+    ByteBuffer input = ByteBuffer.wrap(string.getBytes(charset));
+    StringLongParser parser = createParser(charset, string.length(), radix);
+    assertThat(parser.parse(input)).isEqualTo(value);
+    assertThat(input.hasRemaining()).isFalse();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16"})
+  void pack_byte_buffer(
+      String charset,
+      @Randomize Long value,
+      @Randomize(intMin = Character.MIN_RADIX, intMax = Character.MAX_RADIX + 1) int radix)
+      throws IOException {
+    byte[] expected = Long.toString(value, radix).getBytes(charset);
+    StringLongParser parser = createParser(charset, Long.toString(value, radix).length(), radix);
+    ByteBuffer output = ByteBuffer.allocate(expected.length);
+    parser.pack(value, output);
+    assertThat(output.array()).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16"})
+  void parse_long(
+      String charset,
+      @Randomize long value,
+      @Randomize(intMin = Character.MIN_RADIX, intMax = Character.MAX_RADIX + 1) int radix)
+      throws IOException {
+    byte[] bytes = Long.toString(value, radix).getBytes(charset);
+    StringLongParser parser = createParser(charset, Long.toString(value, radix).length(), radix);
+    assertThat(parser.parseLong(new ByteArrayInputStream(bytes))).isEqualTo(value);
+    assertThat(parser.parseLong(ByteBuffer.wrap(bytes))).isEqualTo(value);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16"})
+  void pack_long(
+      String charset,
+      @Randomize long value,
+      @Randomize(intMin = Character.MIN_RADIX, intMax = Character.MAX_RADIX + 1) int radix)
+      throws IOException {
+    byte[] expected = Long.toString(value, radix).getBytes(charset);
+    StringLongParser parser = createParser(charset, Long.toString(value, radix).length(), radix);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.packLong(value, output);
+    assertThat(output.toByteArray()).isEqualTo(expected);
+
+    ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+    parser.packLong(value, buffer);
+    assertThat(buffer.array()).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 10, 18, 19})
+  void pack_and_parse_bcd_digits(int length, @Randomize long random) throws IOException {
+    long value = Math.floorMod(random, length < 19 ? (long) Math.pow(10, length) : Long.MAX_VALUE);
+    StringLongParser parser =
+        new StringLongParser("bcd-long", new BcdStringParser("bcd", length), length, 10);
+    byte[] expected =
+        HexFormat.of().parseHex(String.format("%0" + (length + 1) / 2 * 2 + "d", value));
+    ByteBuffer output = ByteBuffer.allocate(expected.length);
+    parser.packLong(value, output);
+    assertThat(output.array()).isEqualTo(expected);
+    assertThat(parser.parseLong(ByteBuffer.wrap(expected))).isEqualTo(value);
+  }
+
+  @Test
+  void parse_too_large_bcd_digits() {
+    StringLongParser parser =
+        new StringLongParser("bcd-long", new BcdStringParser("bcd", 19), 19, 10);
+    ByteBuffer input = ByteBuffer.wrap(HexFormat.of().parseHex("09999999999999999999"));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(NumberFormatException.class)
+        .hasMessageContaining("For input string: \"9999999999999999999\"");
+  }
 }
@@ -0,0 +1,82 @@
+package org.bytestreamparser.scalar.parser;
+
+import static org.bytestreamparser.api.parser.ConcurrentRoundTrip.assertRoundTrips;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ThreadSafetyTest {
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM1047", "UTF-8", "UTF-16", "UTF-16BE", "UTF-32BE"})
+  void char_string_parser(String charset) throws Exception {
+    assertRoundTrips(
+        new CharStringParser("text", 4, Charset.forName(charset)),
+        List.of("abcd", "wxyz", "1234", "a b "));
+  }
+
+  @Test
+  void char_string_parser_multi_byte() throws Exception {
+    assertRoundTrips(
+        new CharStringParser("text", 4, StandardCharsets.UTF_8),
+        List.of("abcd", "ñ€😀x", "日本語a", "😀abc"));
+  }
+
+  @Test
+  void hex_string_parser() throws Exception {
+    assertRoundTrips(new HexStringParser("hex", 6), List.of("0a1b2c", "ffffff", "000000"));
+  }
+
+  @Test
+  void bcd_string_parser() throws Exception {
+    assertRoundTrips(new BcdStringParser("bcd", 5), List.of("12345", "00000", "99999"));
+  }
+
+  @Test
+  void bcd_long_parser() throws Exception {
+    assertRoundTrips(new BcdLongParser("bcd", 12), List.of(0L, 123456789012L, 999999999999L));
+  }
+
+  @Test
+  void binary_parser() throws Exception {
+    assertRoundTrips(
+        new BinaryParser("binary", 3),
+        List.of(new byte[] {1, 2, 3}, new byte[] {-1, 0, 1}, new byte[3]));
+  }
+
+  @Test
+  void binary_slice_parser() throws Exception {
+    assertRoundTrips(
+        new BinarySliceParser("binary", 3),
+        List.of(ByteBuffer.wrap(new byte[] {1, 2, 3}), ByteBuffer.wrap(new byte[] {-1, 0, 1})));
+  }
+
+  @Test
+  void string_integer_parser() throws Exception {
+    CharStringParser stringParser = new CharStringParser("digits", 6, StandardCharsets.UTF_8);
+    assertRoundTrips(
+        new StringIntegerParser("number", stringParser, 6, 10), List.of(123456, 654321, 999999));
+  }
+
+  @Test
+  void string_long_parser() throws Exception {
+    HexStringParser stringParser = new HexStringParser("digits", 12);
+    assertRoundTrips(
+        new StringLongParser("number", stringParser, 12, 16),
+        List.of(0x123456789abcL, 0xfedcba987654L));
+  }
+
+  @Test
+  void unsigned_byte_parser() throws Exception {
+    assertRoundTrips(new UnsignedByteParser("byte"), List.of(0, 127, 255));
+  }
+
+  @Test
+  void unsigned_short_parser() throws Exception {
+    assertRoundTrips(new UnsignedShortParser("short"), List.of(0, 255, 65535));
+  }
+}
@@ -7,7 +7,10 @@ import io.github.lyang.randomparamsresolver.RandomParametersExtension;
 import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.OptionalInt;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -56,4 +59,62 @@ class UnsignedByteParserTest {
             "unsigned byte: value must be between 0 and %d, but was [%d]",
             UNSIGNED_BYTE_MAX, -value);
   }
+
+  @Test
+  void parse_byte_buffer(@Randomize byte[] value) throws IOException {
+    ByteBuffer input = ByteBuffer.wrap(value);
+    assertThat(parser.parse(input)).isEqualTo(value[0] & UNSIGNED_BYTE_MAX);
+    assertThat(input.position()).isEqualTo(1);
+  }
+
+  @Test
+  void parse_byte_buffer_insufficient_data() {
+    ByteBuffer input = ByteBuffer.allocate(0);
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 0 bytes, bytes expected [1]");
+  }
+
+  @Test
+  void pack_byte_buffer(@Randomize(intMin = 0, intMax = UNSIGNED_BYTE_MAX + 1) int value)
+      throws IOException {
+    ByteBuffer output = ByteBuffer.allocate(1);
+    parser.pack(value, output);
+    assertThat(output.array()).isEqualTo(new byte[] {(byte) value});
+  }
+
+  @Test
+  void parse_int(@Randomize byte[] value) throws IOException {
+    ByteArrayInputStream input = new ByteArrayInputStream(value);
+    assertThat(parser.parseInt(input)).isEqualTo(value[0] & UNSIGNED_BYTE_MAX);
+    assertThat(parser.parseInt(ByteBuffer.wrap(value))).isEqualTo(value[0] & UNSIGNED_BYTE_MAX);
+  }
+
+  @Test
+  void pack_int(@Randomize(intMin = 0, intMax = UNSIGNED_BYTE_MAX + 1) int value)
+      throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.packInt(value, output);
+    assertThat(output.toByteArray()).isEqualTo(new byte[] {(byte) value});
+
+    ByteBuffer buffer = ByteBuffer.allocate(1);
+    parser.packInt(value, buffer);
+    assertThat(buffer.array()).isEqualTo(new byte[] {(byte) value});
+  }
+
+  @Test
+  void pack_int_throws_exception_if_too_large(@Randomize(intMin = 1) int value) {
+    ByteBuffer output = ByteBuffer.allocate(1);
+    assertThatThrownBy(() -> parser.packInt(0xFF + value, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "unsigned byte: value must be between 0 and %d, but was [%d]",
+            UNSIGNED_BYTE_MAX, UNSIGNED_BYTE_MAX + value);
+  }
+
+  @Test
+  void size(@Randomize(intMin = 0, intMax = 256) int value) throws IOException {
+    assertThat(parser.fixedSize()).isEqualTo(OptionalInt.of(Byte.BYTES));
+    assertThat(parser.sizeOf(value)).isEqualTo(Byte.BYTES);
+  }
 }
@@ -9,6 +9,8 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.OptionalInt;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -62,4 +64,57 @@ class UnsignedShortParserTest {
             "unsigned short: value must be between 0 and %d, but was [%d]",
             UNSIGNED_SHORT_MAX, -value);
   }
+
+  @Test
+  void parse_byte_buffer(@Randomize(length = 3) byte[] value) throws IOException {
+    ByteBuffer input = ByteBuffer.wrap(value).order(ByteOrder.LITTLE_ENDIAN);
+    assertThat(parser.parse(input)).isEqualTo(convert(value));
+    assertThat(input.position()).isEqualTo(2);
+  }
+
+  @Test
+  void pack_byte_buffer(@Randomize(intMin = 0, intMax = UNSIGNED_SHORT_MAX + 1) Integer value)
+      throws IOException {
+    ByteBuffer output = ByteBuffer.allocate(Short.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    parser.pack(value, output);
+    byte[] expected = ByteBuffer.allocate(Short.BYTES).putShort(value.shortValue()).array();
+    assertThat(output.array()).isEqualTo(expected);
+  }
+
+  @Test
+  void parse_int(@Randomize(length = 3) byte[] value) throws IOException {
+    ByteArrayInputStream input = new ByteArrayInputStream(value);
+    assertThat(parser.parseInt(input)).isEqualTo(convert(value));
+    assertThat(parser.parseInt(ByteBuffer.wrap(value))).isEqualTo(convert(value));
+  }
+
+  @Test
+  void pack_int(@Randomize(intMin = 0, intMax = UNSIGNED_SHORT_MAX + 1) int value)
+      throws IOException {
+    byte[] expected = ByteBuffer.allocate(Short.BYTES).putShort((short) value).array();
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.packInt(value, output);
+    assertThat(output.toByteArray()).isEqualTo(expected);
+
+    ByteBuffer buffer = ByteBuffer.allocate(Short.BYTES);
+    parser.packInt(value, buffer);
+    assertThat(buffer.array()).isEqualTo(expected);
+  }
+
+  @Test
+  void pack_int_throws_exception_if_too_small(@Randomize(intMin = 1) int value) {
+    ByteBuffer output = ByteBuffer.allocate(Short.BYTES);
+    assertThatThrownBy(() -> parser.packInt(-value, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "unsigned short: value must be between 0 and %d, but was [%d]",
+            UNSIGNED_SHORT_MAX, -value);
+  }
+
+  @Test
+  void size(@Randomize(intMin = 0, intMax = UNSIGNED_SHORT_MAX + 1) int value) throws IOException {
+    assertThat(parser.fixedSize()).isEqualTo(OptionalInt.of(Short.BYTES));
+    assertThat(parser.maxSize()).isEqualTo(OptionalInt.of(Short.BYTES));
+    assertThat(parser.sizeOf(value)).isEqualTo(Short.BYTES);
+  }
 }
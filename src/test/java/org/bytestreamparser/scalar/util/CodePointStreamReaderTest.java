@@ -135,4 +135,42 @@ class CodePointStreamReaderTest {
 
     assertThatThrownBy(reader::read).isInstanceOf(UnmappableCharacterException.class);
   }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"UTF-8", "UTF-16", "UTF-16BE", "UTF-16LE"})
+  void read_after_reset(
+      String charset,
+      @Randomize(unicodeBlocks = "EMOTICONS") String value1,
+      @Randomize(unicodeBlocks = "CJK_UNIFIED_IDEOGRAPHS") String value2)
+      throws IOException {
+    CodePointStreamReader reader = new CodePointStreamReader(getDecoder(charset));
+
+    reader.reset(new ByteArrayInputStream(value1.getBytes(charset)));
+    assertThat(reader.read()).isEqualTo(value1.codePointAt(0));
+    assertThat(reader.read()).isEqualTo(value1.codePointAt(value1.offsetByCodePoints(0, 1)));
+
+    reader.reset(new ByteArrayInputStream(value2.getBytes(charset)));
+    assertThat(reader.read()).isEqualTo(value2.codePointAt(0));
+    assertThat(reader.read()).isEqualTo(value2.codePointAt(1));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"UTF-8", "UTF-16"})
+  void read_after_reset_from_malformed_input(
+      String charset,
+      @Randomize(unicodeBlocks = "EMOTICONS", length = 1) String invalid,
+      @Randomize String value)
+      throws IOException {
+    byte[] bytes = invalid.getBytes(charset);
+    bytes[bytes.length - 2] = bytes[bytes.length - 4];
+    bytes[bytes.length - 1] = bytes[bytes.length - 3];
+    CodePointStreamReader reader = new CodePointStreamReader(getDecoder(charset));
+
+    reader.reset(new ByteArrayInputStream(bytes));
+    assertThat(reader.read())
+        .isEqualTo(Charset.forName(charset).newDecoder().replacement().codePointAt(0));
+
+    reader.reset(new ByteArrayInputStream(value.getBytes(charset)));
+    assertThat(reader.read()).isEqualTo(value.codePointAt(0));
+  }
 }
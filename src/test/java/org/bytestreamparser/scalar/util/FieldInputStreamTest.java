@@ -0,0 +1,214 @@
+package org.bytestreamparser.scalar.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import org.bytestreamparser.scalar.parser.BcdStringParser;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.bytestreamparser.scalar.parser.UnsignedShortParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+class FieldInputStreamTest {
+  private static final byte[] BYTES = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+  private CountingInputStream source;
+  private FieldInputStream input;
+
+  @BeforeEach
+  void setUp() {
+    source = new CountingInputStream(BYTES);
+    input = new FieldInputStream(source, 4);
+  }
+
+  @Test
+  void read_single_bytes() throws IOException {
+    assertThat(input.read()).isEqualTo(1);
+    assertThat(input.read()).isEqualTo(2);
+    assertThat(source.reads).isEqualTo(1);
+    assertThat(input.available()).isEqualTo(8);
+  }
+
+  @Test
+  void read_from_buffer() throws IOException {
+    byte[] bytes = new byte[3];
+    assertThat(input.read(bytes, 0, 3)).isEqualTo(3);
+    assertThat(bytes).containsExactly(1, 2, 3);
+    assertThat(input.read(bytes, 0, 3)).isEqualTo(1);
+    assertThat(bytes[0]).isEqualTo((byte) 4);
+    assertThat(source.reads).isEqualTo(1);
+  }
+
+  @Test
+  void read_past_buffer_size() throws IOException {
+    byte[] bytes = new byte[6];
+    assertThat(input.read(bytes, 0, 6)).isEqualTo(6);
+    assertThat(bytes).containsExactly(1, 2, 3, 4, 5, 6);
+    assertThat(input.read(bytes, 0, 0)).isZero();
+    assertThat(input.read()).isEqualTo(7);
+    assertThat(source.reads).isEqualTo(2);
+  }
+
+  @Test
+  void read_end_of_stream() throws IOException {
+    assertThat(input.readAllBytes()).containsExactly(BYTES);
+    assertThat(input.read()).isEqualTo(-1);
+    assertThat(input.read(new byte[2], 0, 2)).isEqualTo(-1);
+  }
+
+  @Test
+  void one_underlying_read_per_field() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BcdStringParser code = new BcdStringParser("code", 6);
+    UnsignedShortParser number = new UnsignedShortParser("number");
+    CharStringParser text = new CharStringParser("text", 3, StandardCharsets.UTF_8);
+    for (int i = 0; i < 10; i++) {
+      code.pack("123456", output);
+      number.pack(i, output);
+      text.pack("ñ€😀", output);
+    }
+    CountingInputStream source = new CountingInputStream(output.toByteArray());
+    FieldInputStream input = new FieldInputStream(source);
+    for (int i = 0; i < 10; i++) {
+      assertThat(code.parse(input)).isEqualTo("123456");
+      assertThat(number.parse(input)).isEqualTo(i);
+      assertThat(text.parse(input)).isEqualTo("ñ€😀");
+    }
+    assertThat(source.reads).isEqualTo(1);
+  }
+
+  @Test
+  void mark_and_reset() throws IOException {
+    assertThat(input.read()).isEqualTo(1);
+    input.mark(8);
+    byte[] bytes = new byte[7];
+    assertThat(input.readNBytes(bytes, 0, 7)).isEqualTo(7);
+    assertThat(bytes).containsExactly(2, 3, 4, 5, 6, 7, 8);
+    input.reset();
+    assertThat(input.read()).isEqualTo(2);
+    assertThat(input.markSupported()).isTrue();
+  }
+
+  @Test
+  void mark_limit_exceeded() throws IOException {
+    input.mark(2);
+    assertThat(input.readNBytes(6)).containsExactly(1, 2, 3, 4, 5, 6);
+    assertThatThrownBy(input::reset)
+        .isInstanceOf(IOException.class)
+        .hasMessage("Resetting to invalid mark");
+  }
+
+  @Test
+  void reset_without_mark() {
+    assertThatThrownBy(input::reset)
+        .isInstanceOf(IOException.class)
+        .hasMessage("Resetting to invalid mark");
+  }
+
+  @Test
+  void skip() throws IOException {
+    assertThat(input.skip(0)).isZero();
+    assertThat(input.read()).isEqualTo(1);
+    assertThat(input.skip(5)).isEqualTo(3);
+    assertThat(input.skip(2)).isEqualTo(2);
+    input.mark(4);
+    assertThat(input.skip(1)).isEqualTo(1);
+    input.reset();
+    assertThat(input.read()).isEqualTo(7);
+    assertThat(input.skip(10)).isEqualTo(3);
+    assertThat(input.skip(1)).isZero();
+  }
+
+  @Test
+  void close() throws IOException {
+    input.close();
+    assertThat(source.closed).isTrue();
+  }
+
+  @Test
+  void invalid_buffer_size() {
+    assertThatThrownBy(() -> new FieldInputStream(source, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("buffer size must be greater than 0, but was [0]");
+  }
+
+  @Test
+  @EnabledForJreRange(min = JRE.JAVA_21, max = JRE.JAVA_23)
+  void no_pinning_on_virtual_threads() throws Exception {
+    assertThat(probe("field")).doesNotContain("<== monitors").contains(expectedParsed());
+  }
+
+  @Test
+  @EnabledForJreRange(min = JRE.JAVA_21, max = JRE.JAVA_23)
+  void pinning_detected_on_virtual_threads() throws Exception {
+    assertThat(probe("synchronized")).contains("<== monitors").contains(expectedParsed());
+  }
+
+  private static String expectedParsed() {
+    return VirtualThreadPinningProbe.PARSED + 80;
+  }
+
+  private static String probe(String stream) throws Exception {
+    Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+    Process process =
+        new ProcessBuilder(
+                java.toString(),
+                "-Djdk.tracePinnedThreads=full",
+                "-cp",
+                System.getProperty("java.class.path"),
+                VirtualThreadPinningProbe.class.getName(),
+                stream)
+            .redirectErrorStream(true)
+            .start();
+    String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    assertThat(process.waitFor(30, TimeUnit.SECONDS)).isTrue();
+    assertThat(process.exitValue()).as(output).isZero();
+    return output;
+  }
+
+  private static class CountingInputStream extends InputStream {
+    private final InputStream input;
+    private int reads;
+    private boolean closed;
+
+    CountingInputStream(byte[] bytes) {
+      this.input = new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public int read() throws IOException {
+      reads++;
+      return input.read();
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      reads++;
+      return input.read(bytes, offset, length);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      return input.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+      return input.available();
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package org.bytestreamparser.scalar.util;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.bytestreamparser.scalar.parser.BcdStringParser;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+
+/**
+ * Parses fields from a slow, blocking source on virtual threads, to be run in its own JVM with
+ * {@code -Djdk.tracePinnedThreads=full}, which prints the stack of every virtual thread that blocks
+ * while pinned. The argument selects the stream the parsers read from, either {@code field} for a
+ * {@link FieldInputStream} or {@code synchronized} for a subclass of {@link BufferedInputStream},
+ * which is guarded by {@code synchronized} and pins.
+ *
+ * <p>Virtual threads are created reflectively, so that the probe compiles against Java 17.
+ */
+public final class VirtualThreadPinningProbe {
+  static final String PARSED = "parsed ";
+  private static final int CONNECTIONS = 4;
+  private static final int MESSAGES = 20;
+  private static final BcdStringParser CODE = new BcdStringParser("code", 6);
+  private static final CharStringParser TEXT =
+      new CharStringParser("text", 3, StandardCharsets.UTF_8);
+
+  private VirtualThreadPinningProbe() {}
+
+  public static void main(String[] args) throws Exception {
+    boolean field = "field".equals(args[0]);
+    ExecutorService executor =
+        (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    List<Future<Integer>> results = new ArrayList<>();
+    List<BlockingSource> sources = new ArrayList<>();
+    for (int i = 0; i < CONNECTIONS; i++) {
+      BlockingSource source = new BlockingSource();
+      InputStream input =
+          field ? new FieldInputStream(source, 16) : new BufferedInputStream(source) {};
+      sources.add(source);
+      results.add(executor.submit(() -> parse(input)));
+    }
+    byte[] message = message();
+    for (int i = 0; i < MESSAGES; i++) {
+      for (BlockingSource source : sources) {
+        source.chunks.put(message);
+      }
+      TimeUnit.MILLISECONDS.sleep(5);
+    }
+    int parsed = 0;
+    for (Future<Integer> result : results) {
+      parsed += result.get(30, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+    System.out.println(PARSED + parsed);
+  }
+
+  private static byte[] message() throws IOException {
+    byte[] code = CODE.packToBytes("123456");
+    byte[] text = TEXT.packToBytes("ñ€😀");
+    byte[] message = new byte[code.length + text.length];
+    System.arraycopy(code, 0, message, 0, code.length);
+    System.arraycopy(text, 0, message, code.length, text.length);
+    return message;
+  }
+
+  private static int parse(InputStream input) throws IOException {
+    for (int i = 0; i < MESSAGES; i++) {
+      if (!"123456".equals(CODE.parse(input)) || !"ñ€😀".equals(TEXT.parse(input))) {
+        throw new IllegalStateException("unexpected message");
+      }
+    }
+    return MESSAGES;
+  }
+
+  /** A source that blocks until a chunk is available, like a socket waiting for the peer. */
+  private static final class BlockingSource extends InputStream {
+    private final BlockingQueue<byte[]> chunks = new LinkedBlockingQueue<>();
+    private byte[] chunk = new byte[0];
+    private int position;
+
+    @Override
+    public int read() throws IOException {
+      byte[] single = new byte[1];
+      read(single, 0, 1);
+      return single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      if (length == 0) {
+        return 0;
+      }
+      if (position == chunk.length) {
+        try {
+          chunk = chunks.take();
+          position = 0;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException(e);
+        }
+      }
+      int read = Math.min(length, chunk.length - position);
+      System.arraycopy(chunk, position, bytes, offset, read);
+      position += read;
+      return read;
+    }
+  }
+}